@@ -1,9 +1,13 @@
 package com.military.coordination;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -11,12 +15,14 @@ import java.util.concurrent.TimeUnit;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Action;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
@@ -25,15 +31,25 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.military.coordination.actor.GridActor;
+import com.military.coordination.component.CellHandle;
 import com.military.coordination.component.GridActorMap;
 import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.component.OccupancyMask;
 import com.military.coordination.debug.GridDebugRenderer;
 import com.military.coordination.manager.CoordinateManager;
 import com.military.coordination.manager.GridManager;
 import com.military.coordination.model.Command;
 import com.military.coordination.model.CommandType;
 import com.military.coordination.model.Priority;
+import com.military.coordination.model.TowerType;
+import com.military.coordination.system.BackpressurePolicy;
+import com.military.coordination.system.CommandIngress;
+import com.military.coordination.system.CommandQueue;
 import com.military.coordination.system.CommandSystem;
+import com.military.coordination.system.CommandTimeoutWheel;
+import com.military.coordination.system.PathfindingSystem;
+import com.military.coordination.system.SignalCoverage;
 import com.military.coordination.utils.GridUtilities;
 
 /**
@@ -45,7 +61,6 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
     // Immutable game state (only modified through functional updates)
     private volatile UUID currentTacticalGridId;
     private volatile UUID towerSignalGridId;
-    private volatile Command currentCommand;
     private volatile String gameStatus = "Initializing Tower Trust System...";
     private volatile int tickCount = 0;
     private volatile GridActorMap currentActorMap = new GridActorMap(Map.of());
@@ -53,6 +68,21 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
 
     private GridManager gridManager;
     private CoordinateManager coordinateManager;
+    // Seconds since coordinate chunks were last swept; main thread only, like every coordinate read
+    private float secondsSinceCoordinateSweep;
+    // Built during create(), then confined to the game loop thread: the only thread that reads or updates it
+    private SignalCoverage signalCoverage;
+
+    // Command pipeline: any thread submits, the tick thread drains, queues and tracks timeouts
+    private final CommandIngress commandIngress = new CommandIngress(COMMAND_INGRESS_CAPACITY,
+                                                                     BackpressurePolicy.REJECT);
+    private final CommandQueue commandQueue = new CommandQueue();
+    private final CommandTimeoutWheel commandTimeouts = new CommandTimeoutWheel(Instant.now(), Duration.ofSeconds(1));
+    // Target cell of each submitted command until the tick thread releases and prices it
+    private final Map<UUID, Integer> commandTargetCells = new ConcurrentHashMap<>();
+    // Released commands until they time out; game loop thread only
+    private final Map<UUID, Command> executingCommands = new HashMap<>();
+    private int timedOutCommands;
 
     Actor[] actors = new Actor[3]; // Placeholder for future use
 
@@ -69,6 +99,8 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
     private Image tower;
     private Image tower2;
     private Image tower3;
+    // Reused for every tactical map dump
+    private final StringBuilder tacticalMapBuffer = new StringBuilder();
 
     private volatile boolean towerMoving = false;
     private static final float MOVE_DURATION = 0.5f;
@@ -81,6 +113,8 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
     private static final int CELL_SIZE = 160;
     private static final int GRID_ROWS = 5;
     private static final int GRID_COLS = 7;
+    private static final int COMMAND_INGRESS_CAPACITY = 256;
+    private static final float COORDINATE_SWEEP_SECONDS = 30f;
 
     @Override
     public void create() {
@@ -142,13 +176,14 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
                                                                           GridUtilities.getGridById(gridManager,
                                                                                                     currentTacticalGridId),
                                                                           2, 4);
-        currentCommand = new Command(
+        Command command = new Command(
             UUID.randomUUID(),
             CommandType.RECONNAISSANCE,
             targetSector.toGridReference(),
             Priority.NORMAL,
             Duration.ofMinutes(10)
             );
+        submitCommand(command, targetSector.id());
 
             actors[0] = tower;
             int towerId = 0;
@@ -201,9 +236,13 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
             towerPosition,
             tower3Id
         );
+        signalCoverage = SignalCoverage.of(currentActorMap, GRID_ROWS, GRID_COLS,
+                                           Map.of(towerId, TowerType.STATIC,
+                                                  tower2Id, TowerType.FIELD,
+                                                  tower3Id, TowerType.CIVILIAN));
 
         gameStatus = String.format("Command created: %s targeting %s",
-            currentCommand.type(), currentCommand.target());
+            command.type(), command.target());
 
         Gdx.app.log("TacticalGrid", GridUtilities.generateTacticalMap(gridManager, coordinateManager, currentTacticalGridId, currentActorMap));
     }
@@ -233,23 +272,69 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
         // This runs on a separate thread
         tickCount++;
 
-        if (currentCommand != null) {
-            boolean hasTimedOut = CommandSystem.hasTimedOut(currentCommand);
-            int cost = CommandSystem.calculateCost(currentCommand, 85, 20, 90);
-
-            // Update game status (atomic operation due to volatile)
-            gameStatus = String.format(
-                "Tick %d: Command %s | Cost: %d | Timed out: %s",
-                tickCount,
-                currentCommand.type(),
-                cost,
-                hasTimedOut ? "YES" : "NO"
-            );
+        commandIngress.drainTo(this::enqueueCommand, COMMAND_INGRESS_CAPACITY);
+        for (Command released : commandQueue.processTick()) {
+            executingCommands.put(released.id(), released);
+            commandTimeouts.schedule(released);
+            logReleasedCommand(released);
+        }
+        for (Command expired : commandTimeouts.advanceTo(Instant.now())) {
+            executingCommands.remove(expired.id());
+            timedOutCommands++;
+            Gdx.app.log("Command", "Command " + expired.type() + " targeting " + expired.target() + " timed out");
         }
 
+        // Update game status (atomic operation due to volatile)
+        gameStatus = String.format(
+            "Tick %d: Executing: %d | Timed out: %d | Queued: %d",
+            tickCount,
+            executingCommands.size(),
+            timedOutCommands,
+            commandQueue.size()
+        );
+
         Gdx.app.log("GameTick", gameStatus);
     }
 
+    /**
+     * Price a command released this tick at the signal of its own target cell, and log it.
+     */
+    private void logReleasedCommand(final Command command) {
+        Integer targetCell = commandTargetCells.remove(command.id());
+        int signal = targetCell == null ? 0 : signalCoverage.signalAt(targetCell);
+        int cost = CommandSystem.calculateCost(command, 85, 20, signal);
+        Gdx.app.log("Command", String.format("Tick %d: Command %s targeting %s | Signal: %s | Cost: %d",
+                                             tickCount,
+                                             command.type(),
+                                             command.target(),
+                                             SignalCoverage.zoneOf(signal),
+                                             cost));
+    }
+
+    /**
+     * Hand a command to the tick thread. Safe from any thread and never blocks; a full ingress
+     * rejects the command instead of overwriting earlier ones.
+     *
+     * @param command The command.
+     * @param targetCell The tactical grid cell the command targets, used to price it on release.
+     */
+    private void submitCommand(final Command command, final int targetCell) {
+        commandTargetCells.put(command.id(), targetCell);
+        if (!commandIngress.submit(command)) {
+            commandTargetCells.remove(command.id());
+            Gdx.app.log("Command", "Command ingress full, rejected " + command.type() + " targeting "
+                                   + command.target());
+        }
+    }
+
+    private void enqueueCommand(final Command command) {
+        if (commandQueue.contains(command.id())) {
+            Gdx.app.log("Command", "Ignoring duplicate submission of command " + command.id());
+            return;
+        }
+        commandQueue.enqueue(command);
+    }
+
     @Override
     public void render() {
         // This runs on the main thread
@@ -283,6 +368,19 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
         stage.draw();
 
         handleInput();
+        sweepCoordinates();
+    }
+
+    /**
+     * Periodically release coordinate chunks no longer in use. Coordinates are only read on
+     * this thread, so the sweep cannot race a lookup.
+     */
+    private void sweepCoordinates() {
+        secondsSinceCoordinateSweep += Gdx.graphics.getDeltaTime();
+        if (secondsSinceCoordinateSweep >= COORDINATE_SWEEP_SECONDS) {
+            secondsSinceCoordinateSweep = 0;
+            coordinateManager.evictUnused();
+        }
     }
 
     private void handleInput() {
@@ -308,11 +406,7 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
         }
 
         if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.G)) {
-            // Thread-safe read of current grid state
-            Gdx.app.log("TacticalMap", "\n" + GridUtilities.generateTacticalMap(gridManager,
-                                                                                     coordinateManager,
-                                                                                     currentTacticalGridId,
-                                                                                     currentActorMap));
+            logVisibleTacticalMap();
         }
 
         if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.M)) {
@@ -341,6 +435,32 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
         }
     }
 
+    /**
+     * Log the part of the current tactical grid inside the camera's view, streamed into a reused buffer.
+     */
+    private void logVisibleTacticalMap() {
+        // Thread-safe read of current grid state
+        GridActor gridActor = GridUtilities.getGridById(gridManager, currentTacticalGridId);
+        OccupancyMask occupancy = OccupancyMask.of(currentActorMap, gridActor.grid.rows(), gridActor.grid.cols());
+        Camera camera = stage.getCamera();
+        float halfWidth = camera.viewportWidth / 2;
+        float halfHeight = camera.viewportHeight / 2;
+        tacticalMapBuffer.setLength(0);
+        tacticalMapBuffer.append('\n');
+        try {
+            if (!GridUtilities.writeTacticalMap(tacticalMapBuffer, gridActor, occupancy,
+                                                camera.position.x - halfWidth, camera.position.y - halfHeight,
+                                                camera.position.x + halfWidth, camera.position.y + halfHeight)) {
+                Gdx.app.log("TacticalMap", "Tactical grid is outside the view");
+                return;
+            }
+        } catch (IOException e) {
+            // StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+        Gdx.app.log("TacticalMap", tacticalMapBuffer.toString());
+    }
+
     private GridCoordinate mouseToGridCoordinate() {
     // Get mouse position in screen coordinates
     int mouseX = Gdx.input.getX();
@@ -350,19 +470,24 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
     // Note: LibGDX screen Y is flipped (0 at top), so we need to convert
     Vector2 worldPos = new Vector2(mouseX, Gdx.graphics.getHeight() - mouseY);
 
-    // Convert world position to grid coordinate
-    GridCoordinate clickedGrid = GridUtilities.toGridCoordinate(currentTacticalGridId, coordinateManager, worldPos, CELL_SIZE, GRID_COLS);
-
-    // Log the result
-    Gdx.app.log("MouseClick", String.format("Clicked at screen(%d, %d) -> world(%.1f, %.1f) -> grid %s",
-        mouseX, mouseY, worldPos.x, worldPos.y, clickedGrid.toGridReference()));
+    // Find the cell under the cursor in every grid, honouring each grid's world position
+    GridCoordinate clickedGrid = null;
+    int currentHandle = gridManager.handleOf(currentTacticalGridId);
+    for (long cell : gridManager.cellsAt(worldPos.x, worldPos.y)) {
+        GridActor grid = gridManager.gridByHandle(CellHandle.gridHandle(cell));
+        GridCoordinate coordinate = coordinateManager.coordinateAt(grid.id,
+                                                                   CellHandle.cellIndex(cell, grid.grid.cols()));
+        Gdx.app.log("MouseClick", String.format("Clicked at screen(%d, %d) -> world(%.1f, %.1f) -> grid %s",
+            mouseX, mouseY, worldPos.x, worldPos.y, coordinate.toGridReference()));
+        if (CellHandle.gridHandle(cell) == currentHandle) {
+            clickedGrid = coordinate;
+        }
+    }
 
-    // Check if the click is within the grid bounds
-    if (GridUtilities.isValidGrid(GridUtilities.getGridById(gridManager, currentTacticalGridId).grid, clickedGrid)) {
-        Gdx.app.log("MouseClick", "Valid grid cell: " + clickedGrid.toGridReference());
-        // Do whatever you want with the clicked grid coordinate here
-    } else {
+    if (clickedGrid == null) {
         Gdx.app.log("MouseClick", "Clicked outside grid bounds");
+    } else {
+        Gdx.app.log("MouseClick", "Valid grid cell: " + clickedGrid.toGridReference());
     }
 
     return clickedGrid;
@@ -370,7 +495,7 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
 
     private void moveTowerInstant() {
         GridCoordinate currentPos = GridUtilities.toGridCoordinate(currentTacticalGridId, coordinateManager, new Vector2(tower.getX(), tower.getY()), CELL_SIZE, GRID_COLS);
-        GridCoordinate newPos = coordinateManager.coordinates.get(currentTacticalGridId)[(currentPos.id() + 1) % (GRID_ROWS * GRID_COLS)]; // Move to origin (0, 0)
+        GridCoordinate newPos = coordinateManager.coordinateAt(currentTacticalGridId, (currentPos.id() + 1) % (GRID_ROWS * GRID_COLS)); // Move to origin (0, 0)
 
         // Functional update - creates new grid state
         currentActorMap = GridUtilities.moveActor(
@@ -379,6 +504,7 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
             currentPos,
             newPos
         );
+        postTowerMove(0, newPos);
 
         // Update visual position
         Vector2 newWorldPos = GridUtilities.gridToWorld(GridUtilities.getGridById(gridManager, currentTacticalGridId), newPos);
@@ -391,44 +517,66 @@ public class MilitaryCoordinationGame extends ApplicationAdapter {
     private void moveTowerSmooth(UUID gridId, final GridCoordinate targetPos) {
         GridCoordinate currentPos = GridUtilities.toGridCoordinate(gridId, coordinateManager, new Vector2(tower.getX(), tower.getY()), CELL_SIZE, GRID_COLS);
 
-        GridCoordinate newPos = coordinateManager.coordinates.get(gridId)[(currentPos.id() + 1) % (GRID_ROWS * GRID_COLS)];
+        GridCoordinate newPos = coordinateManager.coordinateAt(gridId, (currentPos.id() + 1) % (GRID_ROWS * GRID_COLS));
         if (targetPos == null) {
             Gdx.app.log("Movement", "No target position specified, using current position");
         } else {
             newPos = targetPos; // Use the specified target position
         }
-        // Get the target world position
-        Vector2 targetWorldPos = GridUtilities.gridToWorld(GridUtilities.getGridById(gridManager, gridId), newPos);
+        // Route around occupied cells instead of moving in a straight line
+        GridActor gridActor = GridUtilities.getGridById(gridManager, gridId);
+        int[] path = PathfindingSystem.findPath(gridActor.grid,
+                                                OccupancyMask.of(currentActorMap, gridActor.grid.rows(), gridActor.grid.cols()),
+                                                currentPos.id(), newPos.id());
+        if (path.length == 0) {
+            Gdx.app.log("Movement", "No route to " + newPos.toGridReference());
+            return;
+        }
 
         // Set movement flag
         towerMoving = true;
 
         final GridCoordinate finalTargetPos = newPos;
 
-        // Create smooth movement action
-        tower.addAction(Actions.sequence(
-            Actions.moveTo(targetWorldPos.x, targetWorldPos.y, MOVE_DURATION),
-            Actions.run(() -> {
-                // This runs when the movement is complete
-                towerMoving = false;
+        // Create smooth movement action: one tween per cell along the route
+        Action[] steps = new Action[path.length];
+        Vector2 stepWorldPos = new Vector2();
+        for (int i = 1; i < path.length; i++) {
+            GridUtilities.gridToWorld(gridActor, path[i], stepWorldPos);
+            steps[i - 1] = Actions.moveTo(stepWorldPos.x, stepWorldPos.y, MOVE_DURATION / (path.length - 1));
+        }
+        steps[steps.length - 1] = Actions.run(() -> {
+            // This runs when the movement is complete
+            towerMoving = false;
 
-                // Update the grid state (functional - creates new grid)
-                currentActorMap = GridUtilities.moveActor(currentActorMap, 0, currentPos, finalTargetPos);
+            // Update the grid state (functional - creates new grid)
+            currentActorMap = GridUtilities.moveActor(currentActorMap, 0, currentPos, finalTargetPos);
+            postTowerMove(0, finalTargetPos);
 
-                Gdx.app.log("Movement", "Tower smoothly moved to " + finalTargetPos.toGridReference());
-                Gdx.app.log("Movement", "Final position: " + new Vector2(tower.getX(), tower.getY()));
-            })
-        ));
+            Gdx.app.log("Movement", "Tower smoothly moved to " + finalTargetPos.toGridReference());
+            Gdx.app.log("Movement", "Final position: " + new Vector2(tower.getX(), tower.getY()));
+        });
+        tower.addAction(Actions.sequence(steps));
 
         Gdx.app.log("Movement", "Starting smooth movement from " + currentPos.toGridReference() +
                    " to " + finalTargetPos.toGridReference());
     }
 
+    /**
+     * Apply a tower move to the signal coverage on the game loop thread. The loop has a single
+     * thread, so the update runs between ticks and a tick never observes a half-applied footprint.
+     */
+    private void postTowerMove(final int towerId, final GridCoordinate target) {
+        int cellIndex = target.id();
+        gameLoop.execute(() -> signalCoverage.moveTower(towerId, cellIndex));
+    }
+
     @Override
     public void dispose() {
         if (gameLoop != null) {
             gameLoop.shutdown();
         }
+        if (coordinateManager != null) coordinateManager.evictAll();
         if (batch != null) batch.dispose();
         if (font != null) font.dispose();
         if (stage != null) stage.dispose();
@@ -8,6 +8,8 @@ import com.military.coordination.model.TacticalGrid;
 public class GridActor extends Actor {
     public UUID id;
     public TacticalGrid grid;
+    private Runnable boundsListener;
+
     /**
      * Creates a new GridActor with the specified grid.
      * @param id The unique identifier for the grid actor.
@@ -20,4 +22,34 @@ public class GridActor extends Actor {
         this.id = id;
         this.grid = grid;
     }
+
+    /**
+     * Set the callback run whenever this grid's world position changes, e.g. so
+     * {@link com.military.coordination.manager.GridManager} can re-index its bounds.
+     * @param listener The callback, or null for none.
+     */
+    public void setBoundsListener(final Runnable listener) {
+        this.boundsListener = listener;
+    }
+
+    /**
+     * @return The world x position of the grid's right edge (exclusive).
+     */
+    public float getGridRight() {
+        return getX() + (float) grid.cols() * grid.cellSize();
+    }
+
+    /**
+     * @return The world y position of the grid's top edge (exclusive).
+     */
+    public float getGridTop() {
+        return getY() + (float) grid.rows() * grid.cellSize();
+    }
+
+    @Override
+    protected void positionChanged() {
+        if (boundsListener != null) {
+            boundsListener.run();
+        }
+    }
 }
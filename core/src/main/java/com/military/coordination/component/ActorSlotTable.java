@@ -0,0 +1,174 @@
+package com.military.coordination.component;
+
+import java.util.Arrays;
+
+/**
+ * Maps actor ids to dense slot numbers.
+ * <p>
+ * Any non-negative actor id is accepted. Ids are kept in an open-addressed primitive table
+ * with linear probing and backward-shift deletion, and released slots are reused through a
+ * free list, so storage follows the number of live actors rather than the largest id.
+ * Owners keep their per-actor data in arrays indexed by slot and grow them to
+ * {@link #slotCapacity()} when {@link #add(int)} hands out a slot beyond their length.
+ * </p>
+ * <p>
+ * Not thread-safe.
+ * </p>
+ */
+final class ActorSlotTable {
+    static final int NONE = -1;
+
+    // Per slot: actor id, and the next free slot while the slot is free
+    private int[] slotActors;
+    private int[] nextFree;
+    private int slotsUsed;
+    private int freeSlot = NONE;
+    private int size;
+
+    // Actor id -> slot, open-addressed with linear probing; empty entries hold NONE
+    private int[] tableIds;
+    private int[] tableSlots;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param initialCapacity The number of slots to reserve up front; must be a power of two.
+     */
+    ActorSlotTable(final int initialCapacity) {
+        this.slotActors = new int[initialCapacity];
+        this.nextFree = new int[initialCapacity];
+        this.tableIds = new int[initialCapacity * 2];
+        this.tableSlots = new int[initialCapacity * 2];
+        Arrays.fill(tableIds, NONE);
+    }
+
+    /**
+     * @return The number of actors holding a slot.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return The length per-slot arrays need so every slot handed out so far is in range.
+     */
+    int slotCapacity() {
+        return slotActors.length;
+    }
+
+    /**
+     * Get the actor holding a slot.
+     *
+     * @param slot A slot returned by {@link #add(int)} and not yet removed.
+     * @return The actor id.
+     */
+    int actorAt(final int slot) {
+        return slotActors[slot];
+    }
+
+    /**
+     * Look up the slot of an actor.
+     *
+     * @param actorId The actor to look up.
+     * @return The slot, or -1 if the actor holds none.
+     */
+    int slotOf(final int actorId) {
+        if (actorId < 0) {
+            return NONE;
+        }
+        int mask = tableIds.length - 1;
+        for (int i = home(actorId, mask); tableIds[i] != NONE; i = (i + 1) & mask) {
+            if (tableIds[i] == actorId) {
+                return tableSlots[i];
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Take a free slot for an actor.
+     *
+     * @param actorId The actor; must be non-negative and not already hold a slot.
+     * @return The slot now held by the actor.
+     */
+    int add(final int actorId) {
+        int slot;
+        if (freeSlot != NONE) {
+            slot = freeSlot;
+            freeSlot = nextFree[slot];
+        } else {
+            if (slotsUsed == slotActors.length) {
+                int capacity = slotsUsed * 2;
+                slotActors = Arrays.copyOf(slotActors, capacity);
+                nextFree = Arrays.copyOf(nextFree, capacity);
+            }
+            slot = slotsUsed++;
+        }
+        slotActors[slot] = actorId;
+        // Keep the table at most half full so probe sequences stay short
+        if ((size + 1) * 2 > tableIds.length) {
+            resizeTable(tableIds.length * 2);
+        }
+        insert(actorId, slot);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Release a slot and drop its actor from the table.
+     *
+     * @param slot A slot returned by {@link #add(int)} and not yet removed.
+     */
+    void remove(final int slot) {
+        delete(slotActors[slot]);
+        nextFree[slot] = freeSlot;
+        freeSlot = slot;
+        size--;
+    }
+
+    private void insert(final int actorId, final int slot) {
+        int mask = tableIds.length - 1;
+        int i = home(actorId, mask);
+        while (tableIds[i] != NONE) {
+            i = (i + 1) & mask;
+        }
+        tableIds[i] = actorId;
+        tableSlots[i] = slot;
+    }
+
+    private void delete(final int actorId) {
+        int mask = tableIds.length - 1;
+        int gap = home(actorId, mask);
+        while (tableIds[gap] != actorId) {
+            gap = (gap + 1) & mask;
+        }
+        // Backward-shift deletion: pull later entries of the probe run into the gap, no tombstones
+        for (int i = (gap + 1) & mask; tableIds[i] != NONE; i = (i + 1) & mask) {
+            int home = home(tableIds[i], mask);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                tableIds[gap] = tableIds[i];
+                tableSlots[gap] = tableSlots[i];
+                gap = i;
+            }
+        }
+        tableIds[gap] = NONE;
+    }
+
+    private void resizeTable(final int capacity) {
+        int[] oldIds = tableIds;
+        int[] oldSlots = tableSlots;
+        tableIds = new int[capacity];
+        tableSlots = new int[capacity];
+        Arrays.fill(tableIds, NONE);
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != NONE) {
+                insert(oldIds[i], oldSlots[i]);
+            }
+        }
+    }
+
+    private static int home(final int actorId, final int mask) {
+        int hash = actorId * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,360 @@
+package com.military.coordination.component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Chunked spatial hash of actor positions on one grid.
+ * <p>
+ * The grid is split into square chunks; each chunk holds a primitive list of the actors
+ * inside it. Rectangle and radius queries only visit the chunks overlapping the query
+ * area, and k-nearest queries expand ring by ring from the centre chunk, so query cost
+ * follows the area covered rather than the map size.
+ * </p>
+ * <p>
+ * The index is a {@link GridActorMapListener}: pass it to the listener-aware GridUtilities
+ * updates and it is maintained incrementally on every move. Like {@link GridActorMap}, any
+ * non-negative actor id is accepted; ids are mapped to dense slots, so memory follows the
+ * number of indexed actors rather than the largest id. Not thread-safe.
+ * </p>
+ */
+public final class ActorSpatialIndex implements GridActorMapListener {
+    /** Default chunk edge length in cells. */
+    public static final int DEFAULT_CHUNK_SIZE = 16;
+
+    private static final int NONE = -1;
+    private static final int INITIAL_ACTOR_CAPACITY = 64;
+    private static final int INITIAL_CHUNK_CAPACITY = 4;
+
+    private final int rows;
+    private final int cols;
+    private final int chunkSize;
+    private final int chunkRows;
+    private final int chunkCols;
+
+    // Per chunk: actor slots and how many are in use
+    private final int[][] chunkActors;
+    private final int[] chunkSizes;
+
+    // Actor id -> dense slot; per slot: cell index and position within its chunk
+    private final ActorSlotTable slots = new ActorSlotTable(INITIAL_ACTOR_CAPACITY);
+    private int[] slotCells;
+    private int[] chunkPositions;
+
+    /**
+     * Creates an empty index with the default chunk size.
+     *
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     */
+    public ActorSpatialIndex(final int rows, final int cols) {
+        this(rows, cols, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates an empty index.
+     *
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     * @param chunkSize The edge length of a chunk in cells.
+     */
+    public ActorSpatialIndex(final int rows, final int cols, final int chunkSize) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.chunkSize = chunkSize;
+        this.chunkRows = (rows + chunkSize - 1) / chunkSize;
+        this.chunkCols = (cols + chunkSize - 1) / chunkSize;
+        this.chunkActors = new int[chunkRows * chunkCols][];
+        this.chunkSizes = new int[chunkRows * chunkCols];
+        this.slotCells = new int[INITIAL_ACTOR_CAPACITY];
+        this.chunkPositions = new int[INITIAL_ACTOR_CAPACITY];
+    }
+
+    /**
+     * Builds an index of every actor in a grid actor map.
+     *
+     * @param actorMap The actor map to index.
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     * @return A new index; coordinates outside the grid are ignored.
+     */
+    public static ActorSpatialIndex of(final GridActorMap actorMap, final int rows, final int cols) {
+        ActorSpatialIndex index = new ActorSpatialIndex(rows, cols);
+        actorMap.actorMap().forEach((coordinate, actors) -> index.cellChanged(coordinate, Set.of(), actors));
+        return index;
+    }
+
+    /**
+     * Keep the index in sync with a grid actor map. Actors that left the cell are removed
+     * (unless already re-placed elsewhere) and actors that arrived are placed or relocated.
+     */
+    @Override
+    public void cellChanged(final GridCoordinate coordinate, final Set<Integer> before, final Set<Integer> after) {
+        if (coordinate == null || coordinate.row() >= rows || coordinate.col() >= cols) {
+            return;
+        }
+        int cell = coordinate.row() * cols + coordinate.col();
+        for (int actorId : before) {
+            if (!after.contains(actorId) && cellOf(actorId) == cell) {
+                remove(actorId);
+            }
+        }
+        for (int actorId : after) {
+            if (cellOf(actorId) != cell) {
+                place(actorId, coordinate.row(), coordinate.col());
+            }
+        }
+    }
+
+    /**
+     * @return The number of indexed actors.
+     */
+    public int actorCount() {
+        return slots.size();
+    }
+
+    /**
+     * Get the cell an actor occupies.
+     *
+     * @param actorId The actor to look up.
+     * @return The row-major cell index, or -1 if the actor is not indexed.
+     */
+    public int cellOf(final int actorId) {
+        int slot = slots.slotOf(actorId);
+        return slot == NONE ? NONE : slotCells[slot];
+    }
+
+    /**
+     * Place an actor at a cell, relocating it if it is already indexed.
+     *
+     * @param actorId The actor to place.
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     */
+    public void place(final int actorId, final int row, final int col) {
+        if (actorId < 0) {
+            throw new IllegalArgumentException("Actor ID must be positive: " + actorId);
+        }
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IllegalArgumentException("Row and column must be within grid bounds");
+        }
+        int cell = row * cols + col;
+        int slot = slots.slotOf(actorId);
+        if (slot == NONE) {
+            slot = allocateSlot(actorId);
+        } else if (chunkOf(slotCells[slot]) == chunkOf(cell)) {
+            slotCells[slot] = cell;
+            return;
+        } else {
+            unlink(slot);
+        }
+        int chunk = chunkOf(cell);
+        int[] members = chunkActors[chunk];
+        if (members == null) {
+            members = new int[INITIAL_CHUNK_CAPACITY];
+            chunkActors[chunk] = members;
+        } else if (chunkSizes[chunk] == members.length) {
+            members = Arrays.copyOf(members, members.length * 2);
+            chunkActors[chunk] = members;
+        }
+        int position = chunkSizes[chunk]++;
+        members[position] = slot;
+        chunkPositions[slot] = position;
+        slotCells[slot] = cell;
+    }
+
+    /**
+     * Remove an actor from the index; does nothing if it is not indexed.
+     *
+     * @param actorId The actor to remove.
+     */
+    public void remove(final int actorId) {
+        int slot = slots.slotOf(actorId);
+        if (slot == NONE) {
+            return;
+        }
+        unlink(slot);
+        slots.remove(slot);
+    }
+
+    /**
+     * Visit every actor inside a rectangle. Bounds are inclusive and clamped to the grid.
+     *
+     * @param minRow The first row.
+     * @param minCol The first column.
+     * @param maxRow The last row.
+     * @param maxCol The last column.
+     * @param visitor Receives each actor id inside the rectangle.
+     */
+    public void forEachInRectangle(final int minRow, final int minCol, final int maxRow, final int maxCol,
+                                   final IntConsumer visitor) {
+        forEachSlotInRectangle(minRow, minCol, maxRow, maxCol, slot -> visitor.accept(slots.actorAt(slot)));
+    }
+
+    private void forEachSlotInRectangle(final int minRow, final int minCol, final int maxRow, final int maxCol,
+                                        final IntConsumer slotVisitor) {
+        int rowFrom = Math.max(0, minRow);
+        int rowTo = Math.min(rows - 1, maxRow);
+        int colFrom = Math.max(0, minCol);
+        int colTo = Math.min(cols - 1, maxCol);
+        if (rowFrom > rowTo || colFrom > colTo) {
+            return;
+        }
+        for (int chunkRow = rowFrom / chunkSize; chunkRow <= rowTo / chunkSize; chunkRow++) {
+            for (int chunkCol = colFrom / chunkSize; chunkCol <= colTo / chunkSize; chunkCol++) {
+                int chunk = chunkRow * chunkCols + chunkCol;
+                int[] members = chunkActors[chunk];
+                for (int i = 0; i < chunkSizes[chunk]; i++) {
+                    int cell = slotCells[members[i]];
+                    int row = cell / cols;
+                    int col = cell - row * cols;
+                    if (row >= rowFrom && row <= rowTo && col >= colFrom && col <= colTo) {
+                        slotVisitor.accept(members[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Visit every actor within a radius of a cell.
+     *
+     * @param row The row of the centre cell.
+     * @param col The column of the centre cell.
+     * @param radius The radius in cells (inclusive).
+     * @param metric The distance metric.
+     * @param visitor Receives each actor id within the radius.
+     */
+    public void forEachWithinRadius(final int row, final int col, final int radius, final DistanceMetric metric,
+                                    final IntConsumer visitor) {
+        if (radius < 0) {
+            return;
+        }
+        long limit = metric.limit(radius);
+        forEachSlotInRectangle(row - radius, col - radius, row + radius, col + radius, slot -> {
+            int cell = slotCells[slot];
+            int actorRow = cell / cols;
+            if (metric.measure(actorRow - row, cell - actorRow * cols - col) <= limit) {
+                visitor.accept(slots.actorAt(slot));
+            }
+        });
+    }
+
+    /**
+     * Find the k actors nearest to a cell, ordered by distance and then by actor id.
+     *
+     * @param row The row of the centre cell.
+     * @param col The column of the centre cell.
+     * @param k The maximum number of actors to return.
+     * @param metric The distance metric.
+     * @return Up to {@code k} actor ids, nearest first.
+     */
+    public int[] nearest(final int row, final int col, final int k, final DistanceMetric metric) {
+        if (k <= 0 || slots.size() == 0) {
+            return new int[0];
+        }
+        int capacity = Math.min(k, slots.size());
+        int[] bestIds = new int[capacity];
+        long[] bestMeasures = new long[capacity];
+        int found = 0;
+
+        int centreChunkRow = Math.min(Math.max(row, 0), rows - 1) / chunkSize;
+        int centreChunkCol = Math.min(Math.max(col, 0), cols - 1) / chunkSize;
+        int maxRing = Math.max(chunkRows, chunkCols);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int chunkRow = centreChunkRow - ring; chunkRow <= centreChunkRow + ring; chunkRow++) {
+                if (chunkRow < 0 || chunkRow >= chunkRows) {
+                    continue;
+                }
+                boolean edgeRow = chunkRow == centreChunkRow - ring || chunkRow == centreChunkRow + ring;
+                int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+                for (int chunkCol = centreChunkCol - ring; chunkCol <= centreChunkCol + ring; chunkCol += step) {
+                    if (chunkCol < 0 || chunkCol >= chunkCols) {
+                        continue;
+                    }
+                    int chunk = chunkRow * chunkCols + chunkCol;
+                    int[] members = chunkActors[chunk];
+                    for (int i = 0; i < chunkSizes[chunk]; i++) {
+                        int cell = slotCells[members[i]];
+                        int actorRow = cell / cols;
+                        long measure = metric.measure(actorRow - row, cell - actorRow * cols - col);
+                        found = offer(bestIds, bestMeasures, found, slots.actorAt(members[i]), measure);
+                    }
+                }
+            }
+            // Every actor in a farther ring is at least this many cells away on some axis
+            long lowerBound = metric.limit(ring * chunkSize + 1);
+            if (found == capacity && bestMeasures[found - 1] < lowerBound) {
+                break;
+            }
+        }
+        return found == bestIds.length ? bestIds : Arrays.copyOf(bestIds, found);
+    }
+
+    /**
+     * Insert a candidate into the sorted best-k arrays.
+     * @return The new number of entries in use.
+     */
+    private static int offer(final int[] ids, final long[] measures, final int found,
+                             final int actorId, final long measure) {
+        int size = found;
+        if (size == ids.length) {
+            if (!closer(measure, actorId, measures[size - 1], ids[size - 1])) {
+                return size;
+            }
+            size--;
+        }
+        int position = size;
+        while (position > 0 && closer(measure, actorId, measures[position - 1], ids[position - 1])) {
+            ids[position] = ids[position - 1];
+            measures[position] = measures[position - 1];
+            position--;
+        }
+        ids[position] = actorId;
+        measures[position] = measure;
+        return size + 1;
+    }
+
+    private static boolean closer(final long measure, final int actorId, final long otherMeasure, final int otherId) {
+        return measure < otherMeasure || (measure == otherMeasure && actorId < otherId);
+    }
+
+    private int chunkOf(final int cell) {
+        int row = cell / cols;
+        int col = cell - row * cols;
+        return (row / chunkSize) * chunkCols + col / chunkSize;
+    }
+
+    /**
+     * Swap-remove a slot from the member list of its chunk.
+     */
+    private void unlink(final int slot) {
+        int chunk = chunkOf(slotCells[slot]);
+        int[] members = chunkActors[chunk];
+        int position = chunkPositions[slot];
+        int last = members[--chunkSizes[chunk]];
+        members[position] = last;
+        chunkPositions[last] = position;
+        slotCells[slot] = NONE;
+    }
+
+    /**
+     * Take a slot for an actor, growing the per-slot arrays to match the slot table.
+     */
+    private int allocateSlot(final int actorId) {
+        int slot = slots.add(actorId);
+        if (slot >= slotCells.length) {
+            int capacity = slots.slotCapacity();
+            slotCells = Arrays.copyOf(slotCells, capacity);
+            chunkPositions = Arrays.copyOf(chunkPositions, capacity);
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,91 @@
+package com.military.coordination.component;
+
+/**
+ * Packed primitive handle for a cell on a specific grid.
+ * <p>
+ * A handle is a {@code long} holding a grid handle (see
+ * {@link com.military.coordination.manager.GridManager#handleOf}) in the upper 32 bits and the
+ * cell's row and column in two 16-bit fields below it. Hot loops can pass and store handles
+ * instead of {@link GridCoordinate} records, so no coordinate objects are materialized.
+ * Within a single grid the plain row-major cell index ({@link GridCoordinate#id()}) is usually
+ * enough; handles are for code that mixes cells from several grids.
+ * </p>
+ */
+public final class CellHandle {
+    /** Value used for "no cell"; never produced by {@link #pack}. */
+    public static final long NONE = -1L;
+
+    /** Largest row or column a handle can hold. */
+    public static final int MAX_ROW_COL = 0xFFFF;
+
+    private static final int GRID_SHIFT = 32;
+    private static final int ROW_SHIFT = 16;
+
+    private CellHandle() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Pack a grid handle, row and column into one handle.
+     *
+     * @param gridHandle The non-negative grid handle.
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The packed handle.
+     */
+    public static long pack(final int gridHandle, final int row, final int col) {
+        if (gridHandle < 0) {
+            throw new IllegalArgumentException("Grid handle must be non-negative: " + gridHandle);
+        }
+        if (row < 0 || row > MAX_ROW_COL || col < 0 || col > MAX_ROW_COL) {
+            throw new IllegalArgumentException("Row and column must be between 0 and " + MAX_ROW_COL
+                                               + ": (" + row + ", " + col + ")");
+        }
+        return ((long) gridHandle << GRID_SHIFT) | ((long) row << ROW_SHIFT) | col;
+    }
+
+    /**
+     * Pack a grid handle and a row-major cell index into one handle.
+     *
+     * @param gridHandle The non-negative grid handle.
+     * @param cellIndex The row-major cell index.
+     * @param cols The number of columns in the grid.
+     * @return The packed handle.
+     */
+    public static long ofCell(final int gridHandle, final int cellIndex, final int cols) {
+        return pack(gridHandle, cellIndex / cols, cellIndex % cols);
+    }
+
+    /**
+     * @param handle A packed handle.
+     * @return The grid handle.
+     */
+    public static int gridHandle(final long handle) {
+        return (int) (handle >>> GRID_SHIFT);
+    }
+
+    /**
+     * @param handle A packed handle.
+     * @return The row of the cell.
+     */
+    public static int row(final long handle) {
+        return (int) (handle >>> ROW_SHIFT) & MAX_ROW_COL;
+    }
+
+    /**
+     * @param handle A packed handle.
+     * @return The column of the cell.
+     */
+    public static int col(final long handle) {
+        return (int) handle & MAX_ROW_COL;
+    }
+
+    /**
+     * @param handle A packed handle.
+     * @param cols The number of columns in the handle's grid.
+     * @return The row-major cell index, equal to {@link GridCoordinate#id()}.
+     */
+    public static int cellIndex(final long handle, final int cols) {
+        return row(handle) * cols + col(handle);
+    }
+}
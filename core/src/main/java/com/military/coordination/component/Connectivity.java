@@ -0,0 +1,52 @@
+package com.military.coordination.component;
+
+/**
+ * Neighbourhoods used when iterating the cells adjacent to a grid cell.
+ * <ul>
+ * <li>{@link #FOUR} - North, south, west and east.</li>
+ * <li>{@link #EIGHT} - The four orthogonal neighbours followed by the four diagonals.</li>
+ * </ul>
+ */
+public enum Connectivity {
+    /**
+     * North, south, west and east.
+     * See {@link Connectivity} for details.
+     */
+    FOUR(new int[] {-1, 1, 0, 0}, new int[] {0, 0, -1, 1}),
+    /**
+     * The four orthogonal neighbours followed by the four diagonals.
+     * See {@link Connectivity} for details.
+     */
+    EIGHT(new int[] {-1, 1, 0, 0, -1, -1, 1, 1}, new int[] {0, 0, -1, 1, -1, 1, -1, 1});
+
+    private final int[] rowOffsets;
+    private final int[] colOffsets;
+
+    Connectivity(final int[] rowOffsets, final int[] colOffsets) {
+        this.rowOffsets = rowOffsets;
+        this.colOffsets = colOffsets;
+    }
+
+    /**
+     * @return The number of neighbours of an interior cell.
+     */
+    public int size() {
+        return rowOffsets.length;
+    }
+
+    /**
+     * @param direction The neighbour number, from 0 to {@link #size()} - 1.
+     * @return The row offset of that neighbour.
+     */
+    public int rowOffset(final int direction) {
+        return rowOffsets[direction];
+    }
+
+    /**
+     * @param direction The neighbour number, from 0 to {@link #size()} - 1.
+     * @return The column offset of that neighbour.
+     */
+    public int colOffset(final int direction) {
+        return colOffsets[direction];
+    }
+}
@@ -0,0 +1,72 @@
+package com.military.coordination.component;
+
+/**
+ * Distance metrics for grid-based range queries.
+ * <p>
+ * Distances are expressed in an integer "measure" that preserves ordering, so no
+ * square roots are taken: Manhattan and Chebyshev measure in cells, Euclidean in
+ * squared cells.
+ * </p>
+ * <ul>
+ * <li>{@link #MANHATTAN} - Sum of row and column offsets (4-connected movement).</li>
+ * <li>{@link #CHEBYSHEV} - Largest of row and column offsets (8-connected movement).</li>
+ * <li>{@link #EUCLIDEAN} - Straight-line distance.</li>
+ * </ul>
+ */
+public enum DistanceMetric {
+    /**
+     * Sum of row and column offsets (4-connected movement).
+     * See {@link DistanceMetric} for details.
+     */
+    MANHATTAN,
+    /**
+     * Largest of row and column offsets (8-connected movement).
+     * See {@link DistanceMetric} for details.
+     */
+    CHEBYSHEV,
+    /**
+     * Straight-line distance.
+     * See {@link DistanceMetric} for details.
+     */
+    EUCLIDEAN;
+
+    /**
+     * Measure the distance of a row/column offset.
+     *
+     * @param rowOffset The row difference.
+     * @param colOffset The column difference.
+     * @return The ordering-preserving distance measure.
+     */
+    public long measure(final int rowOffset, final int colOffset) {
+        long dr = Math.abs((long) rowOffset);
+        long dc = Math.abs((long) colOffset);
+        return switch (this) {
+            case MANHATTAN -> dr + dc;
+            case CHEBYSHEV -> Math.max(dr, dc);
+            case EUCLIDEAN -> dr * dr + dc * dc;
+        };
+    }
+
+    /**
+     * Convert a radius in cells to the measure it corresponds to.
+     *
+     * @param radius The radius in cells.
+     * @return The largest measure that lies within the radius.
+     */
+    public long limit(final int radius) {
+        long r = radius;
+        return this == EUCLIDEAN ? r * r : r;
+    }
+
+    /**
+     * Check if an offset lies within a radius.
+     *
+     * @param rowOffset The row difference.
+     * @param colOffset The column difference.
+     * @param radius The radius in cells.
+     * @return true if the offset is within the radius (inclusive).
+     */
+    public boolean within(final int rowOffset, final int colOffset, final int radius) {
+        return measure(rowOffset, colOffset) <= limit(radius);
+    }
+}
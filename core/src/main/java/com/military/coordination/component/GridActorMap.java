@@ -1,43 +1,221 @@
 package com.military.coordination.component;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
-public record GridActorMap(Map<GridCoordinate, Set<Integer>> actorMap) {
+import com.military.coordination.utils.PersistentHashMap;
+
+/**
+ * Immutable mapping of grid coordinates to the actors occupying them.
+ * Backed by a {@link PersistentHashMap}, so functional updates share all untouched
+ * structure with the previous version instead of copying the whole map.
+ * <p>
+ * Alongside the coordinate-to-actors map, an actor-to-coordinate index is maintained
+ * by every functional update so position lookups do not scan the map. An actor
+ * occupies a single cell: placing an actor that already stands on another cell is
+ * rejected, both by the public constructor and by functional updates.
+ * </p>
+ * <p>
+ * Maps supplied through the public constructor are validated in full. Functional updates
+ * start from an already validated map, so they only validate the cells they change.
+ * </p>
+ */
+public final class GridActorMap {
+    private final PersistentHashMap<GridCoordinate, Set<Integer>> actorMap;
+    private final PersistentHashMap<Integer, GridCoordinate> actorIndex;
+
     /**
      * Creates a new GridActorMap with the specified map.
+     * Maps that are not already persistent are copied, along with their actor sets.
      *
      * @param actorMap The map of grid coordinates to sets of actor IDs.
      */
-    public GridActorMap {
+    public GridActorMap(final Map<GridCoordinate, Set<Integer>> actorMap) {
+        PersistentHashMap<GridCoordinate, Set<Integer>> persistent = toPersistent(actorMap);
+        persistent.forEach(GridActorMap::validateCell);
+        this.actorMap = persistent;
+        this.actorIndex = buildIndex(persistent);
+    }
+
+    /**
+     * Trusted constructor for functional updates; the caller has validated every changed cell.
+     */
+    private GridActorMap(final PersistentHashMap<GridCoordinate, Set<Integer>> actorMap,
+                         final PersistentHashMap<Integer, GridCoordinate> actorIndex) {
+        this.actorMap = actorMap;
+        this.actorIndex = actorIndex;
+    }
+
+    /**
+     * Returns the coordinate-to-actors map.
+     *
+     * @return An immutable map of grid coordinates to sets of actor IDs.
+     */
+    public Map<GridCoordinate, Set<Integer>> actorMap() {
+        return actorMap;
+    }
+
+    /**
+     * Returns the actor-to-coordinate index kept in step with {@link #actorMap()}.
+     *
+     * @return An immutable map of actor IDs to the coordinate they occupy.
+     */
+    public Map<Integer, GridCoordinate> actorIndex() {
+        return actorIndex;
+    }
+
+    /**
+     * Returns a new map with the actors at a coordinate replaced.
+     *
+     * @param coordinate The grid coordinate to update.
+     * @param actors The actors that occupy the coordinate afterwards; must not be empty.
+     * @return A new GridActorMap sharing all other cells with this one.
+     */
+    public GridActorMap withActors(final GridCoordinate coordinate, final Set<Integer> actors) {
+        validateCell(coordinate, actors);
+        Set<Integer> newActors = Set.copyOf(actors);
+        PersistentHashMap<Integer, GridCoordinate> newIndex = unindex(actorIndex, coordinate, newActors);
+        return new GridActorMap(actorMap.plus(coordinate, newActors), index(newIndex, coordinate, newActors));
+    }
+
+    /**
+     * Returns a new map with a coordinate vacated.
+     *
+     * @param coordinate The grid coordinate to clear.
+     * @return A new GridActorMap sharing all other cells with this one.
+     */
+    public GridActorMap withoutCoordinate(final GridCoordinate coordinate) {
+        return new GridActorMap(actorMap.minus(coordinate), unindex(actorIndex, coordinate, Set.of()));
+    }
+
+    /**
+     * Returns a new map with many cells replaced at once.
+     * Cheaper than chaining {@link #withActors} calls because only one map is built.
+     *
+     * @param changes The new actors per coordinate; an empty set vacates the coordinate.
+     * @return A new GridActorMap sharing all unchanged cells with this one.
+     */
+    public GridActorMap withChanges(final Map<GridCoordinate, Set<Integer>> changes) {
+        PersistentHashMap<GridCoordinate, Set<Integer>> newMap = actorMap;
+        PersistentHashMap<Integer, GridCoordinate> newIndex = actorIndex;
+        Map<GridCoordinate, Set<Integer>> placements = new HashMap<>();
+        // Unindex every leaving actor first, so a move is accepted whichever of its cells comes first
+        for (Map.Entry<GridCoordinate, Set<Integer>> change : changes.entrySet()) {
+            GridCoordinate coordinate = change.getKey();
+            if (coordinate == null || change.getValue() == null) {
+                throw new IllegalArgumentException("Grid coordinate and actors cannot be null");
+            }
+            Set<Integer> newActors = Set.copyOf(change.getValue());
+            newIndex = unindex(newIndex, coordinate, newActors);
+            if (newActors.isEmpty()) {
+                newMap = newMap.minus(coordinate);
+                continue;
+            }
+            validateCell(coordinate, newActors);
+            newMap = newMap.plus(coordinate, newActors);
+            placements.put(coordinate, newActors);
+        }
+        for (Map.Entry<GridCoordinate, Set<Integer>> placement : placements.entrySet()) {
+            newIndex = index(newIndex, placement.getKey(), placement.getValue());
+        }
+        return new GridActorMap(newMap, newIndex);
+    }
+
+    /**
+     * Drop index entries for actors leaving a coordinate, keeping those listed in {@code remaining}.
+     */
+    private PersistentHashMap<Integer, GridCoordinate> unindex(final PersistentHashMap<Integer, GridCoordinate> index,
+                                                              final GridCoordinate coordinate,
+                                                              final Set<Integer> remaining) {
+        PersistentHashMap<Integer, GridCoordinate> newIndex = index;
+        Set<Integer> previous = coordinate == null ? null : actorMap.get(coordinate);
+        if (previous == null) {
+            return newIndex;
+        }
+        for (Integer actorId : previous) {
+            if (!remaining.contains(actorId) && coordinate.equals(newIndex.get(actorId))) {
+                newIndex = newIndex.minus(actorId);
+            }
+        }
+        return newIndex;
+    }
+
+    /**
+     * Index actors placed at a coordinate, rejecting any the index already has on another cell.
+     */
+    private static PersistentHashMap<Integer, GridCoordinate> index(
+            final PersistentHashMap<Integer, GridCoordinate> index,
+            final GridCoordinate coordinate,
+            final Set<Integer> actors) {
+        PersistentHashMap<Integer, GridCoordinate> newIndex = index;
+        for (Integer actorId : actors) {
+            GridCoordinate current = newIndex.get(actorId);
+            if (current != null && !current.equals(coordinate)) {
+                throw new IllegalArgumentException("Actor ID " + actorId + " is already placed at coordinate "
+                                                   + current);
+            }
+            newIndex = newIndex.plus(actorId, coordinate);
+        }
+        return newIndex;
+    }
+
+    private static PersistentHashMap<GridCoordinate, Set<Integer>> toPersistent(
+            final Map<GridCoordinate, Set<Integer>> actorMap) {
         if (actorMap == null) {
             throw new IllegalArgumentException("Actor map cannot be null");
         }
-
-        actorMap.forEach((coordinate, actors) -> {
-            if (coordinate == null || actors == null) {
+        if (actorMap instanceof PersistentHashMap<GridCoordinate, Set<Integer>> persistent) {
+            return persistent;
+        }
+        PersistentHashMap<GridCoordinate, Set<Integer>> persistent = PersistentHashMap.empty();
+        for (Map.Entry<GridCoordinate, Set<Integer>> entry : actorMap.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
                 throw new IllegalArgumentException("Grid coordinate and actors cannot be null");
             }
-            if (actors.isEmpty()) {
-                throw new IllegalArgumentException("Actor set cannot be empty for coordinate: " + coordinate);
-            }
-        });
+            persistent = persistent.plus(entry.getKey(), Set.copyOf(entry.getValue()));
+        }
+        return persistent;
+    }
+
+    private static PersistentHashMap<Integer, GridCoordinate> buildIndex(
+            final PersistentHashMap<GridCoordinate, Set<Integer>> actorMap) {
+        PersistentHashMap<Integer, GridCoordinate> index = PersistentHashMap.empty();
+        for (Map.Entry<GridCoordinate, Set<Integer>> entry : actorMap.entrySet()) {
+            index = index(index, entry.getKey(), entry.getValue());
+        }
+        return index;
+    }
 
-        // Ensure all coordinates are valid
-        actorMap.keySet().forEach(coordinate -> {
-            if (coordinate.row() < 0 || coordinate.col() < 0) {
-                throw new IllegalArgumentException("Coordinates must be non-negative: " + coordinate);
+    /**
+     * Validate a single cell: the coordinate must be non-negative, and its actor set
+     * non-empty with non-negative actor IDs.
+     */
+    private static void validateCell(final GridCoordinate coordinate, final Set<Integer> actors) {
+        if (coordinate == null || actors == null) {
+            throw new IllegalArgumentException("Grid coordinate and actors cannot be null");
+        }
+        if (actors.isEmpty()) {
+            throw new IllegalArgumentException("Actor set cannot be empty for coordinate: " + coordinate);
+        }
+        if (coordinate.row() < 0 || coordinate.col() < 0) {
+            throw new IllegalArgumentException("Coordinates must be non-negative: " + coordinate);
+        }
+        for (Integer actorId : actors) {
+            if (actorId == null || actorId < 0) {
+                throw new IllegalArgumentException("Actor ID must be positive: " + actorId);
             }
-        });
-
-        // Ensure all actor IDs are positive
-        actorMap.values().forEach(actors -> {
-            actors.forEach(actorId -> {
-                if (actorId < 0) {
-                    throw new IllegalArgumentException("Actor ID must be positive: " + actorId);
-                }
-            });
-        });
+        }
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof GridActorMap that && actorMap.equals(that.actorMap);
+    }
+
+    @Override
+    public int hashCode() {
+        return actorMap.hashCode();
     }
 
     /**
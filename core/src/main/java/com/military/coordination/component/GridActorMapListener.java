@@ -0,0 +1,42 @@
+package com.military.coordination.component;
+
+import java.util.Set;
+
+/**
+ * Observer for cell-level changes made to a {@link GridActorMap} through GridUtilities.
+ * <p>
+ * GridActorMap itself is immutable, so derived per-grid layers (occupancy masks,
+ * spatial indexes, caches) stay in sync by being passed to the listener-aware
+ * GridUtilities overloads, which report every cell whose actors changed.
+ * </p>
+ */
+@FunctionalInterface
+public interface GridActorMapListener {
+
+    /** Listener that ignores every change. */
+    GridActorMapListener NONE = (coordinate, before, after) -> { };
+
+    /**
+     * Called after the actors at a coordinate changed.
+     *
+     * @param coordinate The grid coordinate that changed.
+     * @param before     The actors at the coordinate before the change (empty if it was free).
+     * @param after      The actors at the coordinate after the change (empty if it is now free).
+     */
+    void cellChanged(GridCoordinate coordinate, Set<Integer> before, Set<Integer> after);
+
+    /**
+     * Combine several listeners into one that notifies each in order.
+     *
+     * @param listeners The listeners to notify.
+     * @return A listener forwarding every change to all {@code listeners}.
+     */
+    static GridActorMapListener of(final GridActorMapListener... listeners) {
+        GridActorMapListener[] copy = listeners.clone();
+        return (coordinate, before, after) -> {
+            for (GridActorMapListener listener : copy) {
+                listener.cellChanged(coordinate, before, after);
+            }
+        };
+    }
+}
@@ -21,11 +21,71 @@ public record GridCoordinate(int id, int row, int col) {
     }
 
     /**
-     * Military-style grid reference (e.g., "A-5", "B-12").
+     * Military-style grid reference (e.g., "A-5", "B-12", "AA-3").
      */
     public String toGridReference() {
-        char letter = (char) ('A' + row);
-        return letter + "-" + (col + 1);
+        return rowLabel(row) + "-" + (col + 1);
+    }
+
+    /**
+     * Letter label of a row: "A" to "Z", then "AA" to "ZZ", then "AAA", and so on.
+     *
+     * @param row The zero-based row.
+     * @return The row label.
+     */
+    public static String rowLabel(final int row) {
+        int length = rowLabelLength(row);
+        char[] letters = new char[length];
+        for (int position = 0; position < length; position++) {
+            letters[position] = rowLabelLetter(row, position);
+        }
+        return new String(letters);
+    }
+
+    /**
+     * Number of letters in a row's label, for writing labels without building strings.
+     *
+     * @param row The zero-based row.
+     * @return The label length, at least 1.
+     */
+    public static int rowLabelLength(final int row) {
+        if (row < 0) {
+            throw new IllegalArgumentException("Row must be non-negative");
+        }
+        long remaining = row;
+        long span = 26;
+        int length = 1;
+        while (remaining >= span) {
+            remaining -= span;
+            span *= 26;
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * One letter of a row's label.
+     *
+     * @param row The zero-based row.
+     * @param position The letter position, 0 being the leftmost.
+     * @return The letter at that position.
+     */
+    public static char rowLabelLetter(final int row, final int position) {
+        int length = rowLabelLength(row);
+        if (position < 0 || position >= length) {
+            throw new IllegalArgumentException("Label position out of range: " + position);
+        }
+        // Labels of one length form a plain base-26 range once shorter labels are skipped
+        long offset = row;
+        long span = 26;
+        for (int i = 1; i < length; i++) {
+            offset -= span;
+            span *= 26;
+        }
+        for (int i = length - 1; i > position; i--) {
+            offset /= 26;
+        }
+        return (char) ('A' + offset % 26);
     }
 
     /**
@@ -0,0 +1,178 @@
+package com.military.coordination.component;
+
+/**
+ * Lazily materialized, chunked storage of a grid's {@link GridCoordinate} records.
+ * <p>
+ * Coordinates are indexed by {@link GridCoordinate#id()} in row-major order, exactly like the
+ * eagerly built array this replaces, but a chunk of slots is only allocated when one of its
+ * cells is first requested and each record is only created on first access. A 4000x4000 grid
+ * therefore costs a few kilobytes until it is used.
+ * </p>
+ * <p>
+ * Chunks not accessed since the previous {@link #evictUnused()} call can be released. This is
+ * safe because GridCoordinate is a value record: a coordinate recreated after eviction is
+ * equal to the one handed out before. Not thread-safe.
+ * </p>
+ */
+public final class GridCoordinateStore {
+    /** Default number of cells per chunk, as a power of two (4096 cells). */
+    public static final int DEFAULT_CHUNK_SHIFT = 12;
+
+    private static final int MAX_CHUNK_SHIFT = 30;
+
+    private final int rows;
+    private final int cols;
+    private final int length;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final GridCoordinate[][] chunks;
+    private final boolean[] accessed;
+    private int materializedChunks;
+
+    /**
+     * Creates an empty store with the default chunk size.
+     *
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     */
+    public GridCoordinateStore(final int rows, final int cols) {
+        this(rows, cols, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Creates an empty store.
+     *
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     * @param chunkShift The chunk size as a power of two ({@code 1 << chunkShift} cells per chunk).
+     */
+    public GridCoordinateStore(final int rows, final int cols, final int chunkShift) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive");
+        }
+        if (chunkShift < 0 || chunkShift > MAX_CHUNK_SHIFT) {
+            throw new IllegalArgumentException("Chunk shift must be between 0 and " + MAX_CHUNK_SHIFT);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.length = Math.multiplyExact(rows, cols);
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        int chunkCount = (int) ((length + (long) chunkMask) >>> chunkShift);
+        this.chunks = new GridCoordinate[chunkCount][];
+        this.accessed = new boolean[chunkCount];
+    }
+
+    /**
+     * @return The number of rows in the grid.
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of columns in the grid.
+     */
+    public int cols() {
+        return cols;
+    }
+
+    /**
+     * @return The number of cells in the grid; valid indices are {@code 0..length-1}.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Get the coordinate of a cell, creating it on first access.
+     *
+     * @param index The dense row-major cell index.
+     * @return The coordinate with {@code id() == index}.
+     * @throws IllegalArgumentException if the index is outside the grid.
+     */
+    public GridCoordinate get(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IllegalArgumentException("Cell index out of bounds: " + index);
+        }
+        int chunkIndex = index >>> chunkShift;
+        GridCoordinate[] chunk = chunks[chunkIndex];
+        if (chunk == null) {
+            int chunkStart = chunkIndex << chunkShift;
+            chunk = new GridCoordinate[Math.min(chunkMask + 1, length - chunkStart)];
+            chunks[chunkIndex] = chunk;
+            materializedChunks++;
+        }
+        accessed[chunkIndex] = true;
+        int slot = index & chunkMask;
+        GridCoordinate coordinate = chunk[slot];
+        if (coordinate == null) {
+            coordinate = new GridCoordinate(index, index / cols, index % cols);
+            chunk[slot] = coordinate;
+        }
+        return coordinate;
+    }
+
+    /**
+     * Get the coordinate at a row and column, creating it on first access.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The coordinate at the given position.
+     * @throws IllegalArgumentException if the position is outside the grid.
+     */
+    public GridCoordinate get(final int row, final int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IllegalArgumentException("Row and column must be within grid bounds");
+        }
+        return get(row * cols + col);
+    }
+
+    /**
+     * @return The number of chunks currently allocated.
+     */
+    public int materializedChunks() {
+        return materializedChunks;
+    }
+
+    /**
+     * Release every chunk that has not been accessed since the previous call, and start a new
+     * access period for the rest.
+     *
+     * @return The number of chunks released.
+     */
+    public int evictUnused() {
+        int evicted = 0;
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null && !accessed[i]) {
+                chunks[i] = null;
+                evicted++;
+            }
+            accessed[i] = false;
+        }
+        materializedChunks -= evicted;
+        return evicted;
+    }
+
+    /**
+     * Release every chunk.
+     */
+    public void evictAll() {
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = null;
+            accessed[i] = false;
+        }
+        materializedChunks = 0;
+    }
+
+    /**
+     * Returns a string representation of the store.
+     *
+     * @return A string in the format "GridCoordinateStore(rows x cols, chunks materialized/total)".
+     */
+    @Override
+    public String toString() {
+        return String.format("GridCoordinateStore(%dx%d, %d/%d chunks)", rows, cols, materializedChunks,
+                             chunks.length);
+    }
+}
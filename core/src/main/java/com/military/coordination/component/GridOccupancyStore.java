@@ -0,0 +1,349 @@
+package com.military.coordination.component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Mutable, primitive-array occupancy engine for one grid.
+ * <p>
+ * An alternative to {@link GridActorMap} for hot simulation loops: cells are addressed by
+ * the dense {@link GridCoordinate#id()} index and actors by their non-negative integer id,
+ * so no boxing or per-cell sets are involved. Each cell heads a doubly linked chain of the
+ * actors standing on it, and occupied cells are kept in a dense list so iteration costs
+ * O(occupied cells) rather than O(grid size).
+ * </p>
+ * <p>
+ * Like {@link GridActorMap}, any non-negative actor id is accepted. Ids are mapped to dense
+ * slots through an open-addressed primitive table, so sparse ids such as 2,000,000,000 cost
+ * no more memory than small ones; storage is proportional to the number of placed actors.
+ * </p>
+ * <p>
+ * Queries and updates are allocation-free; the slot arrays only grow when more actors are
+ * placed than the current capacity holds. Not thread-safe.
+ * </p>
+ */
+public final class GridOccupancyStore {
+    private static final int NONE = -1;
+    private static final int INITIAL_ACTOR_CAPACITY = 64;
+
+    private final int rows;
+    private final int cols;
+
+    // Per cell: first actor in the chain, number of actors, position in occupiedCells
+    private final int[] heads;
+    private final int[] cellActorCounts;
+    private final int[] occupiedPositions;
+    private final int[] occupiedCells;
+    private int occupiedCount;
+
+    // Actor id -> dense slot; per slot: current cell (NONE while free) and chain links
+    private final ActorSlotTable slots = new ActorSlotTable(INITIAL_ACTOR_CAPACITY);
+    private int[] slotCells;
+    private int[] nextSlot;
+    private int[] previousSlot;
+
+    /**
+     * Creates an empty store for a grid of the given size.
+     *
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     */
+    public GridOccupancyStore(final int rows, final int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        int cells = Math.multiplyExact(rows, cols);
+        this.heads = new int[cells];
+        this.cellActorCounts = new int[cells];
+        this.occupiedPositions = new int[cells];
+        this.occupiedCells = new int[cells];
+        Arrays.fill(heads, NONE);
+        this.slotCells = new int[INITIAL_ACTOR_CAPACITY];
+        this.nextSlot = new int[INITIAL_ACTOR_CAPACITY];
+        this.previousSlot = new int[INITIAL_ACTOR_CAPACITY];
+    }
+
+    /**
+     * Builds a store holding the same placements as a {@link GridActorMap}.
+     *
+     * @param actorMap The actor map to copy.
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     * @return A new store with every actor placed at its coordinate.
+     */
+    public static GridOccupancyStore fromGridActorMap(final GridActorMap actorMap, final int rows, final int cols) {
+        GridOccupancyStore store = new GridOccupancyStore(rows, cols);
+        actorMap.actorMap().forEach((coordinate, actors) -> {
+            for (int actorId : actors) {
+                store.place(actorId, coordinate.id());
+            }
+        });
+        return store;
+    }
+
+    /**
+     * Converts the store back to an immutable {@link GridActorMap}.
+     *
+     * @param coordinates The grid's coordinate store, supplying the coordinate of each occupied cell.
+     * @return A GridActorMap with the same placements.
+     */
+    public GridActorMap toGridActorMap(final GridCoordinateStore coordinates) {
+        if (coordinates.rows() != rows || coordinates.cols() != cols) {
+            throw new IllegalArgumentException("Coordinate store does not match grid dimensions");
+        }
+        Map<GridCoordinate, Set<Integer>> map = new HashMap<>();
+        for (int i = 0; i < occupiedCount; i++) {
+            int cell = occupiedCells[i];
+            Set<Integer> actors = new HashSet<>();
+            for (int slot = heads[cell]; slot != NONE; slot = nextSlot[slot]) {
+                actors.add(slots.actorAt(slot));
+            }
+            map.put(coordinates.get(cell), actors);
+        }
+        return new GridActorMap(map);
+    }
+
+    /**
+     * @return The number of rows in the grid.
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of columns in the grid.
+     */
+    public int cols() {
+        return cols;
+    }
+
+    /**
+     * @return The number of cells in the grid.
+     */
+    public int cellCount() {
+        return heads.length;
+    }
+
+    /**
+     * @return The number of actors currently placed.
+     */
+    public int actorCount() {
+        return slots.size();
+    }
+
+    /**
+     * @return The number of cells holding at least one actor.
+     */
+    public int occupiedCellCount() {
+        return occupiedCount;
+    }
+
+    /**
+     * Check if a cell holds at least one actor.
+     *
+     * @param cellIndex The dense cell index.
+     * @return true if occupied, false otherwise.
+     */
+    public boolean isOccupied(final int cellIndex) {
+        return heads[cellIndex] != NONE;
+    }
+
+    /**
+     * Get the number of actors standing on a cell.
+     *
+     * @param cellIndex The dense cell index.
+     * @return The actor count for the cell.
+     */
+    public int actorCountAt(final int cellIndex) {
+        return cellActorCounts[cellIndex];
+    }
+
+    /**
+     * Get the cell an actor occupies.
+     *
+     * @param actorId The actor to look up.
+     * @return The dense cell index, or -1 if the actor is not placed.
+     */
+    public int cellOf(final int actorId) {
+        int slot = slots.slotOf(actorId);
+        return slot == NONE ? NONE : slotCells[slot];
+    }
+
+    /**
+     * Check if an actor is placed on the grid.
+     *
+     * @param actorId The actor to look up.
+     * @return true if the actor occupies a cell.
+     */
+    public boolean contains(final int actorId) {
+        return cellOf(actorId) != NONE;
+    }
+
+    /**
+     * Place an actor on a cell.
+     *
+     * @param actorId The actor to place; must not already be placed.
+     * @param cellIndex The dense cell index.
+     * @throws IllegalArgumentException if the actor id is negative, already placed,
+     *                                  or the cell is out of bounds.
+     */
+    public void place(final int actorId, final int cellIndex) {
+        if (actorId < 0) {
+            throw new IllegalArgumentException("Actor ID must be positive: " + actorId);
+        }
+        checkCell(cellIndex);
+        int placed = slots.slotOf(actorId);
+        if (placed != NONE) {
+            throw new IllegalArgumentException("Actor ID " + actorId + " is already placed at cell "
+                                               + slotCells[placed]);
+        }
+        int slot = allocateSlot(actorId);
+        link(slot, cellIndex);
+    }
+
+    /**
+     * Remove an actor from the grid.
+     *
+     * @param actorId The actor to remove.
+     * @throws IllegalArgumentException if the actor is not placed.
+     */
+    public void remove(final int actorId) {
+        int slot = requirePlaced(actorId);
+        unlink(slot);
+        slots.remove(slot);
+    }
+
+    /**
+     * Move an actor to another cell.
+     *
+     * @param actorId The actor to move.
+     * @param toCell The dense index of the destination cell.
+     * @throws IllegalArgumentException if the actor is not placed or the cell is out of bounds.
+     */
+    public void move(final int actorId, final int toCell) {
+        int slot = requirePlaced(actorId);
+        checkCell(toCell);
+        if (slotCells[slot] == toCell) {
+            return;
+        }
+        unlink(slot);
+        link(slot, toCell);
+    }
+
+    /**
+     * Remove every actor standing on a cell.
+     *
+     * @param cellIndex The dense cell index.
+     */
+    public void clearCell(final int cellIndex) {
+        checkCell(cellIndex);
+        while (heads[cellIndex] != NONE) {
+            remove(slots.actorAt(heads[cellIndex]));
+        }
+    }
+
+    /**
+     * Visit every actor standing on a cell.
+     *
+     * @param cellIndex The dense cell index.
+     * @param visitor Receives each actor id.
+     */
+    public void forEachActorAt(final int cellIndex, final IntConsumer visitor) {
+        for (int slot = heads[cellIndex]; slot != NONE; slot = nextSlot[slot]) {
+            visitor.accept(slots.actorAt(slot));
+        }
+    }
+
+    /**
+     * Visit every occupied cell, in no particular order.
+     *
+     * @param visitor Receives each occupied cell index.
+     */
+    public void forEachOccupiedCell(final IntConsumer visitor) {
+        for (int i = 0; i < occupiedCount; i++) {
+            visitor.accept(occupiedCells[i]);
+        }
+    }
+
+    /**
+     * Visit every placed actor, grouped by cell.
+     *
+     * @param visitor Receives each actor id.
+     */
+    public void forEachActor(final IntConsumer visitor) {
+        for (int i = 0; i < occupiedCount; i++) {
+            forEachActorAt(occupiedCells[i], visitor);
+        }
+    }
+
+    private void link(final int slot, final int cellIndex) {
+        int head = heads[cellIndex];
+        if (head == NONE) {
+            occupiedPositions[cellIndex] = occupiedCount;
+            occupiedCells[occupiedCount++] = cellIndex;
+        } else {
+            previousSlot[head] = slot;
+        }
+        nextSlot[slot] = head;
+        previousSlot[slot] = NONE;
+        heads[cellIndex] = slot;
+        slotCells[slot] = cellIndex;
+        cellActorCounts[cellIndex]++;
+    }
+
+    private void unlink(final int slot) {
+        int cellIndex = slotCells[slot];
+        int previous = previousSlot[slot];
+        int next = nextSlot[slot];
+        if (previous == NONE) {
+            heads[cellIndex] = next;
+        } else {
+            nextSlot[previous] = next;
+        }
+        if (next != NONE) {
+            previousSlot[next] = previous;
+        }
+        slotCells[slot] = NONE;
+        if (--cellActorCounts[cellIndex] == 0) {
+            // Swap-remove the cell from the dense occupied list
+            int position = occupiedPositions[cellIndex];
+            int lastCell = occupiedCells[--occupiedCount];
+            occupiedCells[position] = lastCell;
+            occupiedPositions[lastCell] = position;
+        }
+    }
+
+    private int requirePlaced(final int actorId) {
+        int slot = slots.slotOf(actorId);
+        if (slot == NONE) {
+            throw new IllegalArgumentException("Actor ID " + actorId + " is not placed on the grid");
+        }
+        return slot;
+    }
+
+    private void checkCell(final int cellIndex) {
+        if (cellIndex < 0 || cellIndex >= heads.length) {
+            throw new IllegalArgumentException("Cell index out of bounds: " + cellIndex);
+        }
+    }
+
+    /**
+     * Take a slot for an actor, growing the per-slot arrays to match the slot table.
+     */
+    private int allocateSlot(final int actorId) {
+        int slot = slots.add(actorId);
+        if (slot >= slotCells.length) {
+            int capacity = slots.slotCapacity();
+            slotCells = Arrays.copyOf(slotCells, capacity);
+            nextSlot = Arrays.copyOf(nextSlot, capacity);
+            previousSlot = Arrays.copyOf(previousSlot, capacity);
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,400 @@
+package com.military.coordination.component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * One-bit-per-cell mask over a grid, indexed by {@link GridCoordinate#id()} in row-major order.
+ * <p>
+ * Used as an occupancy layer kept in sync with a {@link GridActorMap} (it is a
+ * {@link GridActorMapListener}), and as a general cell mask for coverage zones or fog.
+ * Queries work on 64-bit words, so counting, scanning and combining masks touch
+ * 64 cells per operation instead of hashing each cell. Not thread-safe.
+ * </p>
+ */
+public final class OccupancyMask implements GridActorMapListener {
+    private static final int WORD_SHIFT = 6;
+    private static final long ALL_BITS = -1L;
+
+    private final int rows;
+    private final int cols;
+    private final int cellCount;
+    private final long[] words;
+
+    /**
+     * Creates an empty mask for a grid of the given size.
+     *
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     */
+    public OccupancyMask(final int rows, final int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.cellCount = Math.multiplyExact(rows, cols);
+        this.words = new long[(cellCount + Long.SIZE - 1) >>> WORD_SHIFT];
+    }
+
+    private OccupancyMask(final OccupancyMask source) {
+        this.rows = source.rows;
+        this.cols = source.cols;
+        this.cellCount = source.cellCount;
+        this.words = source.words.clone();
+    }
+
+    /**
+     * Builds the occupancy mask of a grid actor map.
+     *
+     * @param actorMap The actor map to mirror.
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     * @return A mask with a bit set for every occupied coordinate within the grid.
+     */
+    public static OccupancyMask of(final GridActorMap actorMap, final int rows, final int cols) {
+        OccupancyMask mask = new OccupancyMask(rows, cols);
+        for (GridCoordinate coordinate : actorMap.actorMap().keySet()) {
+            if (mask.contains(coordinate)) {
+                mask.set(mask.indexOf(coordinate));
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return An independent copy of this mask.
+     */
+    public OccupancyMask copy() {
+        return new OccupancyMask(this);
+    }
+
+    /**
+     * @return The number of rows in the grid.
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of columns in the grid.
+     */
+    public int cols() {
+        return cols;
+    }
+
+    /**
+     * @return The number of cells (bits) in the mask.
+     */
+    public int cellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Keep the mask in sync with a grid actor map: a cell is set while any actor occupies it.
+     * Coordinates outside this grid are ignored.
+     */
+    @Override
+    public void cellChanged(final GridCoordinate coordinate, final Set<Integer> before, final Set<Integer> after) {
+        if (contains(coordinate)) {
+            set(indexOf(coordinate), !after.isEmpty());
+        }
+    }
+
+    /**
+     * Check if a cell's bit is set.
+     *
+     * @param cellIndex The dense cell index.
+     * @return true if set.
+     */
+    public boolean get(final int cellIndex) {
+        checkCell(cellIndex);
+        return (words[cellIndex >>> WORD_SHIFT] & (1L << cellIndex)) != 0;
+    }
+
+    /**
+     * Set a cell's bit.
+     *
+     * @param cellIndex The dense cell index.
+     */
+    public void set(final int cellIndex) {
+        checkCell(cellIndex);
+        words[cellIndex >>> WORD_SHIFT] |= 1L << cellIndex;
+    }
+
+    /**
+     * Clear a cell's bit.
+     *
+     * @param cellIndex The dense cell index.
+     */
+    public void clear(final int cellIndex) {
+        checkCell(cellIndex);
+        words[cellIndex >>> WORD_SHIFT] &= ~(1L << cellIndex);
+    }
+
+    /**
+     * Set or clear a cell's bit.
+     *
+     * @param cellIndex The dense cell index.
+     * @param value true to set, false to clear.
+     */
+    public void set(final int cellIndex, final boolean value) {
+        if (value) {
+            set(cellIndex);
+        } else {
+            clear(cellIndex);
+        }
+    }
+
+    /**
+     * Clear every bit.
+     */
+    public void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * @return The number of set cells.
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Count the set cells inside a rectangle. Bounds are inclusive and clamped to the grid.
+     *
+     * @param minRow The first row.
+     * @param minCol The first column.
+     * @param maxRow The last row.
+     * @param maxCol The last column.
+     * @return The number of set cells in the rectangle.
+     */
+    public int countInRectangle(final int minRow, final int minCol, final int maxRow, final int maxCol) {
+        int rowFrom = Math.max(0, minRow);
+        int rowTo = Math.min(rows - 1, maxRow);
+        int colFrom = Math.max(0, minCol);
+        int colTo = Math.min(cols - 1, maxCol);
+        if (rowFrom > rowTo || colFrom > colTo) {
+            return 0;
+        }
+        int count = 0;
+        for (int row = rowFrom; row <= rowTo; row++) {
+            count += countRange(row * cols + colFrom, row * cols + colTo + 1);
+        }
+        return count;
+    }
+
+    /**
+     * Count the set cells in a half-open range of cell indices.
+     *
+     * @param fromIndex The first cell index (inclusive).
+     * @param toIndex The last cell index (exclusive).
+     * @return The number of set cells in the range.
+     */
+    public int countRange(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > cellCount || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid cell range: [" + fromIndex + ", " + toIndex + ")");
+        }
+        if (fromIndex == toIndex) {
+            return 0;
+        }
+        int firstWord = fromIndex >>> WORD_SHIFT;
+        int lastWord = (toIndex - 1) >>> WORD_SHIFT;
+        long firstMask = ALL_BITS << fromIndex;
+        long lastMask = ALL_BITS >>> -toIndex;
+        if (firstWord == lastWord) {
+            return Long.bitCount(words[firstWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[firstWord] & firstMask);
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count + Long.bitCount(words[lastWord] & lastMask);
+    }
+
+    /**
+     * Find the next set cell in row-major order.
+     *
+     * @param fromIndex The cell index to start searching from (inclusive).
+     * @return The index of the next set cell, or -1 if there is none.
+     */
+    public int nextSetCell(final int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IllegalArgumentException("Cell index must be non-negative: " + fromIndex);
+        }
+        if (fromIndex >= cellCount) {
+            return -1;
+        }
+        int wordIndex = fromIndex >>> WORD_SHIFT;
+        long word = words[wordIndex] & (ALL_BITS << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    /**
+     * Find the next free (clear) cell in row-major order.
+     *
+     * @param fromIndex The cell index to start searching from (inclusive).
+     * @return The index of the next clear cell, or -1 if every remaining cell is set.
+     */
+    public int nextClearCell(final int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IllegalArgumentException("Cell index must be non-negative: " + fromIndex);
+        }
+        if (fromIndex >= cellCount) {
+            return -1;
+        }
+        int wordIndex = fromIndex >>> WORD_SHIFT;
+        long word = ~words[wordIndex] & (ALL_BITS << fromIndex);
+        while (true) {
+            if (word != 0) {
+                int index = (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+                return index < cellCount ? index : -1;
+            }
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = ~words[wordIndex];
+        }
+    }
+
+    /**
+     * Visit every set cell in row-major order.
+     *
+     * @param visitor Receives each set cell index.
+     */
+    public void forEachSetCell(final IntConsumer visitor) {
+        for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+            long word = words[wordIndex];
+            while (word != 0) {
+                visitor.accept((wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * Intersect this mask with another of the same grid size, in place.
+     *
+     * @param other The mask to intersect with.
+     * @return This mask, for chaining.
+     */
+    public OccupancyMask and(final OccupancyMask other) {
+        checkSameShape(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * Union this mask with another of the same grid size, in place.
+     *
+     * @param other The mask to union with.
+     * @return This mask, for chaining.
+     */
+    public OccupancyMask or(final OccupancyMask other) {
+        checkSameShape(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * Clear every cell that is set in another mask of the same grid size, in place.
+     *
+     * @param other The mask to subtract.
+     * @return This mask, for chaining.
+     */
+    public OccupancyMask andNot(final OccupancyMask other) {
+        checkSameShape(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * Check if two masks of the same grid size share any set cell.
+     *
+     * @param other The mask to compare with.
+     * @return true if at least one cell is set in both.
+     */
+    public boolean intersects(final OccupancyMask other) {
+        checkSameShape(other);
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if a coordinate lies within this mask's grid.
+     *
+     * @param coordinate The coordinate to check.
+     * @return true if the coordinate's row and column are within bounds.
+     */
+    public boolean contains(final GridCoordinate coordinate) {
+        return coordinate != null && coordinate.row() < rows && coordinate.col() < cols;
+    }
+
+    /**
+     * Get the cell index of a coordinate within this grid; equals {@link GridCoordinate#id()}
+     * for coordinates created by GridUtilities for a grid of this size.
+     *
+     * @param coordinate The coordinate, which must lie within the grid.
+     * @return The row-major cell index.
+     */
+    public int indexOf(final GridCoordinate coordinate) {
+        return coordinate.row() * cols + coordinate.col();
+    }
+
+    private void checkCell(final int cellIndex) {
+        if (cellIndex < 0 || cellIndex >= cellCount) {
+            throw new IllegalArgumentException("Cell index out of bounds: " + cellIndex);
+        }
+    }
+
+    private void checkSameShape(final OccupancyMask other) {
+        if (other.rows != rows || other.cols != cols) {
+            throw new IllegalArgumentException("Mask dimensions differ: " + rows + "x" + cols
+                                               + " vs " + other.rows + "x" + other.cols);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof OccupancyMask that && rows == that.rows && cols == that.cols
+               && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rows + cols) + Arrays.hashCode(words);
+    }
+
+    /**
+     * Returns a string representation of the mask.
+     *
+     * @return A string in the format "OccupancyMask(rows x cols, set)".
+     */
+    @Override
+    public String toString() {
+        return String.format("OccupancyMask(%dx%d, %d set)", rows, cols, cardinality());
+    }
+}
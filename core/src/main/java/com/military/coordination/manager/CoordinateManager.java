@@ -4,15 +4,78 @@ import java.util.HashMap;
 import java.util.UUID;
 
 import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.component.GridCoordinateStore;
 
+/**
+ * Container for the coordinates of each grid, materialized lazily per chunk.
+ * <p>
+ * Coordinates are read through {@link #coordinateAt(UUID, int)}; the per-grid storage is not
+ * exposed as a field, so it can change without touching callers.
+ * </p>
+ */
 public class CoordinateManager {
 
-    public HashMap<UUID, GridCoordinate[]> coordinates;
+    private final HashMap<UUID, GridCoordinateStore> coordinates;
 
-    public CoordinateManager(HashMap<UUID, GridCoordinate[]> coordinates) {
+    public CoordinateManager(HashMap<UUID, GridCoordinateStore> coordinates) {
         this.coordinates = coordinates;
     }
 
+    /**
+     * Register the coordinate store of a grid, replacing any previous one.
+     *
+     * @param gridId The ID of the grid.
+     * @param store The grid's coordinates.
+     */
+    public void register(final UUID gridId, final GridCoordinateStore store) {
+        coordinates.put(gridId, store);
+    }
+
+    /**
+     * @param gridId The ID of the grid.
+     * @return The grid's coordinate store, or null if the grid has none registered.
+     */
+    public GridCoordinateStore store(final UUID gridId) {
+        return coordinates.get(gridId);
+    }
+
+    /**
+     * Get a coordinate of a grid by its row-major index.
+     *
+     * @param gridId The ID of the grid.
+     * @param index The row-major cell index.
+     * @return The coordinate at the index.
+     * @throws IllegalArgumentException if the grid has no coordinates or the index is outside it.
+     */
+    public GridCoordinate coordinateAt(final UUID gridId, final int index) {
+        GridCoordinateStore store = coordinates.get(gridId);
+        if (store == null) {
+            throw new IllegalArgumentException("No coordinates registered for grid ID: " + gridId);
+        }
+        return store.get(index);
+    }
+
+    /**
+     * Release, in every grid, the coordinate chunks not accessed since the previous sweep.
+     * Call periodically from the thread that reads coordinates, so memory tracks the cells in use
+     * instead of every cell ever touched.
+     * @return The number of chunks released.
+     */
+    public int evictUnused() {
+        int evicted = 0;
+        for (GridCoordinateStore store : coordinates.values()) {
+            evicted += store.evictUnused();
+        }
+        return evicted;
+    }
+
+    /**
+     * Release every coordinate chunk of every grid, e.g. on teardown.
+     */
+    public void evictAll() {
+        coordinates.values().forEach(GridCoordinateStore::evictAll);
+    }
+
     @Override
     public final String toString() {
         StringBuilder sb = new StringBuilder("CoordinateManager{\n");
@@ -20,7 +83,7 @@ public class CoordinateManager {
             sb.append("  ")
               .append(key)
               .append(": ")
-              .append(java.util.Arrays.toString(value))
+              .append(value)
               .append("\n");
         });
         sb.append("  size=").append(coordinates.size()).append("\n");
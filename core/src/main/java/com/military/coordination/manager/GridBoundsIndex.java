@@ -0,0 +1,182 @@
+package com.military.coordination.manager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.military.coordination.actor.GridActor;
+
+/**
+ * Immutable R-tree over the world-space bounds of grid actors, bulk-loaded with the
+ * Sort-Tile-Recursive packing so every node is full and the tree is balanced.
+ * <p>
+ * A grid covers the half-open rectangle from its position to its right and top edges, so a
+ * point on a shared edge belongs to exactly one of two adjacent grids. Point and rectangle
+ * queries descend only into nodes whose bounds match, which is O(log n) plus the number of
+ * grids reported. Bounds are captured at construction; {@link GridManager} rebuilds the index
+ * when a grid moves or the set of grids changes.
+ * </p>
+ */
+public final class GridBoundsIndex {
+    /** Maximum number of children per node. */
+    public static final int NODE_CAPACITY = 8;
+
+    /**
+     * A tree node: a leaf holds one grid, an inner node up to {@link #NODE_CAPACITY} children.
+     */
+    private static final class Node {
+        private final float minX;
+        private final float minY;
+        private final float maxX;
+        private final float maxY;
+        private final GridActor grid;
+        private final Node[] children;
+
+        private Node(final GridActor grid) {
+            this.minX = grid.getX();
+            this.minY = grid.getY();
+            this.maxX = grid.getGridRight();
+            this.maxY = grid.getGridTop();
+            this.grid = grid;
+            this.children = null;
+        }
+
+        private Node(final List<Node> children) {
+            float lowX = Float.POSITIVE_INFINITY;
+            float lowY = Float.POSITIVE_INFINITY;
+            float highX = Float.NEGATIVE_INFINITY;
+            float highY = Float.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                lowX = Math.min(lowX, child.minX);
+                lowY = Math.min(lowY, child.minY);
+                highX = Math.max(highX, child.maxX);
+                highY = Math.max(highY, child.maxY);
+            }
+            this.minX = lowX;
+            this.minY = lowY;
+            this.maxX = highX;
+            this.maxY = highY;
+            this.grid = null;
+            this.children = children.toArray(new Node[0]);
+        }
+
+        private float centreX() {
+            return (minX + maxX) / 2f;
+        }
+
+        private float centreY() {
+            return (minY + maxY) / 2f;
+        }
+    }
+
+    private final Node root;
+    private final int size;
+
+    /**
+     * Build an index over the current bounds of some grids.
+     *
+     * @param grids The grids to index.
+     */
+    public GridBoundsIndex(final Collection<GridActor> grids) {
+        List<Node> level = new ArrayList<>(grids.size());
+        for (GridActor grid : grids) {
+            level.add(new Node(grid));
+        }
+        this.size = level.size();
+        while (level.size() > 1) {
+            level = pack(level);
+        }
+        this.root = level.isEmpty() ? null : level.get(0);
+    }
+
+    /**
+     * @return The number of grids indexed.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Visit every grid whose bounds contain a world point.
+     *
+     * @param x       The world x position.
+     * @param y       The world y position.
+     * @param visitor Receives each grid under the point.
+     */
+    public void forEachAt(final float x, final float y, final Consumer<GridActor> visitor) {
+        if (root != null) {
+            visitAt(root, x, y, visitor);
+        }
+    }
+
+    /**
+     * Visit every grid whose bounds overlap a world rectangle. Bounds are inclusive.
+     *
+     * @param minX    The left edge.
+     * @param minY    The bottom edge.
+     * @param maxX    The right edge.
+     * @param maxY    The top edge.
+     * @param visitor Receives each overlapping grid.
+     */
+    public void forEachIntersecting(final float minX, final float minY, final float maxX, final float maxY,
+                                    final Consumer<GridActor> visitor) {
+        if (minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("Invalid rectangle: [" + minX + ", " + minY + "] to ["
+                                               + maxX + ", " + maxY + "]");
+        }
+        if (root != null) {
+            visitIntersecting(root, minX, minY, maxX, maxY, visitor);
+        }
+    }
+
+    private static void visitAt(final Node node, final float x, final float y, final Consumer<GridActor> visitor) {
+        if (x < node.minX || x >= node.maxX || y < node.minY || y >= node.maxY) {
+            return;
+        }
+        if (node.grid != null) {
+            visitor.accept(node.grid);
+            return;
+        }
+        for (Node child : node.children) {
+            visitAt(child, x, y, visitor);
+        }
+    }
+
+    private static void visitIntersecting(final Node node, final float minX, final float minY, final float maxX,
+                                          final float maxY, final Consumer<GridActor> visitor) {
+        if (maxX < node.minX || minX >= node.maxX || maxY < node.minY || minY >= node.maxY) {
+            return;
+        }
+        if (node.grid != null) {
+            visitor.accept(node.grid);
+            return;
+        }
+        for (Node child : node.children) {
+            visitIntersecting(child, minX, minY, maxX, maxY, visitor);
+        }
+    }
+
+    /**
+     * Group one level into parents: sort by x, cut into vertical slices of whole nodes, then
+     * sort each slice by y and fill parents in order.
+     */
+    private static List<Node> pack(final List<Node> level) {
+        int parentCount = (level.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(parentCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+        List<Node> sorted = new ArrayList<>(level);
+        sorted.sort(Comparator.comparingDouble(Node::centreX));
+        List<Node> parents = new ArrayList<>(parentCount);
+        for (int sliceStart = 0; sliceStart < sorted.size(); sliceStart += sliceSize) {
+            List<Node> slice = new ArrayList<>(sorted.subList(sliceStart, Math.min(sorted.size(),
+                                                                                  sliceStart + sliceSize)));
+            slice.sort(Comparator.comparingDouble(Node::centreY));
+            for (int start = 0; start < slice.size(); start += NODE_CAPACITY) {
+                parents.add(new Node(slice.subList(start, Math.min(slice.size(), start + NODE_CAPACITY))));
+            }
+        }
+        return parents;
+    }
+}
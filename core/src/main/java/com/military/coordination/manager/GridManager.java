@@ -1,16 +1,41 @@
 package com.military.coordination.manager;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.LongConsumer;
 
 import com.military.coordination.actor.GridActor;
+import com.military.coordination.component.CellHandle;
+import com.military.coordination.utils.GridUtilities;
 
 /**
- * Immutable container for grid storage and lookup.
+ * Mutable registry of grids: storage and lookup by ID, dense int handles and world-space hit testing.
+ * <p>
+ * The grid map is shared with callers, who add and remove grids through it. Handles are assigned
+ * on first use and never reused. Spatial queries are served from a bounds index that is rebuilt
+ * lazily after the set of grids changes or a grid moves. The rebuild also installs a bounds
+ * listener on every {@link GridActor}.
+ * </p>
+ * <p>
+ * Not thread-safe. Even the query methods may rebuild the index and assign handles, so every call
+ * must stay on one thread, such as the render thread, or be externally synchronized.
+ * </p>
  */
 public class GridManager {
     public Map<UUID, GridActor> grids;
 
+    // Dense int handles for grids, used by packed cell handles
+    private final Map<UUID, Integer> handles = new HashMap<>();
+    private final List<UUID> handleIds = new ArrayList<>();
+
+    // World-space index of grid bounds, rebuilt lazily after a grid moves or the set of grids changes
+    private GridBoundsIndex boundsIndex;
+    private boolean boundsDirty = true;
+
     public GridManager(Map<UUID, GridActor> grids) {
         this.grids = grids;
     }
@@ -18,6 +43,129 @@ public class GridManager {
     public Map<UUID, GridActor> grids() {
         return grids;
     }
+
+    /**
+     * Get the dense int handle of a grid, assigning the next free one on first use.
+     * @param gridId The ID of a registered grid.
+     * @return The grid's handle; stable for the lifetime of this manager.
+     * @throws IllegalArgumentException if the grid is not registered.
+     */
+    public int handleOf(final UUID gridId) {
+        Integer handle = handles.get(gridId);
+        if (handle != null) {
+            return handle;
+        }
+        if (!grids.containsKey(gridId)) {
+            throw new IllegalArgumentException("Unknown grid: " + gridId);
+        }
+        handleIds.add(gridId);
+        handles.put(gridId, handleIds.size() - 1);
+        return handleIds.size() - 1;
+    }
+
+    /**
+     * Get a grid by its int handle.
+     * @param handle A handle returned by {@link #handleOf(UUID)}.
+     * @return The grid actor, or null if the grid has since been removed.
+     * @throws IllegalArgumentException if the handle was never assigned.
+     */
+    public GridActor gridByHandle(final int handle) {
+        if (handle < 0 || handle >= handleIds.size()) {
+            throw new IllegalArgumentException("Unknown grid handle: " + handle);
+        }
+        return grids.get(handleIds.get(handle));
+    }
+
+    /**
+     * Get every grid whose bounds contain a world point.
+     * @param x The world x position.
+     * @param y The world y position.
+     * @return The grids under the point, possibly empty.
+     */
+    public List<GridActor> gridsAt(final float x, final float y) {
+        List<GridActor> found = new ArrayList<>();
+        boundsIndex().forEachAt(x, y, found::add);
+        return found;
+    }
+
+    /**
+     * Get every grid whose bounds overlap a world rectangle. Bounds are inclusive.
+     * @param minX The left edge.
+     * @param minY The bottom edge.
+     * @param maxX The right edge.
+     * @param maxY The top edge.
+     * @return The overlapping grids, possibly empty.
+     */
+    public List<GridActor> gridsIn(final float minX, final float minY, final float maxX, final float maxY) {
+        List<GridActor> found = new ArrayList<>();
+        boundsIndex().forEachIntersecting(minX, minY, maxX, maxY, found::add);
+        return found;
+    }
+
+    /**
+     * Get the cell under a world point in every grid covering it, honouring each grid's position.
+     * @param x The world x position.
+     * @param y The world y position.
+     * @return One packed {@link CellHandle} per grid under the point.
+     */
+    public long[] cellsAt(final float x, final float y) {
+        List<GridActor> found = gridsAt(x, y);
+        long[] cells = new long[found.size()];
+        int count = 0;
+        for (GridActor grid : found) {
+            // Float rounding at the far edge can put a point inside the bounds but past the last cell
+            int cellIndex = GridUtilities.toCellIndex(grid, x, y);
+            if (cellIndex >= 0) {
+                cells[count++] = CellHandle.ofCell(handleOf(grid.id), cellIndex, grid.grid.cols());
+            }
+        }
+        return count == cells.length ? cells : Arrays.copyOf(cells, count);
+    }
+
+    /**
+     * Visit every cell of every grid overlapping a world rectangle. Bounds are inclusive.
+     * @param minX The left edge.
+     * @param minY The bottom edge.
+     * @param maxX The right edge.
+     * @param maxY The top edge.
+     * @param visitor Receives a packed {@link CellHandle} for each cell.
+     */
+    public void forEachCellIn(final float minX, final float minY, final float maxX, final float maxY,
+                              final LongConsumer visitor) {
+        for (GridActor grid : gridsIn(minX, minY, maxX, maxY)) {
+            int cellSize = grid.grid.cellSize();
+            int gridHandle = handleOf(grid.id);
+            int colFrom = Math.max(0, (int) Math.floor((minX - grid.getX()) / cellSize));
+            int colTo = Math.min(grid.grid.cols() - 1, (int) Math.floor((maxX - grid.getX()) / cellSize));
+            int rowFrom = Math.max(0, (int) Math.floor((minY - grid.getY()) / cellSize));
+            int rowTo = Math.min(grid.grid.rows() - 1, (int) Math.floor((maxY - grid.getY()) / cellSize));
+            for (int row = rowFrom; row <= rowTo; row++) {
+                for (int col = colFrom; col <= colTo; col++) {
+                    visitor.accept(CellHandle.pack(gridHandle, row, col));
+                }
+            }
+        }
+    }
+
+    /**
+     * Force the bounds index to be rebuilt before the next spatial query. Grid moves made via
+     * setX/setY/setPosition and grids added through GridUtilities are detected automatically.
+     */
+    public void invalidateBounds() {
+        boundsDirty = true;
+    }
+
+    private GridBoundsIndex boundsIndex() {
+        if (boundsDirty || boundsIndex == null || boundsIndex.size() != grids.size()) {
+            for (GridActor grid : grids.values()) {
+                grid.setBoundsListener(this::invalidateBounds);
+            }
+            boundsIndex = new GridBoundsIndex(grids.values());
+            boundsDirty = false;
+        }
+        return boundsIndex;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("GridManager{\n");
@@ -9,26 +9,50 @@ package com.military.coordination.model;
  * interception.</li>
  * <li>{@link #DRONE} - Mobile drone node, flexible but limited range.</li>
  * </ul>
+ * Each type has a peak signal strength at its own cell and a range in cells beyond which
+ * it provides no signal.
  */
 public enum TowerType {
     /**
      * Permanent, high-integrity infrastructure tower.
      * See {@link TowerType} for details.
      */
-    STATIC,
+    STATIC(100, 6),
     /**
      * Deployable field tower for temporary operations.
      * See {@link TowerType} for details.
      */
-    FIELD,
+    FIELD(90, 4),
     /**
      * Civilian relay, low security, high risk of interception.
      * See {@link TowerType} for details.
      */
-    CIVILIAN,
+    CIVILIAN(70, 5),
     /**
      * Mobile drone node, flexible but limited range.
      * See {@link TowerType} for details.
      */
-    DRONE
+    DRONE(80, 3);
+
+    private final int peakSignal;
+    private final int range;
+
+    TowerType(final int peakSignal, final int range) {
+        this.peakSignal = peakSignal;
+        this.range = range;
+    }
+
+    /**
+     * @return The signal strength (0-100) at the tower's own cell.
+     */
+    public int peakSignal() {
+        return peakSignal;
+    }
+
+    /**
+     * @return The furthest distance, in cells, at which the tower still provides signal.
+     */
+    public int range() {
+        return range;
+    }
 }
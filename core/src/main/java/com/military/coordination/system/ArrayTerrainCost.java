@@ -0,0 +1,34 @@
+package com.military.coordination.system;
+
+/**
+ * Terrain cost read from a per-cell array, as created by {@link TerrainCost#of(int[])}.
+ * <p>
+ * Two instances are equal when they read the same array, so movement profiles built over the
+ * same terrain in separate calls compare equal and share cache entries. Contents are not
+ * compared: the array is not copied, so it is the identity of the terrain.
+ * </p>
+ *
+ * @param costs The cost of each cell, indexed by row-major cell index.
+ */
+record ArrayTerrainCost(int[] costs) implements TerrainCost {
+
+    @Override
+    public int costOf(final int cellIndex) {
+        return costs[cellIndex];
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof ArrayTerrainCost terrain && terrain.costs == costs;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(costs);
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayTerrainCost[" + costs.length + " cells]";
+    }
+}
@@ -0,0 +1,13 @@
+package com.military.coordination.system;
+
+/**
+ * What {@link CommandIngress} does with a command submitted while it is full.
+ */
+public enum BackpressurePolicy {
+    /** Refuse the new command; the producer learns it from the return value. */
+    REJECT,
+    /** Discard the oldest waiting command to make room for the new one, rejecting it if no room can be made. */
+    DROP_OLDEST,
+    /** Wait until the consumer frees a slot. */
+    BLOCK
+}
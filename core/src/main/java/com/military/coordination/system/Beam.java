@@ -0,0 +1,65 @@
+package com.military.coordination.system;
+
+import com.military.coordination.component.GlobalsComponent;
+
+/**
+ * Directional beam of a tower: cells within the sector are boosted, every other cell of the
+ * tower's footprint is weakened.
+ * <p>
+ * Angles are whole degrees measured from the direction of increasing column towards the
+ * direction of increasing row, so 0 points along a row and 90 along a column.
+ * </p>
+ *
+ * @param heading         Centre of the sector, 0-359 degrees.
+ * @param width           Angular width of the sector, 1-360 degrees.
+ * @param boostPercent    Strength inside the sector, as a percentage of the omnidirectional
+ *                        strength, 100 to {@link #MAX_BOOST_PERCENT}. Results are capped at the
+ *                        maximum signal strength.
+ * @param offBeamPercent  Strength outside the sector, as a percentage of the omnidirectional
+ *                        strength (0-100).
+ */
+public record Beam(int heading, int width, int boostPercent, int offBeamPercent) {
+
+    /** Largest accepted boost; any stronger beam already saturates every cell it covers. */
+    public static final int MAX_BOOST_PERCENT = 100 * GlobalsComponent.MAX_SIGNAL_STRENGTH;
+
+    /**
+     * Compact constructor with validation.
+     */
+    public Beam {
+        if (heading < 0 || heading >= 360) {
+            throw new IllegalArgumentException("Beam heading must be between 0 and 359 degrees");
+        }
+        if (width < 1 || width > 360) {
+            throw new IllegalArgumentException("Beam width must be between 1 and 360 degrees");
+        }
+        if (boostPercent < 100 || boostPercent > MAX_BOOST_PERCENT) {
+            throw new IllegalArgumentException("Beam boost must be between 100 and " + MAX_BOOST_PERCENT
+                                               + " percent");
+        }
+        if (offBeamPercent < 0 || offBeamPercent > 100) {
+            throw new IllegalArgumentException("Off-beam strength must be between 0 and 100 percent");
+        }
+    }
+
+    /**
+     * Check if a direction lies inside the sector.
+     *
+     * @param angle The direction, 0-359 degrees.
+     * @return true if the direction is within half the width of the heading.
+     */
+    public boolean covers(final int angle) {
+        int difference = Math.abs(angle - heading);
+        return 2 * Math.min(difference, 360 - difference) <= width;
+    }
+
+    /**
+     * Return a copy of this beam pointing in another direction.
+     *
+     * @param newHeading The new centre of the sector, 0-359 degrees.
+     * @return A beam with the same shape and the new heading.
+     */
+    public Beam withHeading(final int newHeading) {
+        return new Beam(newHeading, width, boostPercent, offBeamPercent);
+    }
+}
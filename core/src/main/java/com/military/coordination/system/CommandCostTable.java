@@ -0,0 +1,115 @@
+package com.military.coordination.system;
+
+import java.util.Arrays;
+
+import com.military.coordination.model.CommandType;
+
+/**
+ * Precomputed command costs of one {@link CommandType}, for the table-driven mode of
+ * {@link CommandSystem#calculateCost}.
+ * <p>
+ * The exact cost is {@code baseCost * (300 - trust + stress - signal) / 100}, so it depends on the
+ * inputs only through that sum, and a 401-entry table holds it. The formula truncates a double,
+ * which can land one below the exact cost, but only where the exact cost is a whole number. Those
+ * sums keep a sorted array of the (trust, stress, signal) triples that round down; every other sum
+ * has none. A table is a few kilobytes, built on first use of its type, and a lookup is two array
+ * reads, plus a binary search over one sum's exceptions when the cost is whole.
+ * </p>
+ */
+final class CommandCostTable {
+    private static final int VALUES = 101;
+    private static final int MAX_SUM = 400;
+    private static final CommandCostTable[] TABLES = new CommandCostTable[CommandType.values().length];
+
+    private final int[] costBySum;
+    // Per sum: sorted indices of the triples the formula rounds down, or null if there are none
+    private final int[][] roundedDownBySum;
+
+    private CommandCostTable(final int baseCost) {
+        if (baseCost <= 0 || baseCost > Integer.MAX_VALUE / MAX_SUM) {
+            throw new IllegalArgumentException("Base cost out of range: " + baseCost);
+        }
+        this.costBySum = new int[MAX_SUM + 1];
+        this.roundedDownBySum = new int[MAX_SUM + 1][];
+        int[] counts = new int[MAX_SUM + 1];
+        for (int sum = 0; sum <= MAX_SUM; sum++) {
+            costBySum[sum] = baseCost * sum / 100;
+        }
+        for (int trust = 0; trust < VALUES; trust++) {
+            for (int stress = 0; stress < VALUES; stress++) {
+                for (int signal = 0; signal < VALUES; signal++) {
+                    int sum = sum(trust, stress, signal);
+                    // A fractional exact cost truncates the same way in both, so only whole costs are checked
+                    if (baseCost * sum % 100 != 0
+                        || CommandSystem.formulaCost(baseCost, trust, stress, signal) >= costBySum[sum]) {
+                        continue;
+                    }
+                    int[] exceptions = roundedDownBySum[sum];
+                    if (exceptions == null) {
+                        exceptions = new int[8];
+                    } else if (counts[sum] == exceptions.length) {
+                        exceptions = Arrays.copyOf(exceptions, exceptions.length * 2);
+                    }
+                    // Triples are visited in index order, so each array stays sorted
+                    exceptions[counts[sum]++] = index(trust, stress, signal);
+                    roundedDownBySum[sum] = exceptions;
+                }
+            }
+        }
+        for (int sum = 0; sum <= MAX_SUM; sum++) {
+            if (roundedDownBySum[sum] != null) {
+                roundedDownBySum[sum] = Arrays.copyOf(roundedDownBySum[sum], counts[sum]);
+            }
+        }
+    }
+
+    /**
+     * Look up a cost. Inputs must already be validated as percentages.
+     *
+     * @param type           The command type.
+     * @param unitTrust      Trust level of the unit (0-100).
+     * @param unitStress     Stress level of the unit (0-100).
+     * @param signalStrength Signal strength for transmission (0-100).
+     * @return The same cost as the formula.
+     */
+    static int cost(final CommandType type, final int unitTrust, final int unitStress, final int signalStrength) {
+        CommandCostTable table = TABLES[type.ordinal()];
+        if (table == null) {
+            table = build(type);
+        }
+        int sum = sum(unitTrust, unitStress, signalStrength);
+        int[] exceptions = table.roundedDownBySum[sum];
+        if (exceptions != null && Arrays.binarySearch(exceptions, index(unitTrust, unitStress, signalStrength)) >= 0) {
+            return table.costBySum[sum] - 1;
+        }
+        return table.costBySum[sum];
+    }
+
+    /**
+     * @param type The command type.
+     * @return true if the table of the type has been built.
+     */
+    static boolean isBuilt(final CommandType type) {
+        synchronized (TABLES) {
+            return TABLES[type.ordinal()] != null;
+        }
+    }
+
+    private static CommandCostTable build(final CommandType type) {
+        synchronized (TABLES) {
+            // Tables are immutable with final fields, so a racy read of the slot sees a complete table
+            if (TABLES[type.ordinal()] == null) {
+                TABLES[type.ordinal()] = new CommandCostTable(CommandSystem.getBaseCost(type));
+            }
+            return TABLES[type.ordinal()];
+        }
+    }
+
+    private static int sum(final int trust, final int stress, final int signal) {
+        return 300 - trust + stress - signal;
+    }
+
+    private static int index(final int trust, final int stress, final int signal) {
+        return (trust * VALUES + stress) * VALUES + signal;
+    }
+}
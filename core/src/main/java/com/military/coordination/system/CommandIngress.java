@@ -0,0 +1,227 @@
+package com.military.coordination.system;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.military.coordination.model.Command;
+
+/**
+ * Lock-free bounded ring buffer carrying commands from any number of producer threads (UI,
+ * console, scripted clients) to the tick thread.
+ * <p>
+ * Every slot carries a sequence number telling whose turn it is: a producer claims a slot by
+ * advancing the tail with one compare-and-set, writes the command, then publishes it by bumping the
+ * slot's sequence; the consumer does the reverse from the head. No thread ever holds a lock, and a
+ * stalled producer only delays the slot it claimed. Removal is safe from several threads, which lets
+ * {@link BackpressurePolicy#DROP_OLDEST} producers evict from the head themselves.
+ * </p>
+ * <p>
+ * A full buffer is handled by the configured {@link BackpressurePolicy}. Only
+ * {@link BackpressurePolicy#BLOCK} makes a producer wait, spinning briefly and then parking until
+ * the tick thread drains. A {@link BackpressurePolicy#DROP_OLDEST} producer makes a bounded number
+ * of evict-and-retry attempts; if the head slot stays claimed by a stalled producer throughout, the
+ * new command is rejected instead.
+ * </p>
+ */
+public final class CommandIngress {
+    private static final int SPINS_BEFORE_PARK = 64;
+    private static final int DROP_ATTEMPTS = 64;
+    private static final long PARK_NANOS = 100_000;
+
+    /**
+     * Snapshot of ingress counters.
+     *
+     * @param submitted Commands accepted into the buffer.
+     * @param rejected  Commands refused because the buffer was full, room could not be made by dropping,
+     *                  or a blocked producer was interrupted.
+     * @param dropped   Waiting commands discarded to make room for newer ones.
+     * @param blocked   Submissions that had to wait for a free slot.
+     */
+    public record Stats(long submitted, long rejected, long dropped, long blocked) {
+    }
+
+    private final BackpressurePolicy policy;
+    private final int mask;
+    private final AtomicReferenceArray<Command> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+
+    /**
+     * Creates an empty ingress.
+     *
+     * @param capacity The number of slots, a power of two.
+     * @param policy   What to do when the buffer is full.
+     */
+    public CommandIngress(final int capacity, final BackpressurePolicy policy) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two of at least 2, got: " + capacity);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Backpressure policy cannot be null");
+        }
+        this.policy = policy;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return The number of slots.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return The backpressure policy.
+     */
+    public BackpressurePolicy policy() {
+        return policy;
+    }
+
+    /**
+     * @return The approximate number of waiting commands; exact only while no thread is active.
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * Submit a command from any thread.
+     *
+     * @param command The command.
+     * @return true if the command was accepted; false if it was rejected.
+     */
+    public boolean submit(final Command command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        if (tryOffer(command)) {
+            submitted.increment();
+            return true;
+        }
+        return switch (policy) {
+            case REJECT -> {
+                rejected.increment();
+                yield false;
+            }
+            case DROP_OLDEST -> dropOldestAndOffer(command);
+            case BLOCK -> awaitSlot(command);
+        };
+    }
+
+    /**
+     * Remove up to a number of commands in submission order. Meant for the tick thread.
+     *
+     * @param consumer Receives each command.
+     * @param maxCount The largest batch to take.
+     * @return The number of commands taken.
+     */
+    public int drainTo(final Consumer<Command> consumer, final int maxCount) {
+        int count = 0;
+        Command command;
+        while (count < maxCount && (command = tryPoll()) != null) {
+            consumer.accept(command);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return The current counters.
+     */
+    public Stats stats() {
+        return new Stats(submitted.sum(), rejected.sum(), dropped.sum(), blocked.sum());
+    }
+
+    private boolean dropOldestAndOffer(final Command command) {
+        for (int attempt = 0; attempt < DROP_ATTEMPTS; attempt++) {
+            if (tryPoll() != null) {
+                dropped.increment();
+            } else {
+                // The head slot is claimed but not yet published
+                Thread.onSpinWait();
+            }
+            if (tryOffer(command)) {
+                submitted.increment();
+                return true;
+            }
+        }
+        rejected.increment();
+        return false;
+    }
+
+    private boolean awaitSlot(final Command command) {
+        blocked.increment();
+        int spins = 0;
+        while (!tryOffer(command)) {
+            if (Thread.currentThread().isInterrupted()) {
+                rejected.increment();
+                return false;
+            }
+            if (spins++ < SPINS_BEFORE_PARK) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+        submitted.increment();
+        return true;
+    }
+
+    private boolean tryOffer(final Command command) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.setPlain(index, command);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot still holds the command from one lap ago: full
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private Command tryPoll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    Command command = slots.getPlain(index);
+                    slots.setPlain(index, null);
+                    sequences.setRelease(index, position + mask + 1);
+                    return command;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                // Not yet published: empty, or a producer is mid-write
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.military.coordination.system;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.military.coordination.model.Command;
+import com.military.coordination.model.CommandStatus;
+import com.military.coordination.model.Priority;
+
+/**
+ * Bandwidth-limited command queue of a signal tower.
+ * <p>
+ * Commands wait in an indexed binary heap ordered by urgency ({@link CommandSystem#isUrgent}),
+ * then by {@link CommandSystem#getPriorityScore}, then by arrival. Each entry remembers its heap
+ * slot, so cancelling or preempting a command by id is a hash lookup plus one O(log n) sift, and
+ * a tick costs O(k log n) for the k commands it releases regardless of how many are waiting.
+ * </p>
+ * <p>
+ * Each {@link #processTick()} releases at most {@link #maxConcurrentCommands()} commands.
+ * Cancelling a queued command wastes one slot of the next tick's bandwidth; preempting one moves
+ * it ahead of every command that has not been preempted. Not thread-safe: the tick thread owns
+ * the queue.
+ * </p>
+ */
+public final class CommandQueue {
+    /** Commands released per tick by default. */
+    public static final int DEFAULT_MAX_CONCURRENT_COMMANDS = 3;
+    /** Interval between ticks of the queue. */
+    public static final Duration COMMAND_TICK_RATE = Duration.ofSeconds(5);
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int PREEMPTED_RANK = 0;
+
+    /**
+     * A queued command and its position in the heap.
+     */
+    private static final class Entry {
+        private final Command command;
+        private int rank;
+        private long sequence;
+        private int heapIndex;
+
+        private Entry(final Command command, final int rank, final long sequence) {
+            this.command = command;
+            this.rank = rank;
+            this.sequence = sequence;
+        }
+    }
+
+    private final int maxConcurrentCommands;
+    private final Map<UUID, Entry> entriesById = new HashMap<>();
+    private Entry[] heap = new Entry[INITIAL_CAPACITY];
+    private int size;
+    private long nextSequence;
+    private int wastedSlots;
+
+    /**
+     * Creates a queue with the default bandwidth.
+     */
+    public CommandQueue() {
+        this(DEFAULT_MAX_CONCURRENT_COMMANDS);
+    }
+
+    /**
+     * Creates a queue.
+     *
+     * @param maxConcurrentCommands The number of commands released per tick.
+     */
+    public CommandQueue(final int maxConcurrentCommands) {
+        if (maxConcurrentCommands <= 0) {
+            throw new IllegalArgumentException("Max concurrent commands must be positive");
+        }
+        this.maxConcurrentCommands = maxConcurrentCommands;
+    }
+
+    /**
+     * @return The number of commands released per tick.
+     */
+    public int maxConcurrentCommands() {
+        return maxConcurrentCommands;
+    }
+
+    /**
+     * @return The number of queued commands.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if no command is queued.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param commandId The command ID.
+     * @return true if the command is queued.
+     */
+    public boolean contains(final UUID commandId) {
+        return entriesById.containsKey(commandId);
+    }
+
+    /**
+     * @return The command the next tick releases first, if any.
+     */
+    public Optional<Command> peek() {
+        return size == 0 ? Optional.empty() : Optional.of(heap[0].command);
+    }
+
+    /**
+     * @return The slots of the next tick already wasted by cancellations.
+     */
+    public int wastedSlots() {
+        return wastedSlots;
+    }
+
+    /**
+     * Queue a pending command.
+     *
+     * @param command The command to queue.
+     */
+    public void enqueue(final Command command) {
+        if (command.status() != CommandStatus.PENDING) {
+            throw new IllegalArgumentException("Only pending commands can be queued, got: " + command.status());
+        }
+        if (entriesById.containsKey(command.id())) {
+            throw new IllegalArgumentException("Command already queued: " + command.id());
+        }
+        Entry entry = new Entry(command, rankOf(command), nextSequence++);
+        entriesById.put(command.id(), entry);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        entry.heapIndex = size;
+        heap[size++] = entry;
+        siftUp(entry.heapIndex);
+    }
+
+    /**
+     * Cancel a queued command. The cancellation wastes one slot of the next tick.
+     *
+     * @param commandId The command ID.
+     * @return The command marked {@link CommandStatus#CANCELLED}, or empty if it is not queued.
+     */
+    public Optional<Command> cancel(final UUID commandId) {
+        Entry entry = entriesById.get(commandId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        remove(entry);
+        wastedSlots = Math.min(maxConcurrentCommands, wastedSlots + 1);
+        return Optional.of(entry.command.withStatus(CommandStatus.CANCELLED));
+    }
+
+    /**
+     * Move a queued command ahead of every command that has not been preempted. Preempted commands
+     * keep the order in which they were preempted.
+     *
+     * @param commandId The command ID.
+     * @return true if the command was queued.
+     */
+    public boolean preempt(final UUID commandId) {
+        Entry entry = entriesById.get(commandId);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.rank != PREEMPTED_RANK) {
+            entry.rank = PREEMPTED_RANK;
+            entry.sequence = nextSequence++;
+            siftUp(entry.heapIndex);
+        }
+        return true;
+    }
+
+    /**
+     * Release the commands for one tick: up to the bandwidth, minus the slots wasted by
+     * cancellations since the previous tick.
+     *
+     * @return The released commands in order, marked {@link CommandStatus#EXECUTING}.
+     */
+    public List<Command> processTick() {
+        int budget = maxConcurrentCommands - wastedSlots;
+        wastedSlots = 0;
+        List<Command> released = new ArrayList<>(Math.min(budget, size));
+        while (released.size() < budget && size > 0) {
+            Entry entry = heap[0];
+            remove(entry);
+            released.add(entry.command.withStatus(CommandStatus.EXECUTING));
+        }
+        return released;
+    }
+
+    /**
+     * Rank a command: preempted first, then urgent commands, then by priority score.
+     */
+    private static int rankOf(final Command command) {
+        // Priority scores start at 1, leaving 0 for preempted commands
+        int urgencyOffset = CommandSystem.isUrgent(command) ? 0 : Priority.values().length;
+        return urgencyOffset + CommandSystem.getPriorityScore(command);
+    }
+
+    private void remove(final Entry entry) {
+        entriesById.remove(entry.command.id());
+        int index = entry.heapIndex;
+        Entry last = heap[--size];
+        heap[size] = null;
+        if (index < size) {
+            heap[index] = last;
+            last.heapIndex = index;
+            siftDown(index);
+            siftUp(last.heapIndex);
+        }
+    }
+
+    private static boolean before(final Entry a, final Entry b) {
+        return a.rank != b.rank ? a.rank < b.rank : a.sequence < b.sequence;
+    }
+
+    private void siftUp(final int start) {
+        int index = start;
+        Entry entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(entry, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            heap[index].heapIndex = index;
+            index = parent;
+        }
+        heap[index] = entry;
+        entry.heapIndex = index;
+    }
+
+    private void siftDown(final int start) {
+        int index = start;
+        Entry entry = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], entry)) {
+                break;
+            }
+            heap[index] = heap[child];
+            heap[index].heapIndex = index;
+            index = child;
+        }
+        heap[index] = entry;
+        entry.heapIndex = index;
+    }
+}
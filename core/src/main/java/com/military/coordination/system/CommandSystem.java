@@ -13,6 +13,14 @@ import com.military.coordination.model.CommandType;
 public final class CommandSystem {
     public static final double MULTIPLIER_BASE = 100;
     public static final int MINIMUM_BASE_COST = 1;
+    /** System property that, set to true at startup, makes {@link #calculateCost} use lookup tables. */
+    public static final String COST_TABLES_PROPERTY = "military.cost.tables.enabled";
+
+    private static final int PERCENT = 100;
+    // 100 * (1 + (100 - trust) / 100 + stress / 100 + (100 - signal) / 100) = 300 - trust + stress - signal
+    private static final int PERCENT_SUM_OFFSET = 300;
+    private static final int[] BASE_COSTS = baseCosts();
+    private static final boolean COST_TABLES_ENABLED = Boolean.getBoolean(COST_TABLES_PROPERTY);
 
     private CommandSystem() {
         // Utility class - no instances
@@ -40,6 +48,7 @@ public final class CommandSystem {
     /**
      * Calculate command execution cost based on game mechanics.
      * Pure function implementing the Tower Trust System cost algorithm.
+     * Uses precomputed per-type tables instead when {@link #costTablesEnabled()}; results are identical.
      *
      * @param command        The command to calculate cost for
      * @param unitTrust      Trust level of the unit (0-100)
@@ -53,9 +62,64 @@ public final class CommandSystem {
         validatePercentage(unitStress, "Unit stress");
         validatePercentage(signalStrength, "Signal strength");
 
+        if (COST_TABLES_ENABLED) {
+            return CommandCostTable.cost(command.type(), unitTrust, unitStress, signalStrength);
+        }
+
         // Base cost for command type
-        int baseCost = getBaseCost(command.type());
+        return formulaCost(getBaseCost(command.type()), unitTrust, unitStress, signalStrength);
+    }
+
+    /**
+     * @return true if {@link #calculateCost} looks costs up in precomputed tables, as selected at
+     *         startup by the {@value #COST_TABLES_PROPERTY} system property.
+     */
+    public static boolean costTablesEnabled() {
+        return COST_TABLES_ENABLED;
+    }
 
+    /**
+     * Calculate the costs of many command/unit pairs at once, structure-of-arrays style.
+     * <p>
+     * Inputs are range-checked in one pass before any cost is computed. Each cost is then
+     * {@code baseCost * (300 - trust + stress - signal) / 100} in integer arithmetic, which equals
+     * the truncated floating-point formula of {@link #calculateCost} whenever the exact result is
+     * fractional. When it is a whole number, floating-point rounding can land just below it, so
+     * those entries are evaluated with the scalar formula to stay bit-identical.
+     * </p>
+     *
+     * @param typeOrdinals    {@link CommandType} ordinals of the commands
+     * @param unitTrust       Trust levels of the units (0-100)
+     * @param unitStress      Stress levels of the units (0-100)
+     * @param signalStrength  Signal strengths for transmission (0-100)
+     * @param costs           Receives the cost of entry i at index i
+     */
+    public static void calculateCosts(final int[] typeOrdinals, final int[] unitTrust, final int[] unitStress,
+                                      final int[] signalStrength, final int[] costs) {
+        int count = typeOrdinals.length;
+        if (unitTrust.length != count || unitStress.length != count || signalStrength.length != count) {
+            throw new IllegalArgumentException("Input arrays must have the same length");
+        }
+        if (costs.length < count) {
+            throw new IllegalArgumentException("Cost array too short: " + costs.length + " < " + count);
+        }
+        validateBatch(typeOrdinals, unitTrust, unitStress, signalStrength);
+
+        for (int i = 0; i < count; i++) {
+            int baseCost = BASE_COSTS[typeOrdinals[i]];
+            int scaled = baseCost * (PERCENT_SUM_OFFSET - unitTrust[i] + unitStress[i] - signalStrength[i]);
+            int cost = scaled / PERCENT;
+            if (cost * PERCENT == scaled) {
+                cost = formulaCost(baseCost, unitTrust[i], unitStress[i], signalStrength[i]);
+            }
+            costs[i] = Math.max(MINIMUM_BASE_COST, cost);
+        }
+    }
+
+    /**
+     * The cost formula, shared by the scalar, batch and table paths so all round identically.
+     */
+    static int formulaCost(final int baseCost, final int unitTrust, final int unitStress, final int signalStrength) {
         // Adjust based on unit state (higher trust/lower stress = lower cost)
         double trustMultiplier = (MULTIPLIER_BASE - unitTrust) / MULTIPLIER_BASE;
         double stressMultiplier = unitStress / MULTIPLIER_BASE;
@@ -65,6 +129,34 @@ public final class CommandSystem {
                 (int) (baseCost * (MINIMUM_BASE_COST + trustMultiplier + stressMultiplier + signalMultiplier)));
     }
 
+    /**
+     * Range-check a whole batch with one branch per array, locating the culprit only on failure.
+     */
+    private static void validateBatch(final int[] typeOrdinals, final int[] unitTrust, final int[] unitStress,
+                                      final int[] signalStrength) {
+        int maxOrdinal = BASE_COSTS.length - 1;
+        int outOfRange = 0;
+        for (int i = 0; i < typeOrdinals.length; i++) {
+            // A value outside [0, max] makes one of the two terms negative, setting the sign bit
+            outOfRange |= typeOrdinals[i] | (maxOrdinal - typeOrdinals[i])
+                          | unitTrust[i] | (PERCENT - unitTrust[i])
+                          | unitStress[i] | (PERCENT - unitStress[i])
+                          | signalStrength[i] | (PERCENT - signalStrength[i]);
+        }
+        if (outOfRange >= 0) {
+            return;
+        }
+        for (int i = 0; i < typeOrdinals.length; i++) {
+            if (typeOrdinals[i] < 0 || typeOrdinals[i] > maxOrdinal) {
+                throw new IllegalArgumentException("Command type ordinal out of range at index " + i
+                                                   + ", got: " + typeOrdinals[i]);
+            }
+            validatePercentage(unitTrust[i], "Unit trust");
+            validatePercentage(unitStress[i], "Unit stress");
+            validatePercentage(signalStrength[i], "Signal strength");
+        }
+    }
+
     /**
      * Get the base cost for a command type.
      * Pure function mapping command types to their base costs.
@@ -79,6 +171,15 @@ public final class CommandSystem {
         };
     }
 
+    private static int[] baseCosts() {
+        CommandType[] types = CommandType.values();
+        int[] costs = new int[types.length];
+        for (CommandType type : types) {
+            costs[type.ordinal()] = getBaseCost(type);
+        }
+        return costs;
+    }
+
     /**
      * Calculate the priority score for command queue ordering.
      * Lower scores = higher priority (processed first).
@@ -0,0 +1,249 @@
+package com.military.coordination.system;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.military.coordination.model.Command;
+import com.military.coordination.model.CommandStatus;
+
+/**
+ * Hierarchical timing wheel firing command timeouts at {@code createdAt + timeout}.
+ * <p>
+ * Time is cut into ticks of a fixed resolution after an origin. A command expires on the first
+ * tick strictly after its deadline, so it is never reported before
+ * {@link CommandSystem#hasTimedOut(Command, Instant)} holds and at most one resolution after.
+ * Commands due within 64 ticks sit in the slot of their tick on the lowest level; later ones sit
+ * on one of three coarser levels and are cascaded one level down when the wheel below wraps.
+ * Deadlines beyond the top level are parked in its furthest slot and re-filed when cascaded.
+ * </p>
+ * <p>
+ * Slots are intrusive doubly linked lists, so scheduling and cancelling are O(1). Each level keeps
+ * a bitmask of its non-empty slots, so {@link #advanceTo(Instant)} skips empty ticks and costs
+ * O(expired) plus one step per 64 ticks elapsed. Not thread-safe.
+ * </p>
+ */
+public final class CommandTimeoutWheel {
+    /** Slots per level, as a power of two. */
+    public static final int SLOT_BITS = 6;
+    /** Number of levels. */
+    public static final int LEVELS = 4;
+
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+    private static final int OVERDUE = -1;
+
+    /**
+     * A scheduled command, linked into one slot.
+     */
+    private static final class Entry {
+        private final Command command;
+        private final long expiryTick;
+        private int level;
+        private int slot;
+        private Entry previous;
+        private Entry next;
+
+        private Entry(final Command command, final long expiryTick) {
+            this.command = command;
+            this.expiryTick = expiryTick;
+        }
+    }
+
+    private final Instant origin;
+    private final Duration resolution;
+    private final Entry[][] slots = new Entry[LEVELS][SLOTS];
+    private final long[] occupied = new long[LEVELS];
+    private final Map<UUID, Entry> entriesById = new HashMap<>();
+    private Entry overdue;
+    private long nextTick = 1;
+
+    /**
+     * Creates an empty wheel.
+     *
+     * @param origin     The instant of tick 0.
+     * @param resolution The length of a tick.
+     */
+    public CommandTimeoutWheel(final Instant origin, final Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("Resolution must be a positive duration");
+        }
+        this.origin = origin;
+        this.resolution = resolution;
+    }
+
+    /**
+     * @return The number of scheduled commands.
+     */
+    public int size() {
+        return entriesById.size();
+    }
+
+    /**
+     * @param commandId The command ID.
+     * @return true if the command is waiting for its timeout.
+     */
+    public boolean isScheduled(final UUID commandId) {
+        return entriesById.containsKey(commandId);
+    }
+
+    /**
+     * Schedule the timeout of a command. A command whose deadline has already passed is reported by
+     * the next {@link #advanceTo(Instant)}.
+     *
+     * @param command The command to watch.
+     */
+    public void schedule(final Command command) {
+        if (entriesById.containsKey(command.id())) {
+            throw new IllegalArgumentException("Command already scheduled: " + command.id());
+        }
+        Entry entry = new Entry(command, expiryTick(command.createdAt().plus(command.timeout())));
+        entriesById.put(command.id(), entry);
+        file(entry);
+    }
+
+    /**
+     * Stop watching a command, typically because it completed early.
+     *
+     * @param commandId The command ID.
+     * @return true if the command was scheduled.
+     */
+    public boolean cancel(final UUID commandId) {
+        Entry entry = entriesById.remove(commandId);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Advance the wheel to an instant and pop every command that expired on the way.
+     *
+     * @param now The current time; earlier instants than a previous call are ignored.
+     * @return The expired commands, marked {@link CommandStatus#TIMEOUT}, tick by tick.
+     */
+    public List<Command> advanceTo(final Instant now) {
+        List<Command> expired = new ArrayList<>();
+        while (overdue != null) {
+            expire(overdue, expired);
+        }
+        if (now.isBefore(origin)) {
+            return expired;
+        }
+        long targetTick = Duration.between(origin, now).dividedBy(resolution);
+        while (nextTick <= targetTick) {
+            if ((nextTick & SLOT_MASK) == 0) {
+                cascade();
+            }
+            // Only look ahead to the next wrap of the lowest level, where coarser slots cascade
+            long wrapTick = (nextTick | SLOT_MASK) + 1;
+            long lastTick = Math.min(targetTick, wrapTick - 1);
+            int from = (int) (nextTick & SLOT_MASK);
+            int to = (int) (lastTick & SLOT_MASK);
+            long window = (-1L >>> (SLOTS - 1 - to)) & (-1L << from);
+            long due = occupied[0] & window;
+            if (due == 0) {
+                nextTick = lastTick + 1;
+                continue;
+            }
+            int slot = Long.numberOfTrailingZeros(due);
+            while (slots[0][slot] != null) {
+                expire(slots[0][slot], expired);
+            }
+            nextTick = (nextTick & ~SLOT_MASK) + slot + 1;
+        }
+        return expired;
+    }
+
+    /**
+     * The first tick strictly after a deadline.
+     */
+    private long expiryTick(final Instant deadline) {
+        if (deadline.isBefore(origin)) {
+            return 0;
+        }
+        return Duration.between(origin, deadline).dividedBy(resolution) + 1;
+    }
+
+    /**
+     * Link an entry into the slot matching its distance from the next tick.
+     */
+    private void file(final Entry entry) {
+        long delay = entry.expiryTick - nextTick;
+        if (delay < 0) {
+            entry.level = OVERDUE;
+            entry.previous = null;
+            entry.next = overdue;
+            if (overdue != null) {
+                overdue.previous = entry;
+            }
+            overdue = entry;
+            return;
+        }
+        long tick = delay > MAX_DELAY ? nextTick + MAX_DELAY : entry.expiryTick;
+        int level = 0;
+        while (level < LEVELS - 1 && Math.min(delay, MAX_DELAY) >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        entry.level = level;
+        entry.slot = slot;
+        entry.previous = null;
+        entry.next = slots[level][slot];
+        if (entry.next != null) {
+            entry.next.previous = entry;
+        }
+        slots[level][slot] = entry;
+        occupied[level] |= 1L << slot;
+    }
+
+    private void unlink(final Entry entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else if (entry.level == OVERDUE) {
+            overdue = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+            if (entry.next == null) {
+                occupied[entry.level] &= ~(1L << entry.slot);
+            }
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+    }
+
+    private void expire(final Entry entry, final List<Command> expired) {
+        unlink(entry);
+        entriesById.remove(entry.command.id());
+        expired.add(entry.command.withStatus(CommandStatus.TIMEOUT));
+    }
+
+    /**
+     * Re-file the coarser slots that come due as the lowest level wraps at {@link #nextTick}.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int slot = (int) ((nextTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Entry entry = slots[level][slot];
+            slots[level][slot] = null;
+            occupied[level] &= ~(1L << slot);
+            while (entry != null) {
+                Entry next = entry.next;
+                file(entry);
+                entry = next;
+            }
+            if (slot != 0) {
+                break;
+            }
+        }
+    }
+}
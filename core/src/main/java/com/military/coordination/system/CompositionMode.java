@@ -0,0 +1,22 @@
+package com.military.coordination.system;
+
+/**
+ * How {@link SignalCoverage} composes a full rebuild of its raster.
+ * <ul>
+ * <li>{@link #SERIAL} - Compose every tile on the calling thread.</li>
+ * <li>{@link #PARALLEL} - Compose tiles concurrently on the common fork-join pool. Produces a
+ * raster identical to {@link #SERIAL}.</li>
+ * </ul>
+ */
+public enum CompositionMode {
+    /**
+     * Compose every tile on the calling thread.
+     * See {@link CompositionMode} for details.
+     */
+    SERIAL,
+    /**
+     * Compose tiles concurrently on the common fork-join pool.
+     * See {@link CompositionMode} for details.
+     */
+    PARALLEL
+}
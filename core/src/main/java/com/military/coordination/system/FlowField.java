@@ -0,0 +1,123 @@
+package com.military.coordination.system;
+
+import com.military.coordination.component.Connectivity;
+
+/**
+ * Integration field towards one target cell: the cost of the cheapest route from every cell
+ * of a grid to the target, as built by {@link FlowFieldService}.
+ * <p>
+ * Any number of units can follow the same field by repeatedly stepping to
+ * {@link #nextCell(int)}, so a single search serves every unit heading to that target.
+ * A field becomes stale when the service rebuilds it after an occupancy or terrain change;
+ * holders should then fetch the replacement from the service.
+ * </p>
+ */
+public final class FlowField {
+    /** Distance of cells from which the target cannot be reached. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int target;
+    private final int rows;
+    private final int cols;
+    private final MovementProfile profile;
+    final int[] distances;
+    private volatile boolean stale;
+
+    FlowField(final int target, final int rows, final int cols, final MovementProfile profile,
+              final int[] distances) {
+        this.target = target;
+        this.rows = rows;
+        this.cols = cols;
+        this.profile = profile;
+        this.distances = distances;
+    }
+
+    /**
+     * @return The row-major index of the target cell.
+     */
+    public int target() {
+        return target;
+    }
+
+    /**
+     * @return The movement profile the field was built for.
+     */
+    public MovementProfile profile() {
+        return profile;
+    }
+
+    /**
+     * @return true if the service has replaced this field after a map change.
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    void markStale() {
+        stale = true;
+    }
+
+    /**
+     * Get the cost of the cheapest route from a cell to the target, in
+     * {@link PathfindingSystem} step-cost units.
+     *
+     * @param cellIndex The row-major index of the cell.
+     * @return The route cost, or {@link #UNREACHABLE}.
+     */
+    public int distanceAt(final int cellIndex) {
+        return distances[cellIndex];
+    }
+
+    /**
+     * @param cellIndex The row-major index of the cell.
+     * @return true if the target can be reached from the cell.
+     */
+    public boolean isReachable(final int cellIndex) {
+        return distances[cellIndex] != UNREACHABLE;
+    }
+
+    /**
+     * Get the neighbour to step to from a cell to follow the cheapest route.
+     * Works from any cell, including an occupied one such as the unit's own position.
+     *
+     * @param cellIndex The row-major index of the current cell.
+     * @return The index of the next cell, or -1 at the target or if no neighbour leads there.
+     */
+    public int nextCell(final int cellIndex) {
+        if (cellIndex == target) {
+            return -1;
+        }
+        Connectivity connectivity = profile.connectivity();
+        int row = cellIndex / cols;
+        int col = cellIndex - row * cols;
+        int best = -1;
+        long bestCost = Long.MAX_VALUE;
+        for (int direction = 0; direction < connectivity.size(); direction++) {
+            int dr = connectivity.rowOffset(direction);
+            int dc = connectivity.colOffset(direction);
+            int newRow = row + dr;
+            int newCol = col + dc;
+            if (newRow < 0 || newRow >= rows || newCol < 0 || newCol >= cols) {
+                continue;
+            }
+            int neighbour = newRow * cols + newCol;
+            if (distances[neighbour] == UNREACHABLE) {
+                continue;
+            }
+            boolean diagonal = dr != 0 && dc != 0;
+            // A passable corner next to a reachable cell is itself reachable, so this is the corner rule
+            if (diagonal && (distances[newRow * cols + col] == UNREACHABLE
+                             || distances[row * cols + newCol] == UNREACHABLE)) {
+                continue;
+            }
+            long cost = (long) distances[neighbour]
+                        + (long) (diagonal ? PathfindingSystem.DIAGONAL_COST : PathfindingSystem.STRAIGHT_COST)
+                          * profile.terrainCost().costOf(neighbour);
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = neighbour;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,389 @@
+package com.military.coordination.system;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.military.coordination.component.Connectivity;
+import com.military.coordination.component.GridActorMap;
+import com.military.coordination.component.GridActorMapListener;
+import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.component.OccupancyMask;
+import com.military.coordination.model.TacticalGrid;
+
+/**
+ * Cache of shared {@link FlowField}s over one grid, one per target cell.
+ * <p>
+ * Fields are built with a reverse Dijkstra search from the target, using the same step costs,
+ * terrain and corner rules as {@link PathfindingSystem}. Occupied cells are impassable except
+ * the target itself.
+ * </p>
+ * <p>
+ * The service is a {@link GridActorMapListener}: pass it to the listener-aware GridUtilities
+ * updates and it tracks occupancy itself. When a cell changes, every cached field is checked
+ * locally. If the change cannot alter any other cell's route (e.g. a unit stops on a cell that
+ * no route passes through), the field is patched in place. Otherwise it is marked dirty and
+ * rebuilt on next access, or in parallel via {@link #prepare(int...)}. Not thread-safe; use from
+ * the simulation thread.
+ * </p>
+ */
+public final class FlowFieldService implements GridActorMapListener {
+    private static final ThreadLocal<PathSearchScratch> SCRATCH = ThreadLocal.withInitial(PathSearchScratch::new);
+
+    private final int rows;
+    private final int cols;
+    private final MovementProfile profile;
+    private final OccupancyMask blocked;
+    private final Map<Integer, FlowField> fields = new HashMap<>();
+    private final AtomicInteger builds = new AtomicInteger();
+    private int repairs;
+
+    /**
+     * Creates a service for a grid, seeding occupancy from an actor map.
+     *
+     * @param grid     The tactical grid.
+     * @param actorMap The current actor positions.
+     * @param profile  The movement profile every field is built for.
+     */
+    public FlowFieldService(final TacticalGrid grid, final GridActorMap actorMap, final MovementProfile profile) {
+        if (grid == null || actorMap == null || profile == null) {
+            throw new IllegalArgumentException("Grid, actor map and movement profile cannot be null");
+        }
+        this.rows = grid.rows();
+        this.cols = grid.cols();
+        this.profile = profile;
+        this.blocked = OccupancyMask.of(actorMap, rows, cols);
+    }
+
+    /**
+     * Get the field towards a target, building it if it is missing or dirty.
+     *
+     * @param target The row-major index of the target cell.
+     * @return The current field for the target.
+     */
+    public FlowField fieldTo(final int target) {
+        checkCell(target);
+        FlowField field = fields.get(target);
+        if (field == null || field.isStale()) {
+            field = build(target);
+            fields.put(target, field);
+        }
+        return field;
+    }
+
+    /**
+     * Build every missing or dirty field for the given targets, in parallel.
+     *
+     * @param targets The row-major indices of the target cells.
+     */
+    public void prepare(final int... targets) {
+        for (int target : targets) {
+            checkCell(target);
+        }
+        int[] pending = Arrays.stream(targets)
+            .distinct()
+            .filter(target -> !fields.containsKey(target) || fields.get(target).isStale())
+            .toArray();
+        List<FlowField> built = Arrays.stream(pending).parallel().mapToObj(this::build).toList();
+        for (FlowField field : built) {
+            fields.put(field.target(), field);
+        }
+    }
+
+    /**
+     * Drop the cached field for a target.
+     *
+     * @param target The row-major index of the target cell.
+     */
+    public void release(final int target) {
+        FlowField field = fields.remove(target);
+        if (field != null) {
+            field.markStale();
+        }
+    }
+
+    /**
+     * @return The number of cached fields, including dirty ones awaiting rebuild.
+     */
+    public int fieldCount() {
+        return fields.size();
+    }
+
+    /**
+     * @return The number of full field builds performed so far.
+     */
+    public int buildCount() {
+        return builds.get();
+    }
+
+    /**
+     * @return The number of cell changes absorbed by patching a field in place.
+     */
+    public int repairCount() {
+        return repairs;
+    }
+
+    /**
+     * Track occupancy changes and update or invalidate the affected fields.
+     */
+    @Override
+    public void cellChanged(final GridCoordinate coordinate, final Set<Integer> before, final Set<Integer> after) {
+        if (!blocked.contains(coordinate)) {
+            return;
+        }
+        int cell = blocked.indexOf(coordinate);
+        boolean nowBlocked = !after.isEmpty();
+        if (blocked.get(cell) == nowBlocked) {
+            return;
+        }
+        blocked.set(cell, nowBlocked);
+        for (FlowField field : fields.values()) {
+            if (field.isStale() || field.target() == cell) {
+                continue;
+            }
+            boolean repaired = nowBlocked ? repairBlocked(field, cell) : repairUnblocked(field, cell);
+            if (repaired) {
+                repairs++;
+            } else {
+                field.markStale();
+            }
+        }
+    }
+
+    /**
+     * Report that the terrain cost of a cell changed. Fields whose routes may touch the cell are
+     * marked dirty; the others are kept.
+     *
+     * @param cellIndex The row-major index of the changed cell.
+     */
+    public void terrainChanged(final int cellIndex) {
+        checkCell(cellIndex);
+        for (FlowField field : fields.values()) {
+            if (!field.isStale() && touches(field, cellIndex)) {
+                field.markStale();
+            }
+        }
+    }
+
+    private FlowField build(final int target) {
+        PathSearchScratch scratch = SCRATCH.get();
+        scratch.begin(rows * cols);
+        Connectivity connectivity = profile.connectivity();
+        TerrainCost terrain = profile.terrainCost();
+        if (terrain.costOf(target) > 0) {
+            scratch.push(target, 0, 0, -1);
+        }
+        while (!scratch.isEmpty()) {
+            int current = scratch.pop();
+            scratch.close(current);
+            int row = current / cols;
+            int col = current - row * cols;
+            // Stepping from a neighbour onto the current cell costs the current cell's terrain
+            int enterCost = terrain.costOf(current);
+            for (int direction = 0; direction < connectivity.size(); direction++) {
+                int dr = connectivity.rowOffset(direction);
+                int dc = connectivity.colOffset(direction);
+                int newRow = row + dr;
+                int newCol = col + dc;
+                if (!walkable(target, newRow, newCol)) {
+                    continue;
+                }
+                int neighbour = newRow * cols + newCol;
+                if (scratch.isClosed(neighbour)) {
+                    continue;
+                }
+                boolean diagonal = dr != 0 && dc != 0;
+                if (diagonal && !(walkable(target, row + dr, col) && walkable(target, row, col + dc))) {
+                    continue;
+                }
+                int cost = scratch.cost(current) + stepCost(diagonal) * enterCost;
+                scratch.push(neighbour, cost, cost, current);
+            }
+        }
+        int[] distances = new int[rows * cols];
+        for (int cell = 0; cell < distances.length; cell++) {
+            distances[cell] = scratch.isSeen(cell) ? scratch.cost(cell) : FlowField.UNREACHABLE;
+        }
+        builds.incrementAndGet();
+        return new FlowField(target, rows, cols, profile, distances);
+    }
+
+    /**
+     * A cell just became occupied. If no neighbour's best route runs through it, only the cell
+     * itself is lost and the field can be patched.
+     * @return true if the field was patched, false if it must be rebuilt.
+     */
+    private boolean repairBlocked(final FlowField field, final int cell) {
+        int[] distances = field.distances;
+        int distance = distances[cell];
+        if (distance == FlowField.UNREACHABLE) {
+            return true;
+        }
+        int enterCost = profile.terrainCost().costOf(cell);
+        Connectivity connectivity = profile.connectivity();
+        int row = cell / cols;
+        int col = cell - row * cols;
+        for (int direction = 0; direction < connectivity.size(); direction++) {
+            int dr = connectivity.rowOffset(direction);
+            int dc = connectivity.colOffset(direction);
+            if (!inBounds(row + dr, col + dc)) {
+                continue;
+            }
+            int neighbour = (row + dr) * cols + col + dc;
+            if ((long) distances[neighbour] == (long) distance + (long) stepCost(dr != 0 && dc != 0) * enterCost) {
+                return false;
+            }
+        }
+        if (connectivity == Connectivity.EIGHT && cornerDiagonalUsed(field, row, col)) {
+            return false;
+        }
+        distances[cell] = FlowField.UNREACHABLE;
+        return true;
+    }
+
+    /**
+     * A cell just became free. If reopening it cannot shorten any neighbour's route, only the
+     * cell's own distance needs computing and the field can be patched.
+     * @return true if the field was patched, false if it must be rebuilt.
+     */
+    private boolean repairUnblocked(final FlowField field, final int cell) {
+        int[] distances = field.distances;
+        int enterCost = profile.terrainCost().costOf(cell);
+        if (enterCost <= 0) {
+            return true;
+        }
+        Connectivity connectivity = profile.connectivity();
+        int row = cell / cols;
+        int col = cell - row * cols;
+        if (connectivity == Connectivity.EIGHT && cornerDiagonalOpened(field, row, col)) {
+            return false;
+        }
+        long best = FlowField.UNREACHABLE;
+        for (int direction = 0; direction < connectivity.size(); direction++) {
+            int dr = connectivity.rowOffset(direction);
+            int dc = connectivity.colOffset(direction);
+            int newRow = row + dr;
+            int newCol = col + dc;
+            if (!inBounds(newRow, newCol) || distances[newRow * cols + newCol] == FlowField.UNREACHABLE) {
+                continue;
+            }
+            boolean diagonal = dr != 0 && dc != 0;
+            if (diagonal && !(walkable(field.target(), row + dr, col) && walkable(field.target(), row, col + dc))) {
+                continue;
+            }
+            int neighbour = newRow * cols + newCol;
+            best = Math.min(best, (long) distances[neighbour]
+                                  + (long) stepCost(diagonal) * profile.terrainCost().costOf(neighbour));
+        }
+        if (best != FlowField.UNREACHABLE) {
+            for (int direction = 0; direction < connectivity.size(); direction++) {
+                int dr = connectivity.rowOffset(direction);
+                int dc = connectivity.colOffset(direction);
+                int newRow = row + dr;
+                int newCol = col + dc;
+                if (!walkable(field.target(), newRow, newCol)) {
+                    continue;
+                }
+                if (best + (long) stepCost(dr != 0 && dc != 0) * enterCost < distances[newRow * cols + newCol]) {
+                    return false;
+                }
+            }
+        }
+        distances[cell] = (int) best;
+        return true;
+    }
+
+    /**
+     * Check if any diagonal step cutting past the given cell is part of a best route.
+     */
+    private boolean cornerDiagonalUsed(final FlowField field, final int row, final int col) {
+        int[] distances = field.distances;
+        for (int vertical = -1; vertical <= 1; vertical += 2) {
+            for (int horizontal = -1; horizontal <= 1; horizontal += 2) {
+                if (!inBounds(row + vertical, col) || !inBounds(row, col + horizontal)) {
+                    continue;
+                }
+                int a = (row + vertical) * cols + col;
+                int b = row * cols + col + horizontal;
+                if (distances[a] == FlowField.UNREACHABLE || distances[b] == FlowField.UNREACHABLE) {
+                    continue;
+                }
+                long viaB = (long) distances[b] + diagonalStep(b);
+                long viaA = (long) distances[a] + diagonalStep(a);
+                if (distances[a] == viaB || distances[b] == viaA) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if reopening the given cell enables a diagonal step that shortens a route.
+     */
+    private boolean cornerDiagonalOpened(final FlowField field, final int row, final int col) {
+        int[] distances = field.distances;
+        for (int vertical = -1; vertical <= 1; vertical += 2) {
+            for (int horizontal = -1; horizontal <= 1; horizontal += 2) {
+                if (!walkable(field.target(), row + vertical, col) || !walkable(field.target(), row, col + horizontal)
+                    || !walkable(field.target(), row + vertical, col + horizontal)) {
+                    continue;
+                }
+                // The diagonal between the two orthogonal neighbours also needs the opposite corner open
+                int a = (row + vertical) * cols + col;
+                int b = row * cols + col + horizontal;
+                long viaB = distances[b] == FlowField.UNREACHABLE ? Long.MAX_VALUE : distances[b] + diagonalStep(b);
+                long viaA = distances[a] == FlowField.UNREACHABLE ? Long.MAX_VALUE : distances[a] + diagonalStep(a);
+                if (viaB < distances[a] || viaA < distances[b]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if a cell or any of its neighbours lies on a reachable part of a field.
+     */
+    private boolean touches(final FlowField field, final int cell) {
+        int row = cell / cols;
+        int col = cell - row * cols;
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                if (inBounds(row + dr, col + dc) && field.isReachable((row + dr) * cols + col + dc)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean walkable(final int target, final int row, final int col) {
+        if (!inBounds(row, col)) {
+            return false;
+        }
+        int cell = row * cols + col;
+        return profile.terrainCost().costOf(cell) > 0 && (cell == target || !blocked.get(cell));
+    }
+
+    private boolean inBounds(final int row, final int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    private long diagonalStep(final int enteredCell) {
+        return (long) PathfindingSystem.DIAGONAL_COST * profile.terrainCost().costOf(enteredCell);
+    }
+
+    private static int stepCost(final boolean diagonal) {
+        return diagonal ? PathfindingSystem.DIAGONAL_COST : PathfindingSystem.STRAIGHT_COST;
+    }
+
+    private void checkCell(final int cellIndex) {
+        if (cellIndex < 0 || cellIndex >= rows * cols) {
+            throw new IllegalArgumentException("Cell index out of bounds: " + cellIndex);
+        }
+    }
+}
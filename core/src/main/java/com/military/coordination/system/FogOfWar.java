@@ -0,0 +1,343 @@
+package com.military.coordination.system;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import com.military.coordination.component.DistanceMetric;
+import com.military.coordination.component.GridActorMapListener;
+import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.component.OccupancyMask;
+
+/**
+ * Tactical fog layer of a grid: which cells have ever been seen, which are in view now, and
+ * how old the intel on the rest is.
+ * <p>
+ * Viewers are actors with a circular vision radius. Each cell counts the viewers that can see
+ * it, and a viewer's move only adjusts the counts of the two footprints involved. Freshness is
+ * evaluated lazily: a cell in view is as fresh as the current tick, and a cell records the tick
+ * it was last seen only when its count drops to zero. {@link #advanceTick()} is O(1) and never
+ * touches the cells.
+ * </p>
+ * <p>
+ * Cells leaving view are appended to a departure log in tick order, so
+ * {@link #forEachOlderThan(int, IntConsumer)} walks only the log prefix older than the limit
+ * instead of the grid. As a {@link GridActorMapListener} the layer follows registered viewers
+ * as they move through GridUtilities updates; other actors are ignored. Not thread-safe.
+ * </p>
+ */
+public final class FogOfWar implements GridActorMapListener {
+    private static final int INITIAL_LOG_CAPACITY = 64;
+
+    /**
+     * A registered viewer and its current cell (-1 while not placed).
+     */
+    private static final class Viewer {
+        private final int[] disc;
+        private int row = -1;
+        private int col = -1;
+
+        private Viewer(final int[] disc) {
+            this.disc = disc;
+        }
+
+        private boolean isPlaced() {
+            return row >= 0;
+        }
+    }
+
+    private final int rows;
+    private final int cols;
+    private final int[] viewers;
+    private final int[] lastSeen;
+    private final int[] revealedStamp;
+    private final int[] logIndexOf;
+    private final OccupancyMask known;
+    private final Map<Integer, Viewer> viewersById = new HashMap<>();
+    private final Map<Integer, int[]> discsByRadius = new HashMap<>();
+    private int[] revealed = new int[INITIAL_LOG_CAPACITY];
+    private int revealedCount;
+    private int[] logCells = new int[INITIAL_LOG_CAPACITY];
+    private int[] logTicks = new int[INITIAL_LOG_CAPACITY];
+    private int logSize;
+    private int logGarbage;
+    private int currentTick;
+
+    /**
+     * Creates a fully fogged layer for a grid of the given size.
+     *
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     */
+    public FogOfWar(final int rows, final int cols) {
+        this.known = new OccupancyMask(rows, cols);
+        this.rows = rows;
+        this.cols = cols;
+        int cellCount = known.cellCount();
+        this.viewers = new int[cellCount];
+        this.lastSeen = new int[cellCount];
+        this.revealedStamp = new int[cellCount];
+        this.logIndexOf = new int[cellCount];
+        Arrays.fill(lastSeen, -1);
+        Arrays.fill(logIndexOf, -1);
+    }
+
+    /**
+     * Register a viewer.
+     *
+     * @param actorId   The ID of the viewing actor.
+     * @param radius    The vision radius in cells (Euclidean).
+     * @param cellIndex The row-major index of its cell, or -1 to register it unplaced.
+     */
+    public void addViewer(final int actorId, final int radius, final int cellIndex) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("Vision radius cannot be negative");
+        }
+        if (viewersById.containsKey(actorId)) {
+            throw new IllegalArgumentException("Viewer already registered: " + actorId);
+        }
+        viewersById.put(actorId, new Viewer(discsByRadius.computeIfAbsent(radius, FogOfWar::disc)));
+        if (cellIndex >= 0) {
+            moveViewer(actorId, cellIndex);
+        }
+    }
+
+    /**
+     * Move a registered viewer. The new footprint is revealed before the old one is released, so
+     * cells seen from both positions stay continuously in view.
+     *
+     * @param actorId   The ID of the viewing actor.
+     * @param cellIndex The row-major index of its new cell, or -1 to take it off the grid.
+     */
+    public void moveViewer(final int actorId, final int cellIndex) {
+        Viewer viewer = viewersById.get(actorId);
+        if (viewer == null) {
+            throw new IllegalArgumentException("Unknown viewer: " + actorId);
+        }
+        if (cellIndex < -1 || cellIndex >= viewers.length) {
+            throw new IllegalArgumentException("Cell index out of bounds: " + cellIndex);
+        }
+        int oldRow = viewer.row;
+        int oldCol = viewer.col;
+        if (viewer.isPlaced() && oldRow * cols + oldCol == cellIndex) {
+            return;
+        }
+        if (cellIndex >= 0) {
+            viewer.row = cellIndex / cols;
+            viewer.col = cellIndex % cols;
+            forEachInDisc(viewer.disc, viewer.row, viewer.col, this::enterView);
+        } else {
+            viewer.row = -1;
+            viewer.col = -1;
+        }
+        if (oldRow >= 0) {
+            forEachInDisc(viewer.disc, oldRow, oldCol, this::leaveView);
+        }
+    }
+
+    /**
+     * Unregister a viewer, releasing its footprint.
+     *
+     * @param actorId The ID of the viewing actor.
+     */
+    public void removeViewer(final int actorId) {
+        if (viewersById.containsKey(actorId)) {
+            moveViewer(actorId, -1);
+            viewersById.remove(actorId);
+        }
+    }
+
+    /**
+     * Follow registered viewers through actor map changes. A viewer appearing in a cell is moved
+     * there; a viewer leaving the cell it was recorded in is taken off the grid, which tolerates
+     * the cells of a move being reported in either order.
+     */
+    @Override
+    public void cellChanged(final GridCoordinate coordinate, final Set<Integer> before, final Set<Integer> after) {
+        if (!known.contains(coordinate)) {
+            return;
+        }
+        int cellIndex = known.indexOf(coordinate);
+        for (Integer actorId : after) {
+            Viewer viewer = viewersById.get(actorId);
+            if (viewer != null && viewer.row * cols + viewer.col != cellIndex) {
+                moveViewer(actorId, cellIndex);
+            }
+        }
+        for (Integer actorId : before) {
+            Viewer viewer = viewersById.get(actorId);
+            if (viewer != null && !after.contains(actorId) && viewer.isPlaced()
+                && viewer.row * cols + viewer.col == cellIndex) {
+                moveViewer(actorId, -1);
+            }
+        }
+    }
+
+    /**
+     * Start the next tick. Clears the revealed-this-tick set; no cell is touched.
+     */
+    public void advanceTick() {
+        currentTick++;
+        revealedCount = 0;
+    }
+
+    /**
+     * @return The current tick, starting at 0.
+     */
+    public int currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @param cellIndex The row-major index of the cell.
+     * @return true if the cell has ever been seen.
+     */
+    public boolean isKnown(final int cellIndex) {
+        return known.get(cellIndex);
+    }
+
+    /**
+     * @param cellIndex The row-major index of the cell.
+     * @return true if at least one viewer sees the cell now.
+     */
+    public boolean isVisible(final int cellIndex) {
+        return viewers[cellIndex] > 0;
+    }
+
+    /**
+     * Get the tick a cell was last seen, evaluated lazily.
+     *
+     * @param cellIndex The row-major index of the cell.
+     * @return The current tick if the cell is in view, the tick it left view otherwise, or -1 if
+     *         it has never been seen.
+     */
+    public int lastSeenTick(final int cellIndex) {
+        return viewers[cellIndex] > 0 ? currentTick : lastSeen[cellIndex];
+    }
+
+    /**
+     * @return The number of cells that have ever been seen.
+     */
+    public int knownCount() {
+        return known.cardinality();
+    }
+
+    /**
+     * @return The number of cells that came into view during the current tick.
+     */
+    public int revealedThisTickCount() {
+        return revealedCount;
+    }
+
+    /**
+     * Visit the cells that came into view during the current tick, in the order they were revealed.
+     *
+     * @param visitor Receives each cell index once.
+     */
+    public void forEachRevealedThisTick(final IntConsumer visitor) {
+        for (int i = 0; i < revealedCount; i++) {
+            visitor.accept(revealed[i]);
+        }
+    }
+
+    /**
+     * Visit the known cells out of view whose intel is older than a number of ticks, oldest first.
+     * Walks only the departure-log entries older than the limit.
+     *
+     * @param ticks   The maximum acceptable age.
+     * @param visitor Receives each cell whose last sighting is more than {@code ticks} ago.
+     */
+    public void forEachOlderThan(final int ticks, final IntConsumer visitor) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("Age cannot be negative");
+        }
+        long threshold = (long) currentTick - ticks;
+        for (int i = 0; i < logSize && logTicks[i] < threshold; i++) {
+            if (logIndexOf[logCells[i]] == i) {
+                visitor.accept(logCells[i]);
+            }
+        }
+    }
+
+    private void enterView(final int cellIndex) {
+        if (viewers[cellIndex]++ > 0) {
+            return;
+        }
+        known.set(cellIndex);
+        if (logIndexOf[cellIndex] >= 0) {
+            logIndexOf[cellIndex] = -1;
+            logGarbage++;
+        }
+        // Stamps are offset by one so the zero-filled array means "never revealed"
+        if (revealedStamp[cellIndex] != currentTick + 1) {
+            revealedStamp[cellIndex] = currentTick + 1;
+            if (revealedCount == revealed.length) {
+                revealed = Arrays.copyOf(revealed, revealedCount * 2);
+            }
+            revealed[revealedCount++] = cellIndex;
+        }
+    }
+
+    private void leaveView(final int cellIndex) {
+        if (--viewers[cellIndex] > 0) {
+            return;
+        }
+        lastSeen[cellIndex] = currentTick;
+        if (logGarbage > logSize / 2 && logGarbage > INITIAL_LOG_CAPACITY) {
+            compactLog();
+        }
+        if (logSize == logCells.length) {
+            logCells = Arrays.copyOf(logCells, logSize * 2);
+            logTicks = Arrays.copyOf(logTicks, logSize * 2);
+        }
+        logCells[logSize] = cellIndex;
+        logTicks[logSize] = currentTick;
+        logIndexOf[cellIndex] = logSize++;
+    }
+
+    /**
+     * Drop superseded departure entries, keeping the rest in tick order.
+     */
+    private void compactLog() {
+        int kept = 0;
+        for (int i = 0; i < logSize; i++) {
+            int cell = logCells[i];
+            if (logIndexOf[cell] == i) {
+                logCells[kept] = cell;
+                logTicks[kept] = logTicks[i];
+                logIndexOf[cell] = kept++;
+            }
+        }
+        logSize = kept;
+        logGarbage = 0;
+    }
+
+    private void forEachInDisc(final int[] disc, final int row, final int col, final IntConsumer action) {
+        for (int i = 0; i < disc.length; i += 2) {
+            int r = row + disc[i];
+            int c = col + disc[i + 1];
+            if (r >= 0 && r < rows && c >= 0 && c < cols) {
+                action.accept(r * cols + c);
+            }
+        }
+    }
+
+    /**
+     * Precompute the (row, col) offsets of a vision disc, packed in pairs.
+     */
+    private static int[] disc(final int radius) {
+        int[] offsets = new int[2 * (2 * radius + 1) * (2 * radius + 1)];
+        int size = 0;
+        for (int dr = -radius; dr <= radius; dr++) {
+            for (int dc = -radius; dc <= radius; dc++) {
+                if (DistanceMetric.EUCLIDEAN.within(dr, dc, radius)) {
+                    offsets[size++] = dr;
+                    offsets[size++] = dc;
+                }
+            }
+        }
+        return Arrays.copyOf(offsets, size);
+    }
+}
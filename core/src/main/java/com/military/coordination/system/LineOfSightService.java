@@ -0,0 +1,287 @@
+package com.military.coordination.system;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.military.coordination.component.GridActorMapListener;
+import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.component.OccupancyMask;
+
+/**
+ * Line-of-sight engine over a blocking-cell mask, used to decide which cells a tower can see.
+ * <p>
+ * Rays are traced cell by cell with Bresenham's algorithm; the origin and target cells never
+ * block their own ray. A batch query casts one origin against many targets and returns a
+ * {@link BitSet} indexed by target position: bit {@code i} is set when {@code targets[i]} is visible.
+ * </p>
+ * <p>
+ * Per-tower results are cached together with the footprint of the rays that produced them,
+ * kept as a sorted array of the cells the rays crossed. Cache memory therefore follows the
+ * number of targets and ray lengths, not the map size. A blocking change only drops the towers
+ * whose footprint contains the changed cell, so a change outside every ray costs one
+ * bounding-box check per tower. As a
+ * {@link GridActorMapListener} the service treats occupied cells as blocking; blockers that
+ * are not actors are fed through {@link #setBlocked(int, boolean)}. Not thread-safe.
+ * </p>
+ */
+public final class LineOfSightService implements GridActorMapListener {
+
+    /**
+     * Cached visibility of one tower: its query, its result and the cells its rays crossed.
+     */
+    private static final class TowerView {
+        private final int origin;
+        private final int[] targets;
+        private final BitSet visible = new BitSet();
+        // Ray cells while casting, then sorted and deduplicated
+        private int[] footprint = new int[16];
+        private int footprintSize;
+        private int minRow;
+        private int minCol;
+        private int maxRow;
+        private int maxCol;
+
+        private TowerView(final int origin, final int[] targets) {
+            this.origin = origin;
+            this.targets = targets;
+        }
+
+        private void record(final int cellIndex) {
+            if (footprintSize == footprint.length) {
+                footprint = Arrays.copyOf(footprint, footprintSize * 2);
+            }
+            footprint[footprintSize++] = cellIndex;
+        }
+
+        private void sealFootprint() {
+            Arrays.sort(footprint, 0, footprintSize);
+            int distinct = 0;
+            for (int i = 0; i < footprintSize; i++) {
+                if (distinct == 0 || footprint[distinct - 1] != footprint[i]) {
+                    footprint[distinct++] = footprint[i];
+                }
+            }
+            footprint = Arrays.copyOf(footprint, distinct);
+            footprintSize = distinct;
+        }
+
+        private boolean crosses(final int row, final int col, final int cellIndex) {
+            return row >= minRow && row <= maxRow && col >= minCol && col <= maxCol
+                   && Arrays.binarySearch(footprint, cellIndex) >= 0;
+        }
+    }
+
+    private final OccupancyMask blocking;
+    private final int rows;
+    private final int cols;
+    private final Map<Integer, TowerView> views = new HashMap<>();
+    private long raysCast;
+    private long invalidations;
+
+    /**
+     * Creates a service over a copy of a blocking mask.
+     *
+     * @param blocking The cells that block sight.
+     */
+    public LineOfSightService(final OccupancyMask blocking) {
+        if (blocking == null) {
+            throw new IllegalArgumentException("Blocking mask cannot be null");
+        }
+        this.blocking = blocking.copy();
+        this.rows = blocking.rows();
+        this.cols = blocking.cols();
+    }
+
+    /**
+     * Check if a target cell is visible from an origin cell, without caching.
+     *
+     * @param origin The row-major index of the observing cell.
+     * @param target The row-major index of the observed cell.
+     * @return true if no blocking cell lies strictly between the two.
+     */
+    public boolean hasLineOfSight(final int origin, final int target) {
+        checkCell(origin);
+        checkCell(target);
+        raysCast++;
+        return traceRay(origin, target, null);
+    }
+
+    /**
+     * Cast rays from one origin to many targets, without caching.
+     *
+     * @param origin  The row-major index of the observing cell.
+     * @param targets The row-major indices of the cells to test.
+     * @return A bit set where bit {@code i} is set if {@code targets[i]} is visible.
+     */
+    public BitSet visibleFrom(final int origin, final int[] targets) {
+        checkCell(origin);
+        BitSet visible = new BitSet(targets.length);
+        castAll(origin, targets, visible, null);
+        return visible;
+    }
+
+    /**
+     * Get a tower's visible targets, reusing the cached result while no blocking cell on its
+     * rays has changed and the query is the same.
+     *
+     * @param towerId The ID of the tower actor.
+     * @param origin  The row-major index of the tower's cell.
+     * @param targets The row-major indices of the cells to test.
+     * @return A bit set where bit {@code i} is set if {@code targets[i]} is visible. The bit set is
+     *         shared with the cache and must not be modified.
+     */
+    public BitSet visibleFrom(final int towerId, final int origin, final int[] targets) {
+        TowerView view = views.get(towerId);
+        if (view != null && view.origin == origin && Arrays.equals(view.targets, targets)) {
+            return view.visible;
+        }
+        checkCell(origin);
+        view = new TowerView(origin, targets.clone());
+        view.minRow = view.maxRow = origin / cols;
+        view.minCol = view.maxCol = origin % cols;
+        castAll(origin, targets, view.visible, view);
+        view.sealFootprint();
+        views.put(towerId, view);
+        return view.visible;
+    }
+
+    /**
+     * Drop a tower's cached visibility, e.g. when the tower is removed.
+     *
+     * @param towerId The ID of the tower actor.
+     */
+    public void forget(final int towerId) {
+        views.remove(towerId);
+    }
+
+    /**
+     * Update whether a cell blocks sight. Only towers whose rays cross the cell are invalidated.
+     *
+     * @param cellIndex The row-major index of the cell.
+     * @param blocked   true if the cell blocks sight.
+     */
+    public void setBlocked(final int cellIndex, final boolean blocked) {
+        if (blocking.get(cellIndex) == blocked) {
+            return;
+        }
+        blocking.set(cellIndex, blocked);
+        int row = cellIndex / cols;
+        int col = cellIndex % cols;
+        Iterator<TowerView> iterator = views.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().crosses(row, col, cellIndex)) {
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Treat a cell as blocking while any actor occupies it. Coordinates outside the grid are ignored.
+     */
+    @Override
+    public void cellChanged(final GridCoordinate coordinate, final Set<Integer> before, final Set<Integer> after) {
+        if (blocking.contains(coordinate)) {
+            setBlocked(blocking.indexOf(coordinate), !after.isEmpty());
+        }
+    }
+
+    /**
+     * @param cellIndex The row-major index of the cell.
+     * @return true if the cell blocks sight.
+     */
+    public boolean isBlocked(final int cellIndex) {
+        return blocking.get(cellIndex);
+    }
+
+    /**
+     * @return The number of towers with cached visibility.
+     */
+    public int cachedTowerCount() {
+        return views.size();
+    }
+
+    /**
+     * @return The total number of rays traced.
+     */
+    public long raysCast() {
+        return raysCast;
+    }
+
+    /**
+     * @return The number of cached tower views dropped by blocking changes.
+     */
+    public long invalidations() {
+        return invalidations;
+    }
+
+    private void castAll(final int origin, final int[] targets, final BitSet visible, final TowerView view) {
+        for (int i = 0; i < targets.length; i++) {
+            int target = targets[i];
+            checkCell(target);
+            if (view != null) {
+                int row = target / cols;
+                int col = target % cols;
+                view.minRow = Math.min(view.minRow, row);
+                view.maxRow = Math.max(view.maxRow, row);
+                view.minCol = Math.min(view.minCol, col);
+                view.maxCol = Math.max(view.maxCol, col);
+            }
+            if (traceRay(origin, target, view)) {
+                visible.set(i);
+            }
+        }
+        raysCast += targets.length;
+    }
+
+    /**
+     * Walk the Bresenham line between two cells, stopping at the first blocking cell.
+     * Every intermediate cell visited is recorded in the view's footprint; cells behind a blocker are
+     * not needed because the blocker itself must change before they matter.
+     */
+    private boolean traceRay(final int origin, final int target, final TowerView view) {
+        if (origin == target) {
+            return true;
+        }
+        int row = origin / cols;
+        int col = origin - row * cols;
+        int targetRow = target / cols;
+        int targetCol = target - targetRow * cols;
+        int rowDistance = Math.abs(targetRow - row);
+        int colDistance = Math.abs(targetCol - col);
+        int rowStep = row < targetRow ? 1 : -1;
+        int colStep = col < targetCol ? 1 : -1;
+        int error = colDistance - rowDistance;
+        while (true) {
+            int doubled = 2 * error;
+            if (doubled > -rowDistance) {
+                error -= rowDistance;
+                col += colStep;
+            }
+            if (doubled < colDistance) {
+                error += colDistance;
+                row += rowStep;
+            }
+            int cell = row * cols + col;
+            if (cell == target) {
+                return true;
+            }
+            if (view != null) {
+                view.record(cell);
+            }
+            if (blocking.get(cell)) {
+                return false;
+            }
+        }
+    }
+
+    private void checkCell(final int cellIndex) {
+        if (cellIndex < 0 || cellIndex >= rows * cols) {
+            throw new IllegalArgumentException("Cell index out of bounds: " + cellIndex);
+        }
+    }
+}
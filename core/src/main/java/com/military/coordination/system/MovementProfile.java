@@ -0,0 +1,30 @@
+package com.military.coordination.system;
+
+import com.military.coordination.component.Connectivity;
+
+/**
+ * How a unit moves across a grid: which neighbours it can step to and what terrain costs.
+ *
+ * @param connectivity Whether diagonal steps are allowed; diagonals never cut blocked corners.
+ * @param terrainCost  The cost of entering each cell.
+ */
+public record MovementProfile(Connectivity connectivity, TerrainCost terrainCost) {
+
+    /** 8-connected movement over uniform terrain. */
+    public static final MovementProfile STANDARD = new MovementProfile(Connectivity.EIGHT, TerrainCost.UNIFORM);
+
+    /** 4-connected movement over uniform terrain. */
+    public static final MovementProfile ORTHOGONAL = new MovementProfile(Connectivity.FOUR, TerrainCost.UNIFORM);
+
+    /**
+     * Creates a new MovementProfile.
+     *
+     * @param connectivity The neighbourhood a unit can step to.
+     * @param terrainCost  The cost of entering each cell.
+     */
+    public MovementProfile {
+        if (connectivity == null || terrainCost == null) {
+            throw new IllegalArgumentException("Connectivity and terrain cost cannot be null");
+        }
+    }
+}
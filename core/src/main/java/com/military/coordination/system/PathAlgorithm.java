@@ -0,0 +1,22 @@
+package com.military.coordination.system;
+
+/**
+ * Search algorithms offered by {@link PathfindingSystem}.
+ * <ul>
+ * <li>{@link #A_STAR} - A* honouring per-cell terrain costs.</li>
+ * <li>{@link #JUMP_POINT_SEARCH} - Jump Point Search; much faster on open maps but treats every
+ * passable cell as cost 1. Requires 8-connectivity and falls back to A* otherwise.</li>
+ * </ul>
+ */
+public enum PathAlgorithm {
+    /**
+     * A* honouring per-cell terrain costs.
+     * See {@link PathAlgorithm} for details.
+     */
+    A_STAR,
+    /**
+     * Jump Point Search over uniform-cost terrain.
+     * See {@link PathAlgorithm} for details.
+     */
+    JUMP_POINT_SEARCH
+}
@@ -0,0 +1,298 @@
+package com.military.coordination.system;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import com.military.coordination.component.GridActorMapListener;
+import com.military.coordination.component.OccupancyMask;
+import com.military.coordination.model.TacticalGrid;
+
+/**
+ * Least-recently-used cache of paths computed by {@link PathfindingSystem}, keyed by grid,
+ * start cell, goal cell and movement profile.
+ * <p>
+ * Memory is bounded by the total number of path cells stored. Each cached path is indexed by
+ * the cells it depends on: the cells it passes through, plus the corner cells of its diagonal
+ * steps. The budget counts path cells only; the index holds at most three entries per path cell
+ * (the cell and two corners), so its size stays proportional to the budget. When one of those
+ * cells becomes occupied (reported through {@link #listenerFor(UUID)} by
+ * GridUtilities.moveActor / mapActorId), only the paths that depend on it are dropped.
+ * Cells being vacated never invalidate a path, because a cached path stays valid even if a
+ * shorter one has opened up. Unreachable results are not cached.
+ * </p>
+ * <p>
+ * Hits are also checked against the caller's occupancy mask in O(path length), so a path is
+ * never returned through a cell the mask blocks, even when that cell was occupied without going
+ * through the listener or the caller uses a different mask. Such a stale path is dropped and
+ * recomputed. Not thread-safe.
+ * </p>
+ * <p>
+ * Profiles are compared with {@code equals}. Profiles over {@link TerrainCost#of(int[])} of the
+ * same array are equal, but a terrain cost written as a lambda only equals itself, so reuse one
+ * profile instance per unit type rather than building a new one per lookup.
+ * </p>
+ */
+public final class PathCache {
+
+    /**
+     * Snapshot of cache counters.
+     *
+     * @param hits          Lookups answered from the cache.
+     * @param misses        Lookups that ran a search.
+     * @param evictions     Paths dropped to stay within the memory budget.
+     * @param invalidations Paths dropped because a cell they depend on became occupied.
+     */
+    public record Stats(long hits, long misses, long evictions, long invalidations) {
+    }
+
+    private record PathKey(UUID gridId, int from, int to, MovementProfile profile) {
+    }
+
+    private record CachedPath(int[] cells, int cols) {
+    }
+
+    private final int maxCells;
+    private final PathAlgorithm algorithm;
+    private final LinkedHashMap<PathKey, CachedPath> paths = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UUID, Map<Integer, Set<PathKey>>> dependents = new HashMap<>();
+    private long storedCells;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    /**
+     * Creates a cache searching with A*.
+     *
+     * @param maxCells The memory budget, as the total number of path cells stored.
+     */
+    public PathCache(final int maxCells) {
+        this(maxCells, PathAlgorithm.A_STAR);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxCells  The memory budget, as the total number of path cells stored.
+     * @param algorithm The algorithm used on cache misses.
+     */
+    public PathCache(final int maxCells, final PathAlgorithm algorithm) {
+        if (maxCells <= 0) {
+            throw new IllegalArgumentException("Cache budget must be positive");
+        }
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Path algorithm cannot be null");
+        }
+        this.maxCells = maxCells;
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Get a path from the cache, or compute and cache it.
+     *
+     * @param gridId  The ID of the grid, used to key the cache and route invalidations.
+     * @param grid    The tactical grid.
+     * @param blocked Cells occupied by other actors, or null if none block movement. A cached
+     *                path crossing a cell set in this mask is recomputed.
+     * @param from    The row-major index of the start cell.
+     * @param to      The row-major index of the goal cell.
+     * @param profile The movement profile.
+     * @return The cell indices from start to goal inclusive, or an empty array if unreachable.
+     *         The array is shared with the cache and must not be modified.
+     */
+    public int[] findPath(final UUID gridId,
+                          final TacticalGrid grid,
+                          final OccupancyMask blocked,
+                          final int from,
+                          final int to,
+                          final MovementProfile profile) {
+        PathKey key = new PathKey(gridId, from, to, profile);
+        CachedPath cached = paths.get(key);
+        if (cached != null) {
+            if (blocked == null || !anyDependency(cached, blocked::get)) {
+                hits++;
+                return cached.cells();
+            }
+            remove(key);
+            invalidations++;
+        }
+        misses++;
+        int[] path = PathfindingSystem.findPath(grid, blocked, from, to, profile, algorithm);
+        if (path.length > 0 && path.length <= maxCells) {
+            cached = new CachedPath(path, grid.cols());
+            paths.put(key, cached);
+            storedCells += path.length;
+            index(key, cached);
+            evictToBudget();
+        }
+        return path;
+    }
+
+    /**
+     * Get a listener that invalidates this grid's paths as cells become occupied. Pass it
+     * (alone or combined via {@link GridActorMapListener#of}) to the listener-aware GridUtilities updates.
+     *
+     * @param gridId The ID of the grid the listener reports for.
+     * @return A listener keyed to the grid.
+     */
+    public GridActorMapListener listenerFor(final UUID gridId) {
+        return (coordinate, before, after) -> {
+            if (before.isEmpty() && !after.isEmpty()) {
+                invalidateCell(gridId, coordinate.id());
+            }
+        };
+    }
+
+    /**
+     * Drop every cached path of a grid that depends on a cell.
+     *
+     * @param gridId    The ID of the grid.
+     * @param cellIndex The row-major index of the cell.
+     */
+    public void invalidateCell(final UUID gridId, final int cellIndex) {
+        Map<Integer, Set<PathKey>> gridDependents = dependents.get(gridId);
+        if (gridDependents == null) {
+            return;
+        }
+        Set<PathKey> keys = gridDependents.remove(cellIndex);
+        if (keys == null) {
+            return;
+        }
+        for (PathKey key : keys) {
+            if (remove(key)) {
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Drop every cached path of a grid, e.g. after a terrain change.
+     *
+     * @param gridId The ID of the grid.
+     */
+    public void invalidateGrid(final UUID gridId) {
+        Map<Integer, Set<PathKey>> gridDependents = dependents.remove(gridId);
+        if (gridDependents == null) {
+            return;
+        }
+        Iterator<Map.Entry<PathKey, CachedPath>> iterator = paths.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<PathKey, CachedPath> entry = iterator.next();
+            if (entry.getKey().gridId().equals(gridId)) {
+                storedCells -= entry.getValue().cells().length;
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * @return The number of cached paths.
+     */
+    public int size() {
+        return paths.size();
+    }
+
+    /**
+     * @return The total number of path cells currently stored.
+     */
+    public long storedCells() {
+        return storedCells;
+    }
+
+    /**
+     * @return The current hit, miss, eviction and invalidation counts.
+     */
+    public Stats stats() {
+        return new Stats(hits, misses, evictions, invalidations);
+    }
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<PathKey, CachedPath>> eldest = paths.entrySet().iterator();
+        while (storedCells > maxCells && eldest.hasNext()) {
+            Map.Entry<PathKey, CachedPath> entry = eldest.next();
+            eldest.remove();
+            storedCells -= entry.getValue().cells().length;
+            unindex(entry.getKey(), entry.getValue());
+            evictions++;
+        }
+    }
+
+    /**
+     * Remove one path and its index entries.
+     * @return true if the path was cached.
+     */
+    private boolean remove(final PathKey key) {
+        CachedPath cached = paths.remove(key);
+        if (cached == null) {
+            return false;
+        }
+        storedCells -= cached.cells().length;
+        unindex(key, cached);
+        return true;
+    }
+
+    /**
+     * Register a path under every cell whose occupation would make it invalid.
+     */
+    private void index(final PathKey key, final CachedPath cached) {
+        Map<Integer, Set<PathKey>> gridDependents = dependents.computeIfAbsent(key.gridId(), id -> new HashMap<>());
+        forEachDependency(cached, cell -> gridDependents.computeIfAbsent(cell, c -> new HashSet<>()).add(key));
+    }
+
+    private void unindex(final PathKey key, final CachedPath cached) {
+        Map<Integer, Set<PathKey>> gridDependents = dependents.get(key.gridId());
+        if (gridDependents == null) {
+            return;
+        }
+        forEachDependency(cached, cell -> {
+            Set<PathKey> keys = gridDependents.get(cell);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                gridDependents.remove(cell);
+            }
+        });
+    }
+
+    /**
+     * Visit the cells a path depends on: the cells it passes through (the start and goal may be
+     * occupied) and the two corner cells of each diagonal step. Cells may be visited twice.
+     */
+    private static void forEachDependency(final CachedPath cached, final IntConsumer action) {
+        anyDependency(cached, cell -> {
+            action.accept(cell);
+            return false;
+        });
+    }
+
+    /**
+     * Test the cells a path depends on, in the order {@link #forEachDependency} visits them,
+     * stopping at the first match.
+     *
+     * @return true if the predicate matched a dependency.
+     */
+    private static boolean anyDependency(final CachedPath cached, final IntPredicate predicate) {
+        int[] path = cached.cells();
+        int cols = cached.cols();
+        for (int i = 1; i < path.length; i++) {
+            if (i < path.length - 1 && predicate.test(path[i])) {
+                return true;
+            }
+            int previousRow = path[i - 1] / cols;
+            int previousCol = path[i - 1] - previousRow * cols;
+            int row = path[i] / cols;
+            int col = path[i] - row * cols;
+            if (previousRow != row && previousCol != col
+                && (predicate.test(previousRow * cols + col) || predicate.test(row * cols + previousCol))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,169 @@
+package com.military.coordination.system;
+
+import java.util.Arrays;
+
+/**
+ * Reusable per-thread working memory for grid searches: cost, parent and state arrays indexed
+ * by {@link com.military.coordination.component.GridCoordinate#id()}, plus an indexed binary
+ * min-heap with decrease-key.
+ * <p>
+ * Arrays are never cleared between searches. Each search bumps a generation counter, and a
+ * cell's entries only count as valid when its stamp matches the current generation, so
+ * starting a search costs O(1) however large the grid is.
+ * </p>
+ */
+final class PathSearchScratch {
+    private static final int NONE = -1;
+
+    private int[] cost = new int[0];
+    private int[] priority = new int[0];
+    private int[] parent = new int[0];
+    private int[] heapSlot = new int[0];
+    private int[] seenStamp = new int[0];
+    private int[] closedStamp = new int[0];
+    private int[] heap = new int[0];
+    private int heapSize;
+    private int generation;
+
+    /**
+     * Start a new search over a grid of the given size.
+     */
+    void begin(final int cellCount) {
+        if (cost.length < cellCount) {
+            cost = new int[cellCount];
+            priority = new int[cellCount];
+            parent = new int[cellCount];
+            heapSlot = new int[cellCount];
+            seenStamp = new int[cellCount];
+            closedStamp = new int[cellCount];
+            heap = new int[cellCount];
+            generation = 0;
+        }
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(seenStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+        heapSize = 0;
+    }
+
+    boolean isSeen(final int cell) {
+        return seenStamp[cell] == generation;
+    }
+
+    boolean isClosed(final int cell) {
+        return closedStamp[cell] == generation;
+    }
+
+    void close(final int cell) {
+        closedStamp[cell] = generation;
+    }
+
+    int cost(final int cell) {
+        return cost[cell];
+    }
+
+    int parent(final int cell) {
+        return parent[cell];
+    }
+
+    boolean isEmpty() {
+        return heapSize == 0;
+    }
+
+    /**
+     * Add a cell to the open set, or lower its cost if it is already open with a higher cost.
+     */
+    void push(final int cell, final int newCost, final int newPriority, final int newParent) {
+        if (isSeen(cell)) {
+            if (newCost >= cost[cell] || isClosed(cell)) {
+                return;
+            }
+            cost[cell] = newCost;
+            priority[cell] = newPriority;
+            parent[cell] = newParent;
+            siftUp(heapSlot[cell]);
+            return;
+        }
+        seenStamp[cell] = generation;
+        cost[cell] = newCost;
+        priority[cell] = newPriority;
+        parent[cell] = newParent;
+        heap[heapSize] = cell;
+        heapSlot[cell] = heapSize;
+        siftUp(heapSize++);
+    }
+
+    /**
+     * Remove and return the open cell with the lowest priority.
+     */
+    int pop() {
+        int top = heap[0];
+        int last = heap[--heapSize];
+        if (heapSize > 0) {
+            heap[0] = last;
+            heapSlot[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Copy the chain of parents ending at a cell into a new array, first cell first.
+     */
+    int[] reconstruct(final int end) {
+        int length = 0;
+        for (int cell = end; cell != NONE; cell = parent[cell]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int cell = end; cell != NONE; cell = parent[cell]) {
+            path[--length] = cell;
+        }
+        return path;
+    }
+
+    // Lower priority first; on ties prefer the cell further along (higher cost)
+    private boolean before(final int a, final int b) {
+        return priority[a] < priority[b] || (priority[a] == priority[b] && cost[a] > cost[b]);
+    }
+
+    private void siftUp(final int slot) {
+        int index = slot;
+        int cell = heap[index];
+        while (index > 0) {
+            int parentSlot = (index - 1) >>> 1;
+            int parentCell = heap[parentSlot];
+            if (!before(cell, parentCell)) {
+                break;
+            }
+            heap[index] = parentCell;
+            heapSlot[parentCell] = index;
+            index = parentSlot;
+        }
+        heap[index] = cell;
+        heapSlot[cell] = index;
+    }
+
+    private void siftDown(final int slot) {
+        int index = slot;
+        int cell = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], cell)) {
+                break;
+            }
+            heap[index] = heap[child];
+            heapSlot[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = cell;
+        heapSlot[cell] = index;
+    }
+}
@@ -0,0 +1,361 @@
+package com.military.coordination.system;
+
+import com.military.coordination.component.Connectivity;
+import com.military.coordination.component.OccupancyMask;
+import com.military.coordination.model.TacticalGrid;
+
+/**
+ * Grid pathfinding with A* and Jump Point Search.
+ * <p>
+ * Paths are computed over a {@link TacticalGrid}, an optional occupancy mask (kept in sync with
+ * the {@link com.military.coordination.component.GridActorMap} through GridUtilities listeners)
+ * and a {@link MovementProfile}. Cells are addressed by their row-major index
+ * ({@link com.military.coordination.component.GridCoordinate#id()}).
+ * </p>
+ * <p>
+ * Step costs are integers: 10 per orthogonal and 14 per diagonal step, multiplied by the
+ * terrain cost of the entered cell. Diagonal steps never cut the corner of a blocked cell.
+ * Each thread reuses its own primitive search buffers, so a search allocates nothing
+ * except the returned path.
+ * </p>
+ */
+public final class PathfindingSystem {
+    /** Cost of an orthogonal step onto cost-1 terrain. */
+    public static final int STRAIGHT_COST = 10;
+    /** Cost of a diagonal step onto cost-1 terrain. */
+    public static final int DIAGONAL_COST = 14;
+
+    private static final int[] NO_PATH = new int[0];
+    private static final ThreadLocal<Search> SEARCH = ThreadLocal.withInitial(Search::new);
+
+    private PathfindingSystem() {
+        // Utility class - no instances
+    }
+
+    /**
+     * Find a path with A* using 8-connected movement over uniform terrain.
+     *
+     * @param grid    The tactical grid to search.
+     * @param blocked Cells occupied by other actors, or null if none block movement.
+     * @param start   The row-major index of the start cell.
+     * @param goal    The row-major index of the goal cell.
+     * @return The cell indices from start to goal inclusive, or an empty array if unreachable.
+     */
+    public static int[] findPath(final TacticalGrid grid, final OccupancyMask blocked,
+                                 final int start, final int goal) {
+        return findPath(grid, blocked, start, goal, MovementProfile.STANDARD, PathAlgorithm.A_STAR);
+    }
+
+    /**
+     * Find a path between two cells.
+     * <p>
+     * The start cell is never checked, and the goal may be occupied (actors can share a cell),
+     * but neither may cross impassable terrain. {@link PathAlgorithm#JUMP_POINT_SEARCH} ignores
+     * terrain cost beyond passability and needs 8-connectivity; with 4-connectivity A* is used.
+     * </p>
+     *
+     * @param grid      The tactical grid to search.
+     * @param blocked   Cells occupied by other actors, or null if none block movement.
+     * @param start     The row-major index of the start cell.
+     * @param goal      The row-major index of the goal cell.
+     * @param profile   The movement profile.
+     * @param algorithm The search algorithm.
+     * @return The cell indices from start to goal inclusive, or an empty array if unreachable.
+     */
+    public static int[] findPath(final TacticalGrid grid,
+                                 final OccupancyMask blocked,
+                                 final int start,
+                                 final int goal,
+                                 final MovementProfile profile,
+                                 final PathAlgorithm algorithm) {
+        int cellCount = grid.rows() * grid.cols();
+        if (start < 0 || start >= cellCount || goal < 0 || goal >= cellCount) {
+            throw new IllegalArgumentException("Start and goal must be within grid bounds");
+        }
+        if (blocked != null && (blocked.rows() != grid.rows() || blocked.cols() != grid.cols())) {
+            throw new IllegalArgumentException("Occupancy mask does not match grid dimensions");
+        }
+        Search search = SEARCH.get();
+        search.prepare(grid, blocked, goal, profile);
+        if (!search.passable(goal)) {
+            return NO_PATH;
+        }
+        if (start == goal) {
+            return new int[] {start};
+        }
+        boolean jumpPoints = algorithm == PathAlgorithm.JUMP_POINT_SEARCH
+                             && profile.connectivity() == Connectivity.EIGHT;
+        return jumpPoints ? search.jumpPointSearch(start) : search.aStar(start);
+    }
+
+    /**
+     * Compute the cost of a path under a movement profile, using the same step costs as the search.
+     *
+     * @param grid    The tactical grid the path lies on.
+     * @param path    The cell indices of the path.
+     * @param profile The movement profile.
+     * @return The total path cost (0 for paths of fewer than two cells).
+     */
+    public static int pathCost(final TacticalGrid grid, final int[] path, final MovementProfile profile) {
+        int total = 0;
+        for (int i = 1; i < path.length; i++) {
+            boolean diagonal = path[i - 1] / grid.cols() != path[i] / grid.cols()
+                               && path[i - 1] % grid.cols() != path[i] % grid.cols();
+            total += (diagonal ? DIAGONAL_COST : STRAIGHT_COST) * profile.terrainCost().costOf(path[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Per-thread search state: the scratch buffers plus the parameters of the current query.
+     */
+    private static final class Search {
+        private final PathSearchScratch scratch = new PathSearchScratch();
+        private final int[] successors = new int[Connectivity.EIGHT.size()];
+        private int rows;
+        private int cols;
+        private OccupancyMask blocked;
+        private TerrainCost terrain;
+        private Connectivity connectivity;
+        private int goal;
+        private int goalRow;
+        private int goalCol;
+
+        void prepare(final TacticalGrid grid, final OccupancyMask blockedCells, final int goalCell,
+                     final MovementProfile profile) {
+            rows = grid.rows();
+            cols = grid.cols();
+            blocked = blockedCells;
+            terrain = profile.terrainCost();
+            connectivity = profile.connectivity();
+            goal = goalCell;
+            goalRow = goalCell / cols;
+            goalCol = goalCell % cols;
+            scratch.begin(rows * cols);
+        }
+
+        boolean passable(final int cell) {
+            return terrain.costOf(cell) > 0 && (cell == goal || blocked == null || !blocked.get(cell));
+        }
+
+        boolean walkable(final int row, final int col) {
+            return row >= 0 && row < rows && col >= 0 && col < cols && passable(row * cols + col);
+        }
+
+        int heuristic(final int row, final int col) {
+            int dr = Math.abs(row - goalRow);
+            int dc = Math.abs(col - goalCol);
+            if (connectivity == Connectivity.FOUR) {
+                return STRAIGHT_COST * (dr + dc);
+            }
+            return octile(dr, dc);
+        }
+
+        static int octile(final int dr, final int dc) {
+            int diagonal = Math.min(dr, dc);
+            return STRAIGHT_COST * (Math.max(dr, dc) - diagonal) + DIAGONAL_COST * diagonal;
+        }
+
+        int[] aStar(final int start) {
+            scratch.push(start, 0, heuristic(start / cols, start % cols), -1);
+            while (!scratch.isEmpty()) {
+                int current = scratch.pop();
+                if (current == goal) {
+                    return scratch.reconstruct(goal);
+                }
+                scratch.close(current);
+                int row = current / cols;
+                int col = current - row * cols;
+                for (int direction = 0; direction < connectivity.size(); direction++) {
+                    int dr = connectivity.rowOffset(direction);
+                    int dc = connectivity.colOffset(direction);
+                    int newRow = row + dr;
+                    int newCol = col + dc;
+                    if (!walkable(newRow, newCol)) {
+                        continue;
+                    }
+                    int neighbour = newRow * cols + newCol;
+                    if (scratch.isClosed(neighbour)) {
+                        continue;
+                    }
+                    boolean diagonal = dr != 0 && dc != 0;
+                    if (diagonal && !(walkable(row + dr, col) && walkable(row, col + dc))) {
+                        continue;
+                    }
+                    int step = (diagonal ? DIAGONAL_COST : STRAIGHT_COST) * terrain.costOf(neighbour);
+                    int cost = scratch.cost(current) + step;
+                    scratch.push(neighbour, cost, cost + heuristic(newRow, newCol), current);
+                }
+            }
+            return NO_PATH;
+        }
+
+        int[] jumpPointSearch(final int start) {
+            scratch.push(start, 0, heuristic(start / cols, start % cols), -1);
+            while (!scratch.isEmpty()) {
+                int current = scratch.pop();
+                if (current == goal) {
+                    return expand(scratch.reconstruct(goal));
+                }
+                scratch.close(current);
+                int row = current / cols;
+                int col = current - row * cols;
+                int count = prunedNeighbours(current, row, col);
+                for (int i = 0; i < count; i++) {
+                    int neighbour = successors[i];
+                    int newRow = neighbour / cols;
+                    int newCol = neighbour - newRow * cols;
+                    int jumpPoint = jump(newRow, newCol, newRow - row, newCol - col);
+                    if (jumpPoint < 0 || scratch.isClosed(jumpPoint)) {
+                        continue;
+                    }
+                    int jumpRow = jumpPoint / cols;
+                    int jumpCol = jumpPoint - jumpRow * cols;
+                    int cost = scratch.cost(current) + octile(Math.abs(jumpRow - row), Math.abs(jumpCol - col));
+                    scratch.push(jumpPoint, cost, cost + heuristic(jumpRow, jumpCol), current);
+                }
+            }
+            return NO_PATH;
+        }
+
+        /**
+         * Collect the neighbours worth exploring from a jump point, given the direction it was reached from.
+         * @return The number of neighbours written to {@code successors}.
+         */
+        private int prunedNeighbours(final int cell, final int row, final int col) {
+            int parent = scratch.parent(cell);
+            int count = 0;
+            if (parent < 0) {
+                for (int direction = 0; direction < Connectivity.EIGHT.size(); direction++) {
+                    int dr = Connectivity.EIGHT.rowOffset(direction);
+                    int dc = Connectivity.EIGHT.colOffset(direction);
+                    boolean diagonal = dr != 0 && dc != 0;
+                    if (walkable(row + dr, col + dc)
+                        && (!diagonal || (walkable(row + dr, col) && walkable(row, col + dc)))) {
+                        successors[count++] = (row + dr) * cols + col + dc;
+                    }
+                }
+                return count;
+            }
+            int dr = Integer.signum(row - parent / cols);
+            int dc = Integer.signum(col - parent % cols);
+            if (dr != 0 && dc != 0) {
+                boolean vertical = walkable(row + dr, col);
+                boolean horizontal = walkable(row, col + dc);
+                if (vertical) {
+                    successors[count++] = (row + dr) * cols + col;
+                }
+                if (horizontal) {
+                    successors[count++] = row * cols + col + dc;
+                }
+                if (vertical && horizontal) {
+                    successors[count++] = (row + dr) * cols + col + dc;
+                }
+            } else if (dc != 0) {
+                boolean next = walkable(row, col + dc);
+                boolean up = walkable(row - 1, col);
+                boolean down = walkable(row + 1, col);
+                if (next) {
+                    successors[count++] = row * cols + col + dc;
+                    if (up) {
+                        successors[count++] = (row - 1) * cols + col + dc;
+                    }
+                    if (down) {
+                        successors[count++] = (row + 1) * cols + col + dc;
+                    }
+                }
+                if (up) {
+                    successors[count++] = (row - 1) * cols + col;
+                }
+                if (down) {
+                    successors[count++] = (row + 1) * cols + col;
+                }
+            } else {
+                boolean next = walkable(row + dr, col);
+                boolean left = walkable(row, col - 1);
+                boolean right = walkable(row, col + 1);
+                if (next) {
+                    successors[count++] = (row + dr) * cols + col;
+                    if (left) {
+                        successors[count++] = (row + dr) * cols + col - 1;
+                    }
+                    if (right) {
+                        successors[count++] = (row + dr) * cols + col + 1;
+                    }
+                }
+                if (left) {
+                    successors[count++] = row * cols + col - 1;
+                }
+                if (right) {
+                    successors[count++] = row * cols + col + 1;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Walk from a cell in a fixed direction until reaching the goal, a cell with a forced
+         * neighbour, or a dead end.
+         * @return The jump point's cell index, or -1 if there is none in this direction.
+         */
+        private int jump(final int startRow, final int startCol, final int dr, final int dc) {
+            int row = startRow;
+            int col = startCol;
+            while (true) {
+                if (!walkable(row, col)) {
+                    return -1;
+                }
+                int cell = row * cols + col;
+                if (cell == goal) {
+                    return cell;
+                }
+                if (dr != 0 && dc != 0) {
+                    if (jump(row, col + dc, 0, dc) >= 0 || jump(row + dr, col, dr, 0) >= 0) {
+                        return cell;
+                    }
+                    if (!(walkable(row + dr, col) && walkable(row, col + dc))) {
+                        return -1;
+                    }
+                } else if (dc != 0) {
+                    if ((walkable(row - 1, col) && !walkable(row - 1, col - dc))
+                        || (walkable(row + 1, col) && !walkable(row + 1, col - dc))) {
+                        return cell;
+                    }
+                } else {
+                    if ((walkable(row, col - 1) && !walkable(row - dr, col - 1))
+                        || (walkable(row, col + 1) && !walkable(row - dr, col + 1))) {
+                        return cell;
+                    }
+                }
+                row += dr;
+                col += dc;
+            }
+        }
+
+        /**
+         * Fill in the straight or diagonal runs between consecutive jump points.
+         */
+        private int[] expand(final int[] jumpPoints) {
+            int length = 1;
+            for (int i = 1; i < jumpPoints.length; i++) {
+                length += Math.max(Math.abs(jumpPoints[i] / cols - jumpPoints[i - 1] / cols),
+                                   Math.abs(jumpPoints[i] % cols - jumpPoints[i - 1] % cols));
+            }
+            int[] path = new int[length];
+            path[0] = jumpPoints[0];
+            int index = 1;
+            for (int i = 1; i < jumpPoints.length; i++) {
+                int row = jumpPoints[i - 1] / cols;
+                int col = jumpPoints[i - 1] % cols;
+                int dr = Integer.signum(jumpPoints[i] / cols - row);
+                int dc = Integer.signum(jumpPoints[i] % cols - col);
+                while (row * cols + col != jumpPoints[i]) {
+                    row += dr;
+                    col += dc;
+                    path[index++] = row * cols + col;
+                }
+            }
+            return path;
+        }
+    }
+}
@@ -0,0 +1,607 @@
+package com.military.coordination.system;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import com.military.coordination.component.GlobalsComponent;
+import com.military.coordination.component.GridActorMap;
+import com.military.coordination.component.GridActorMapListener;
+import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.model.SignalStatus;
+import com.military.coordination.model.TowerType;
+
+/**
+ * Per-cell signal strength raster of a grid, composed from the towers placed on it.
+ * <p>
+ * Each tower contributes a precomputed falloff kernel for its {@link TowerType}, strongest at
+ * its own cell and fading linearly with Euclidean distance out to the type's range; a cell's
+ * strength is the strongest contribution covering it. Strengths are stored one byte per cell,
+ * so {@link #signalAt(int)} and {@link #zoneAt(int)} are array reads.
+ * </p>
+ * <p>
+ * Moving or removing a tower only recomputes the cells of its old and new footprints,
+ * consulting just the towers whose footprints overlap. As a {@link GridActorMapListener} the
+ * raster follows registered tower actors as they move through GridUtilities updates; other
+ * actors are ignored. Not thread-safe; a reader on another thread may observe a move half-applied.
+ * </p>
+ * <p>
+ * {@link #rebuild()} recomposes the whole raster in square tiles: towers are first binned to
+ * the tiles their footprints overlap, then each tile is cleared and max-merged from its own
+ * towers while it is hot in cache. Tiles are independent and max is order-insensitive, so the
+ * {@link CompositionMode#PARALLEL} mode produces exactly the {@link CompositionMode#SERIAL} raster.
+ * </p>
+ * <p>
+ * A tower may carry a directional {@link Beam}. Each tower type's footprint also precomputes
+ * the direction of every cell from the centre, with the cells bucketed by whole degree. Re-aiming
+ * a beam therefore visits only the cells in the degrees that enter or leave the sector, and only
+ * cells that lose their strongest contribution consult the other towers.
+ * </p>
+ */
+public final class SignalCoverage implements GridActorMapListener {
+    /** Lowest strength reported as {@link SignalStatus#GREEN}. */
+    public static final int GREEN_THRESHOLD = 70;
+    /** Lowest strength reported as {@link SignalStatus#YELLOW}; anything weaker is RED. */
+    public static final int YELLOW_THRESHOLD = 40;
+
+    /** Side of the square tiles used by {@link #rebuild()}, in cells. */
+    public static final int TILE_SIZE = 32;
+
+    private static final Footprint[] FOOTPRINTS = buildFootprints();
+
+    /**
+     * Precomputed tables for one tower type over its (2r+1)^2 square centred on the tower:
+     * omnidirectional strength by distance, direction of each cell in whole degrees (-1 at the
+     * centre), and the in-range cells grouped by direction.
+     */
+    private static final class Footprint {
+        private final int range;
+        private final int side;
+        private final byte[] kernel;
+        private final short[] angleOf;
+        private final int[] byAngle;
+        private final int[] angleStart;
+
+        private Footprint(final TowerType type) {
+            range = type.range();
+            side = 2 * range + 1;
+            kernel = new byte[side * side];
+            angleOf = new short[side * side];
+            angleStart = new int[361];
+            int inRange = 0;
+            for (int dr = -range; dr <= range; dr++) {
+                for (int dc = -range; dc <= range; dc++) {
+                    int index = (dr + range) * side + dc + range;
+                    double distance = Math.sqrt((double) dr * dr + (double) dc * dc);
+                    if (distance <= range) {
+                        kernel[index] = (byte) Math.round(type.peakSignal() * (1.0 - distance / (range + 1)));
+                    }
+                    if (dr == 0 && dc == 0) {
+                        angleOf[index] = -1;
+                        continue;
+                    }
+                    angleOf[index] = (short) Math.floorMod(Math.round(Math.toDegrees(Math.atan2(dr, dc))), 360);
+                    if (kernel[index] > 0) {
+                        angleStart[angleOf[index] + 1]++;
+                        inRange++;
+                    }
+                }
+            }
+            for (int angle = 0; angle < 360; angle++) {
+                angleStart[angle + 1] += angleStart[angle];
+            }
+            byAngle = new int[inRange];
+            int[] filled = Arrays.copyOf(angleStart, 360);
+            for (int index = 0; index < kernel.length; index++) {
+                if (kernel[index] > 0 && angleOf[index] >= 0) {
+                    byAngle[filled[angleOf[index]]++] = index;
+                }
+            }
+        }
+
+        /**
+         * Strength contributed at a footprint index under a beam (null for omnidirectional).
+         */
+        private int value(final int index, final Beam beam) {
+            int base = kernel[index];
+            if (beam == null || base == 0) {
+                return base;
+            }
+            if (angleOf[index] < 0 || beam.covers(angleOf[index])) {
+                return Math.min(GlobalsComponent.MAX_SIGNAL_STRENGTH, base * beam.boostPercent() / 100);
+            }
+            return base * beam.offBeamPercent() / 100;
+        }
+    }
+
+    /**
+     * A registered tower and its current cell (-1 while not placed).
+     */
+    private static final class Tower {
+        private final TowerType type;
+        private final Footprint footprint;
+        private Beam beam;
+        private int row = -1;
+        private int col = -1;
+
+        private Tower(final TowerType type) {
+            this.type = type;
+            this.footprint = FOOTPRINTS[type.ordinal()];
+        }
+
+        private boolean isPlaced() {
+            return row >= 0;
+        }
+
+        private boolean overlaps(final int minRow, final int minCol, final int maxRow, final int maxCol) {
+            int range = type.range();
+            return isPlaced() && row + range >= minRow && row - range <= maxRow
+                   && col + range >= minCol && col - range <= maxCol;
+        }
+
+        private int contribution(final int cellRow, final int cellCol) {
+            int range = type.range();
+            int dr = cellRow - row;
+            int dc = cellCol - col;
+            if (dr < -range || dr > range || dc < -range || dc > range) {
+                return 0;
+            }
+            return footprint.value((dr + range) * footprint.side + dc + range, beam);
+        }
+    }
+
+    private final int rows;
+    private final int cols;
+    private final byte[] strength;
+    private final Map<Integer, Tower> towers = new HashMap<>();
+    private CompositionMode compositionMode = CompositionMode.SERIAL;
+    private long cellsRecomputed;
+
+    /**
+     * Creates an empty raster for a grid of the given size.
+     *
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     */
+    public SignalCoverage(final int rows, final int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.strength = new byte[Math.multiplyExact(rows, cols)];
+    }
+
+    /**
+     * Builds the coverage of the towers in a grid actor map.
+     *
+     * @param actorMap The actor map holding tower positions.
+     * @param rows     The number of rows in the grid.
+     * @param cols     The number of columns in the grid.
+     * @param towers   The type of every tower actor, by actor ID. Towers absent from the map are
+     *                 registered but not placed.
+     * @return A raster covering the placed towers.
+     */
+    public static SignalCoverage of(final GridActorMap actorMap, final int rows, final int cols,
+                                    final Map<Integer, TowerType> towers) {
+        return of(actorMap, rows, cols, towers, CompositionMode.SERIAL);
+    }
+
+    /**
+     * Builds the coverage of the towers in a grid actor map with one full composition.
+     *
+     * @param actorMap The actor map holding tower positions.
+     * @param rows     The number of rows in the grid.
+     * @param cols     The number of columns in the grid.
+     * @param towers   The type of every tower actor, by actor ID. Towers absent from the map are
+     *                 registered but not placed.
+     * @param mode     How to compose the raster, here and on later rebuilds.
+     * @return A raster covering the placed towers.
+     */
+    public static SignalCoverage of(final GridActorMap actorMap, final int rows, final int cols,
+                                    final Map<Integer, TowerType> towers, final CompositionMode mode) {
+        SignalCoverage coverage = new SignalCoverage(rows, cols);
+        coverage.setCompositionMode(mode);
+        Map<Integer, GridCoordinate> positions = actorMap.actorIndex();
+        towers.forEach((towerId, type) -> {
+            GridCoordinate position = positions.get(towerId);
+            Tower tower = coverage.register(towerId, type);
+            if (position != null && position.row() < rows && position.col() < cols) {
+                tower.row = position.row();
+                tower.col = position.col();
+            }
+        });
+        coverage.rebuild();
+        return coverage;
+    }
+
+    /**
+     * Register a tower.
+     *
+     * @param towerId   The ID of the tower actor.
+     * @param type      The type of tower.
+     * @param cellIndex The row-major index of its cell, or -1 to register it unplaced.
+     */
+    public void addTower(final int towerId, final TowerType type, final int cellIndex) {
+        if (type == null) {
+            throw new IllegalArgumentException("Tower type cannot be null");
+        }
+        register(towerId, type);
+        if (cellIndex >= 0) {
+            moveTower(towerId, cellIndex);
+        }
+    }
+
+    /**
+     * Move a registered tower, recomputing only its old and new footprints.
+     *
+     * @param towerId   The ID of the tower actor.
+     * @param cellIndex The row-major index of its new cell, or -1 to take it off the grid.
+     */
+    public void moveTower(final int towerId, final int cellIndex) {
+        Tower tower = towers.get(towerId);
+        if (tower == null) {
+            throw new IllegalArgumentException("Unknown tower: " + towerId);
+        }
+        if (cellIndex < -1 || cellIndex >= strength.length) {
+            throw new IllegalArgumentException("Cell index out of bounds: " + cellIndex);
+        }
+        if (tower.isPlaced()) {
+            int oldRow = tower.row;
+            int oldCol = tower.col;
+            if (oldRow * cols + oldCol == cellIndex) {
+                return;
+            }
+            tower.row = -1;
+            tower.col = -1;
+            int range = tower.type.range();
+            recompute(oldRow - range, oldCol - range, oldRow + range, oldCol + range);
+        }
+        if (cellIndex >= 0) {
+            tower.row = cellIndex / cols;
+            tower.col = cellIndex % cols;
+            stamp(tower);
+        }
+    }
+
+    /**
+     * Unregister a tower, clearing its contribution.
+     *
+     * @param towerId The ID of the tower actor.
+     */
+    public void removeTower(final int towerId) {
+        if (towers.containsKey(towerId)) {
+            moveTower(towerId, -1);
+            towers.remove(towerId);
+        }
+    }
+
+    /**
+     * Point a tower's beam, or make it omnidirectional. Changing only the heading revisits just
+     * the cells whose direction enters or leaves the sector; changing the beam's shape revisits
+     * the tower's footprint. Either way no other tower's footprint is recomposed.
+     *
+     * @param towerId The ID of the tower actor.
+     * @param beam    The new beam, or null for omnidirectional coverage.
+     */
+    public void aimBeam(final int towerId, final Beam beam) {
+        Tower tower = towers.get(towerId);
+        if (tower == null) {
+            throw new IllegalArgumentException("Unknown tower: " + towerId);
+        }
+        Beam previous = tower.beam;
+        tower.beam = beam;
+        if (!tower.isPlaced() || Objects.equals(previous, beam)) {
+            return;
+        }
+        Footprint footprint = tower.footprint;
+        List<Tower> overlapping = overlapping(tower.row - footprint.range, tower.col - footprint.range,
+                                              tower.row + footprint.range, tower.col + footprint.range);
+        boolean headingOnly = previous != null && beam != null && previous.width() == beam.width()
+                              && previous.boostPercent() == beam.boostPercent()
+                              && previous.offBeamPercent() == beam.offBeamPercent();
+        if (headingOnly) {
+            for (int angle = 0; angle < 360; angle++) {
+                if (previous.covers(angle) != beam.covers(angle)) {
+                    for (int i = footprint.angleStart[angle]; i < footprint.angleStart[angle + 1]; i++) {
+                        reaimCell(tower, footprint.byAngle[i], previous, overlapping);
+                    }
+                }
+            }
+        } else {
+            for (int index = 0; index < footprint.kernel.length; index++) {
+                if (footprint.kernel[index] > 0) {
+                    reaimCell(tower, index, previous, overlapping);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param towerId The ID of the tower actor.
+     * @return The tower's beam, or null if it is omnidirectional.
+     */
+    public Beam beamOf(final int towerId) {
+        Tower tower = towers.get(towerId);
+        if (tower == null) {
+            throw new IllegalArgumentException("Unknown tower: " + towerId);
+        }
+        return tower.beam;
+    }
+
+    /**
+     * Follow registered towers through actor map changes. A tower appearing in a cell is moved
+     * there; a tower leaving the cell it was recorded in is taken off the grid, which tolerates
+     * the cells of a move being reported in either order.
+     */
+    @Override
+    public void cellChanged(final GridCoordinate coordinate, final Set<Integer> before, final Set<Integer> after) {
+        if (coordinate.row() >= rows || coordinate.col() >= cols) {
+            return;
+        }
+        int cellIndex = coordinate.row() * cols + coordinate.col();
+        for (Integer actorId : after) {
+            Tower tower = towers.get(actorId);
+            if (tower != null && tower.row * cols + tower.col != cellIndex) {
+                moveTower(actorId, cellIndex);
+            }
+        }
+        for (Integer actorId : before) {
+            Tower tower = towers.get(actorId);
+            if (tower != null && !after.contains(actorId) && tower.isPlaced()
+                && tower.row * cols + tower.col == cellIndex) {
+                moveTower(actorId, -1);
+            }
+        }
+    }
+
+    /**
+     * Recompose the whole raster from every placed tower, using the current composition mode.
+     */
+    public void rebuild() {
+        int tileRows = (rows + TILE_SIZE - 1) / TILE_SIZE;
+        int tileCols = (cols + TILE_SIZE - 1) / TILE_SIZE;
+        Tower[][] bins = binByTile(tileRows, tileCols);
+        IntStream tiles = IntStream.range(0, tileRows * tileCols);
+        if (compositionMode == CompositionMode.PARALLEL) {
+            tiles = tiles.parallel();
+        }
+        tiles.forEach(tile -> composeTile(tile / tileCols, tile % tileCols, bins[tile]));
+    }
+
+    /**
+     * @param mode How {@link #rebuild()} composes the raster.
+     */
+    public void setCompositionMode(final CompositionMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Composition mode cannot be null");
+        }
+        this.compositionMode = mode;
+    }
+
+    /**
+     * @return How {@link #rebuild()} composes the raster.
+     */
+    public CompositionMode compositionMode() {
+        return compositionMode;
+    }
+
+    /**
+     * Get the signal strength of a cell.
+     *
+     * @param cellIndex The row-major index of the cell.
+     * @return The strength, 0-100.
+     */
+    public int signalAt(final int cellIndex) {
+        return strength[cellIndex];
+    }
+
+    /**
+     * Get the signal zone of a cell.
+     *
+     * @param cellIndex The row-major index of the cell.
+     * @return The zone for the cell's strength.
+     */
+    public SignalStatus zoneAt(final int cellIndex) {
+        return zoneOf(strength[cellIndex]);
+    }
+
+    /**
+     * Classify a signal strength into a zone.
+     *
+     * @param signalStrength The strength, 0-100.
+     * @return GREEN from {@link #GREEN_THRESHOLD}, YELLOW from {@link #YELLOW_THRESHOLD}, else RED.
+     */
+    public static SignalStatus zoneOf(final int signalStrength) {
+        if (signalStrength >= GREEN_THRESHOLD) {
+            return SignalStatus.GREEN;
+        }
+        return signalStrength >= YELLOW_THRESHOLD ? SignalStatus.YELLOW : SignalStatus.RED;
+    }
+
+    /**
+     * @return The number of rows in the grid.
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of columns in the grid.
+     */
+    public int cols() {
+        return cols;
+    }
+
+    /**
+     * @return The total number of cells recomputed after towers moved or were removed.
+     */
+    public long cellsRecomputed() {
+        return cellsRecomputed;
+    }
+
+    private Tower register(final int towerId, final TowerType type) {
+        if (towers.containsKey(towerId)) {
+            throw new IllegalArgumentException("Tower already registered: " + towerId);
+        }
+        Tower tower = new Tower(type);
+        towers.put(towerId, tower);
+        return tower;
+    }
+
+    /**
+     * Group placed towers by the tiles their footprints overlap, with a counting pass then a fill pass.
+     */
+    private Tower[][] binByTile(final int tileRows, final int tileCols) {
+        int[] counts = new int[tileRows * tileCols];
+        for (Tower tower : towers.values()) {
+            forEachTile(tower, tileCols, tile -> counts[tile]++);
+        }
+        Tower[][] bins = new Tower[counts.length][];
+        for (int tile = 0; tile < counts.length; tile++) {
+            bins[tile] = new Tower[counts[tile]];
+        }
+        int[] filled = new int[counts.length];
+        for (Tower tower : towers.values()) {
+            forEachTile(tower, tileCols, tile -> bins[tile][filled[tile]++] = tower);
+        }
+        return bins;
+    }
+
+    /**
+     * Visit the tiles a placed tower's footprint overlaps; unplaced towers overlap none.
+     */
+    private void forEachTile(final Tower tower, final int tileCols, final IntConsumer action) {
+        if (!tower.isPlaced()) {
+            return;
+        }
+        int range = tower.type.range();
+        int tileRowTo = Math.min(rows - 1, tower.row + range) / TILE_SIZE;
+        int tileColFrom = Math.max(0, tower.col - range) / TILE_SIZE;
+        int tileColTo = Math.min(cols - 1, tower.col + range) / TILE_SIZE;
+        for (int tileRow = Math.max(0, tower.row - range) / TILE_SIZE; tileRow <= tileRowTo; tileRow++) {
+            for (int tileCol = tileColFrom; tileCol <= tileColTo; tileCol++) {
+                action.accept(tileRow * tileCols + tileCol);
+            }
+        }
+    }
+
+    /**
+     * Clear one tile and max-merge the footprints of its towers into it.
+     */
+    private void composeTile(final int tileRow, final int tileCol, final Tower[] tileTowers) {
+        int minRow = tileRow * TILE_SIZE;
+        int minCol = tileCol * TILE_SIZE;
+        int maxRow = Math.min(rows - 1, minRow + TILE_SIZE - 1);
+        int maxCol = Math.min(cols - 1, minCol + TILE_SIZE - 1);
+        for (int row = minRow; row <= maxRow; row++) {
+            Arrays.fill(strength, row * cols + minCol, row * cols + maxCol + 1, (byte) 0);
+        }
+        for (Tower tower : tileTowers) {
+            stamp(tower, minRow, minCol, maxRow, maxCol);
+        }
+    }
+
+    /**
+     * Update one footprint cell after a tower's beam changed: raise it if the tower now
+     * dominates, or recompute it if the tower was its strongest source and weakened.
+     */
+    private void reaimCell(final Tower tower, final int index, final Beam previous, final List<Tower> overlapping) {
+        Footprint footprint = tower.footprint;
+        int row = tower.row + index / footprint.side - footprint.range;
+        int col = tower.col + index % footprint.side - footprint.range;
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return;
+        }
+        int cell = row * cols + col;
+        int oldValue = footprint.value(index, previous);
+        int newValue = footprint.value(index, tower.beam);
+        if (newValue >= strength[cell]) {
+            strength[cell] = (byte) newValue;
+        } else if (newValue < oldValue && oldValue == strength[cell]) {
+            strength[cell] = (byte) strongestAt(row, col, overlapping);
+        }
+        cellsRecomputed++;
+    }
+
+    /**
+     * Raise every cell in a tower's footprint to at least its contribution.
+     */
+    private void stamp(final Tower tower) {
+        stamp(tower, 0, 0, rows - 1, cols - 1);
+    }
+
+    /**
+     * Raise every cell in a tower's footprint, clipped to a rectangle, to at least its contribution.
+     */
+    private void stamp(final Tower tower, final int clipMinRow, final int clipMinCol, final int clipMaxRow,
+                       final int clipMaxCol) {
+        Footprint footprint = tower.footprint;
+        int range = footprint.range;
+        int side = footprint.side;
+        int minRow = Math.max(clipMinRow, tower.row - range);
+        int maxRow = Math.min(clipMaxRow, tower.row + range);
+        int minCol = Math.max(clipMinCol, tower.col - range);
+        int maxCol = Math.min(clipMaxCol, tower.col + range);
+        for (int row = minRow; row <= maxRow; row++) {
+            int kernelRow = (row - tower.row + range) * side + range - tower.col;
+            for (int col = minCol; col <= maxCol; col++) {
+                int cell = row * cols + col;
+                int value = footprint.value(kernelRow + col, tower.beam);
+                if (value > strength[cell]) {
+                    strength[cell] = (byte) value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Recompute a rectangle from the towers overlapping it. Bounds are inclusive and clamped.
+     */
+    private void recompute(final int minRow, final int minCol, final int maxRow, final int maxCol) {
+        int rowFrom = Math.max(0, minRow);
+        int rowTo = Math.min(rows - 1, maxRow);
+        int colFrom = Math.max(0, minCol);
+        int colTo = Math.min(cols - 1, maxCol);
+        List<Tower> overlapping = overlapping(rowFrom, colFrom, rowTo, colTo);
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+                strength[row * cols + col] = (byte) strongestAt(row, col, overlapping);
+            }
+        }
+        cellsRecomputed += (long) (rowTo - rowFrom + 1) * (colTo - colFrom + 1);
+    }
+
+    private List<Tower> overlapping(final int minRow, final int minCol, final int maxRow, final int maxCol) {
+        List<Tower> overlapping = new ArrayList<>();
+        for (Tower tower : towers.values()) {
+            if (tower.overlaps(minRow, minCol, maxRow, maxCol)) {
+                overlapping.add(tower);
+            }
+        }
+        return overlapping;
+    }
+
+    private static int strongestAt(final int row, final int col, final List<Tower> candidates) {
+        int best = 0;
+        for (Tower tower : candidates) {
+            best = Math.max(best, tower.contribution(row, col));
+        }
+        return best;
+    }
+
+    private static Footprint[] buildFootprints() {
+        TowerType[] types = TowerType.values();
+        Footprint[] footprints = new Footprint[types.length];
+        for (TowerType type : types) {
+            footprints[type.ordinal()] = new Footprint(type);
+        }
+        return footprints;
+    }
+}
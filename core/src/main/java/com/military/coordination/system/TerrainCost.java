@@ -0,0 +1,40 @@
+package com.military.coordination.system;
+
+/**
+ * Cost of entering a grid cell, used by pathfinding and flow fields.
+ * <p>
+ * Costs are small positive multipliers (1 for open ground); a cost of zero or less marks the
+ * cell as impassable. Keep costs well below 10,000 so accumulated path costs fit in an int.
+ * </p>
+ */
+@FunctionalInterface
+public interface TerrainCost {
+
+    /** Cost returned for impassable cells. */
+    int IMPASSABLE = 0;
+
+    /** Every cell costs 1 to enter. */
+    TerrainCost UNIFORM = cellIndex -> 1;
+
+    /**
+     * Get the cost of entering a cell.
+     *
+     * @param cellIndex The row-major index of the cell.
+     * @return The cost multiplier, or {@link #IMPASSABLE} (or any value below 1) if the cell cannot be entered.
+     */
+    int costOf(int cellIndex);
+
+    /**
+     * Create a terrain cost backed by a per-cell array.
+     *
+     * @param costs The cost of each cell, indexed by row-major cell index; not copied.
+     * @return A terrain cost reading from {@code costs}, equal to every other terrain cost created
+     *         from the same array.
+     */
+    static TerrainCost of(final int[] costs) {
+        if (costs == null) {
+            throw new IllegalArgumentException("Cost array cannot be null");
+        }
+        return new ArrayTerrainCost(costs);
+    }
+}
@@ -0,0 +1,267 @@
+package com.military.coordination.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.military.coordination.component.GridActorMap;
+import com.military.coordination.component.GridActorMapListener;
+import com.military.coordination.component.GridCoordinate;
+
+/**
+ * Batch builder that applies many moves, placements and removals to a {@link GridActorMap}
+ * and produces a single new immutable map on {@link #commit()}.
+ * <p>
+ * Operations are only recorded until commit; they are then replayed in order against a
+ * small overlay of the touched cells, validated once, and folded into the base map in one
+ * step. No intermediate maps are built, and the base map is never modified.
+ * </p>
+ */
+public final class GridActorMapTransaction {
+
+    /**
+     * Outcome of a successful commit.
+     *
+     * @param actorMap     The new actor map.
+     * @param changedCells The coordinates whose actors differ from the base map.
+     */
+    public record Result(GridActorMap actorMap, Set<GridCoordinate> changedCells) {
+    }
+
+    /**
+     * Thrown by {@link #commit()} when one or more operations conflict with the map state.
+     * Every conflict in the batch is reported, not just the first.
+     */
+    public static final class ConflictException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<String> conflicts;
+
+        ConflictException(final List<String> conflicts) {
+            super(conflicts.size() + " conflicting grid operation(s): " + String.join("; ", conflicts));
+            this.conflicts = List.copyOf(conflicts);
+        }
+
+        /**
+         * @return A description of each conflicting operation, in submission order.
+         */
+        public List<String> conflicts() {
+            return conflicts;
+        }
+    }
+
+    private enum OperationType { MOVE, MAP, REMOVE, REMOVE_ALL }
+
+    private record Operation(OperationType type, int actorId, GridCoordinate from, GridCoordinate to) {
+    }
+
+    private final GridActorMap base;
+    private final List<Operation> operations = new ArrayList<>();
+    private boolean committed;
+
+    /**
+     * Starts a transaction on top of an existing map.
+     *
+     * @param base The map the operations apply to.
+     */
+    public GridActorMapTransaction(final GridActorMap base) {
+        if (base == null) {
+            throw new IllegalArgumentException("Actor map cannot be null");
+        }
+        this.base = base;
+    }
+
+    /**
+     * Queue a move of an actor from one grid position to another.
+     *
+     * @param actorId The ID of the actor to move.
+     * @param from The grid coordinate to move the actor from.
+     * @param to The grid coordinate to move the actor to.
+     * @return This transaction, for chaining.
+     */
+    public GridActorMapTransaction moveActor(final int actorId, final GridCoordinate from, final GridCoordinate to) {
+        return record(new Operation(OperationType.MOVE, actorId, from, to));
+    }
+
+    /**
+     * Queue mapping an actor to a grid position, replacing any actors already there.
+     *
+     * @param coordinate The grid coordinate to add the actor to.
+     * @param actorId The actorId to add at the specified coordinate.
+     * @return This transaction, for chaining.
+     */
+    public GridActorMapTransaction mapActorId(final GridCoordinate coordinate, final int actorId) {
+        return record(new Operation(OperationType.MAP, actorId, null, coordinate));
+    }
+
+    /**
+     * Queue removing an actor from a grid position.
+     *
+     * @param coordinate The grid coordinate to remove the actor from.
+     * @param actorId The ID of the actor to remove.
+     * @return This transaction, for chaining.
+     */
+    public GridActorMapTransaction removeActor(final GridCoordinate coordinate, final int actorId) {
+        return record(new Operation(OperationType.REMOVE, actorId, coordinate, null));
+    }
+
+    /**
+     * Queue removing all actors from a grid position.
+     *
+     * @param coordinate The grid coordinate to clear.
+     * @return This transaction, for chaining.
+     */
+    public GridActorMapTransaction removeActors(final GridCoordinate coordinate) {
+        return record(new Operation(OperationType.REMOVE_ALL, -1, coordinate, null));
+    }
+
+    /**
+     * @return The number of queued operations.
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Validate and apply all queued operations, producing a single new map.
+     *
+     * @return The new map and the set of changed cells.
+     * @throws ConflictException if any operation conflicts; no map is produced in that case.
+     * @throws IllegalStateException if the transaction was already committed.
+     */
+    public Result commit() {
+        return commit(GridActorMapListener.NONE);
+    }
+
+    /**
+     * Validate and apply all queued operations, then report every changed cell to a listener.
+     *
+     * @param listener Notified once per changed cell, to keep derived layers in sync.
+     * @return The new map and the set of changed cells.
+     * @throws ConflictException if any operation conflicts; no map is produced in that case.
+     * @throws IllegalStateException if the transaction was already committed.
+     */
+    public Result commit(final GridActorMapListener listener) {
+        if (committed) {
+            throw new IllegalStateException("Transaction already committed");
+        }
+        committed = true;
+
+        Map<GridCoordinate, Set<Integer>> overlay = new LinkedHashMap<>();
+        Map<Integer, GridCoordinate> placements = new HashMap<>();
+        List<String> conflicts = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            String conflict = apply(operations.get(i), overlay, placements);
+            if (conflict != null) {
+                conflicts.add("#" + i + " " + conflict);
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new ConflictException(conflicts);
+        }
+
+        Map<GridCoordinate, Set<Integer>> changes = new HashMap<>();
+        overlay.forEach((coordinate, actors) -> {
+            if (!actors.equals(base.actorMap().getOrDefault(coordinate, Set.of()))) {
+                changes.put(coordinate, actors);
+            }
+        });
+        GridActorMap result = changes.isEmpty() ? base : base.withChanges(changes);
+        changes.forEach((coordinate, actors) -> listener.cellChanged(
+            coordinate,
+            base.actorMap().getOrDefault(coordinate, Set.of()),
+            result.actorMap().getOrDefault(coordinate, Set.of())));
+        return new Result(result, Collections.unmodifiableSet(changes.keySet()));
+    }
+
+    private GridActorMapTransaction record(final Operation operation) {
+        if (committed) {
+            throw new IllegalStateException("Transaction already committed");
+        }
+        operations.add(operation);
+        return this;
+    }
+
+    /**
+     * Apply one operation to the overlay.
+     * @param placements The cell each actor was last added to within this transaction.
+     * @return A conflict description, or null if the operation applied cleanly.
+     */
+    private String apply(final Operation operation,
+                         final Map<GridCoordinate, Set<Integer>> overlay,
+                         final Map<Integer, GridCoordinate> placements) {
+        switch (operation.type()) {
+            case MOVE -> {
+                if (operation.from() == null || operation.to() == null) {
+                    return "Grid coordinate cannot be null [actorId: " + operation.actorId() + "]";
+                }
+                Set<Integer> fromActors = cell(overlay, operation.from());
+                if (!fromActors.remove(operation.actorId())) {
+                    return "Actor ID " + operation.actorId() + " not found at coordinate " + operation.from();
+                }
+                cell(overlay, operation.to()).add(operation.actorId());
+                placements.put(operation.actorId(), operation.to());
+            }
+            case MAP -> {
+                if (operation.to() == null) {
+                    return "Grid coordinate cannot be null [actorId: " + operation.actorId() + "]";
+                }
+                if (operation.actorId() < 0) {
+                    return "Actor ID must be positive: " + operation.actorId();
+                }
+                GridCoordinate current = positionOf(operation.actorId(), overlay, placements);
+                if (current != null && !current.equals(operation.to())) {
+                    return "Actor ID " + operation.actorId() + " is already placed at coordinate " + current;
+                }
+                Set<Integer> actors = cell(overlay, operation.to());
+                actors.clear();
+                actors.add(operation.actorId());
+                placements.put(operation.actorId(), operation.to());
+            }
+            case REMOVE -> {
+                if (operation.from() == null || !cell(overlay, operation.from()).remove(operation.actorId())) {
+                    return "Actor ID " + operation.actorId() + " not found at coordinate " + operation.from();
+                }
+            }
+            case REMOVE_ALL -> {
+                if (operation.from() == null || cell(overlay, operation.from()).isEmpty()) {
+                    return "No actors at position: " + operation.from();
+                }
+                cell(overlay, operation.from()).clear();
+            }
+            default -> throw new IllegalStateException("Unknown operation: " + operation.type());
+        }
+        return null;
+    }
+
+    /**
+     * Find where an actor stands as of the operations applied so far; touched cells in the
+     * overlay take precedence over the base map's index.
+     * @return The actor's coordinate, or null if it is not on the grid.
+     */
+    private GridCoordinate positionOf(final int actorId,
+                                      final Map<GridCoordinate, Set<Integer>> overlay,
+                                      final Map<Integer, GridCoordinate> placements) {
+        GridCoordinate position = placements.containsKey(actorId)
+            ? placements.get(actorId)
+            : base.actorIndex().get(actorId);
+        if (position == null) {
+            return null;
+        }
+        Set<Integer> actors = overlay.get(position);
+        return actors == null || actors.contains(actorId) ? position : null;
+    }
+
+    /**
+     * Get the mutable working set for a cell, seeding it from the base map on first touch.
+     */
+    private Set<Integer> cell(final Map<GridCoordinate, Set<Integer>> overlay, final GridCoordinate coordinate) {
+        return overlay.computeIfAbsent(coordinate,
+            key -> new HashSet<>(base.actorMap().getOrDefault(key, Set.of())));
+    }
+}
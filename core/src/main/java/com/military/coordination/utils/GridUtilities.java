@@ -1,18 +1,29 @@
 package com.military.coordination.utils;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.IntConsumer;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.military.coordination.actor.GridActor;
+import com.military.coordination.component.ActorSpatialIndex;
+import com.military.coordination.component.CellHandle;
+import com.military.coordination.component.Connectivity;
+import com.military.coordination.component.DistanceMetric;
 import com.military.coordination.component.GridActorMap;
+import com.military.coordination.component.GridActorMapListener;
 import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.component.GridCoordinateStore;
+import com.military.coordination.component.GridOccupancyStore;
+import com.military.coordination.component.OccupancyMask;
 import com.military.coordination.manager.CoordinateManager;
 import com.military.coordination.manager.GridManager;
 import com.military.coordination.model.TacticalGrid;
@@ -49,6 +60,7 @@ public final class GridUtilities {
         UUID gridId = UUID.randomUUID();
         TacticalGrid grid = new TacticalGrid(rows, cols, cellSize);
         gridManager.grids().put(gridId, new GridActor(gridId, grid));
+        gridManager.invalidateBounds();
 
         return gridId;
     }
@@ -91,15 +103,8 @@ public final class GridUtilities {
             throw new IllegalArgumentException("Grid dimensions must be positive");
         }
 
-        // Pre-compute the coordinates for the grid
-        GridCoordinate[] coordinates = new GridCoordinate[rows * cols];
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                int coordinateId = row * cols + col;
-                coordinates[coordinateId] = new GridCoordinate(coordinateId, row, col);
-            }
-        }
-        coordinateManager.coordinates.put(gridId, coordinates);
+        // Coordinates are created on first access, chunk by chunk
+        coordinateManager.register(gridId, new GridCoordinateStore(rows, cols));
     }
 
     /**
@@ -127,6 +132,8 @@ public final class GridUtilities {
 
     /**
      * Convert world position to grid coordinate.
+     * The grid is assumed to start at the world origin; use
+     * {@link #toGridCoordinate(GridManager, CoordinateManager, UUID, Vector2)} for offset grids.
      * @param gridId The ID of the grid to convert to.
      * @param coordinateManager The coordinate manager containing valid coordinates.
      * @param worldPosition The world position to convert.
@@ -145,13 +152,30 @@ public final class GridUtilities {
         int col = (int) (worldPosition.x / cellSize);
         int index = row * cols + col;
 
-        if (index < 0 || index >= coordinateManager.coordinates.get(gridId).length) {
+        GridCoordinateStore coordinates = coordinateManager.store(gridId);
+        if (index < 0 || index >= coordinates.length()) {
             Gdx.app.log("Warning", "Invalid grid coordinate position: " + worldPosition
                            + " for grid ID: " + gridId + " [index: " + index + "]");
             return null;  // Return null if the position is invalid
         }
 
-        return coordinateManager.coordinates.get(gridId)[index];
+        return coordinates.get(index);
+    }
+
+    /**
+     * Convert world position to grid coordinate, honouring the grid's world position.
+     * @param gridManager The grid manager owning the grid.
+     * @param coordinateManager The coordinate manager holding the grid's coordinates.
+     * @param gridId The ID of the grid.
+     * @param worldPosition The world position to convert.
+     * @return GridCoordinate corresponding to the world position, or null if outside the grid.
+     */
+    public static GridCoordinate toGridCoordinate(final GridManager gridManager,
+                                                  final CoordinateManager coordinateManager,
+                                                  final UUID gridId,
+                                                  final Vector2 worldPosition) {
+        int cellIndex = toCellIndex(getGridById(gridManager, gridId), worldPosition.x, worldPosition.y);
+        return cellIndex < 0 ? null : coordinateManager.coordinateAt(gridId, cellIndex);
     }
 
     /**
@@ -189,15 +213,29 @@ public final class GridUtilities {
     public static GridActorMap mapActorId(final GridActorMap actorMap,
                                           final GridCoordinate coordinate,
                                           final Integer actorId) {
+        return mapActorId(actorMap, coordinate, actorId, GridActorMapListener.NONE);
+    }
+
+    /**
+     * Map an actor to a grid position, reporting the changed cell to a listener.
+     * @param actorMap The current grid actor map.
+     * @param coordinate The grid coordinate to add the actor to.
+     * @param actorId The actorId to add at the specified coordinate.
+     * @param listener Notified of the changed cell, to keep derived layers in sync.
+     * @return A new GridActorMap with the actor added - does not mutate the original.
+     */
+    public static GridActorMap mapActorId(final GridActorMap actorMap,
+                                          final GridCoordinate coordinate,
+                                          final Integer actorId,
+                                          final GridActorMapListener listener) {
         if (coordinate == null) {
             throw new IllegalArgumentException("Grid coordinate cannot be null");
         }
 
-        // Create a deep copy of the grid actor map with the new actor added
-        Map<GridCoordinate, Set<Integer>> copyMap = new HashMap<>(actorMap.actorMap());
-        copyMap.put(coordinate, Set.of(actorId));
-
-        return new GridActorMap(copyMap);
+        // Structurally shared update - only the path to the changed cell is copied
+        GridActorMap newMap = actorMap.withActors(coordinate, Set.of(actorId));
+        notifyCellChanged(listener, actorMap, newMap, coordinate);
+        return newMap;
     }
 
     /**
@@ -208,6 +246,20 @@ public final class GridUtilities {
      * @throws IllegalArgumentException if no actor exists at the specified coordinate.
      */
     public static GridActorMap removeActors(final GridActorMap actorMap, final GridCoordinate coordinate) {
+        return removeActors(actorMap, coordinate, GridActorMapListener.NONE);
+    }
+
+    /**
+     * Remove all actors from a grid position, reporting the changed cell to a listener.
+     * @param actorMap The current grid actor map.
+     * @param coordinate The grid coordinate to remove the actors from.
+     * @param listener Notified of the changed cell, to keep derived layers in sync.
+     * @return A new GridActorMap with the specified coordinate removed.
+     * @throws IllegalArgumentException if no actor exists at the specified coordinate.
+     */
+    public static GridActorMap removeActors(final GridActorMap actorMap,
+                                            final GridCoordinate coordinate,
+                                            final GridActorMapListener listener) {
         if (actorMap == null || actorMap.actorMap() == null) {
             throw new IllegalArgumentException("Actor map cannot be null");
         }
@@ -216,9 +268,9 @@ public final class GridUtilities {
         }
 
         // Create a new map with the coordinate removed
-        Map<GridCoordinate, Set<Integer>> newMap = new HashMap<>(actorMap.actorMap());
-        newMap.remove(coordinate);
-        return new GridActorMap(newMap);
+        GridActorMap newMap = actorMap.withoutCoordinate(coordinate);
+        notifyCellChanged(listener, actorMap, newMap, coordinate);
+        return newMap;
     }
 
     /**
@@ -232,6 +284,22 @@ public final class GridUtilities {
     public static GridActorMap removeActor(final GridActorMap actorMap,
                                             final GridCoordinate coordinate,
                                             final Integer actorId) {
+        return removeActor(actorMap, coordinate, actorId, GridActorMapListener.NONE);
+    }
+
+    /**
+     * Remove an actor from a grid position, reporting the changed cell to a listener.
+     * @param actorMap The current grid actor map.
+     * @param coordinate The grid coordinate to remove the actor from.
+     * @param actorId The ID of the actor to remove.
+     * @param listener Notified of the changed cell, to keep derived layers in sync.
+     * @return A new GridActorMap with the actor removed from the specified coordinate.
+     * @throws IllegalArgumentException if the actor does not exist at the specified coordinate.
+     */
+    public static GridActorMap removeActor(final GridActorMap actorMap,
+                                            final GridCoordinate coordinate,
+                                            final Integer actorId,
+                                            final GridActorMapListener listener) {
         if (actorMap == null || actorMap.actorMap() == null) {
             throw new IllegalArgumentException("Actor map cannot be null");
         }
@@ -245,17 +313,14 @@ public final class GridUtilities {
         }
 
         // Create a new map with the actor removed (functional approach)
-        Map<GridCoordinate, Set<Integer>> newMap = new HashMap<>(actorMap.actorMap());
         Set<Integer> remainingActors = new HashSet<>(actorsAtCoordinate);
         remainingActors.remove(actorId);
 
-        if (remainingActors.isEmpty()) {
-            newMap.remove(coordinate);
-        } else {
-            newMap.put(coordinate, Set.copyOf(remainingActors));
-        }
-
-        return new GridActorMap(newMap);
+        GridActorMap newMap = remainingActors.isEmpty()
+            ? actorMap.withoutCoordinate(coordinate)
+            : actorMap.withActors(coordinate, remainingActors);
+        notifyCellChanged(listener, actorMap, newMap, coordinate);
+        return newMap;
     }
 
 
@@ -272,6 +337,24 @@ public final class GridUtilities {
                                         final int actorId,
                                         final GridCoordinate from,
                                         final GridCoordinate to) {
+        return moveActor(actorMap, actorId, from, to, GridActorMapListener.NONE);
+    }
+
+    /**
+     * Move an actor from one grid position to another, reporting both changed cells to a listener.
+     * @param actorMap The current grid actor map.
+     * @param actorId The ID of the actor to move.
+     * @param from The grid coordinate to move the actor from.
+     * @param to The grid coordinate to move the actor to.
+     * @param listener Notified of the changed cells, to keep derived layers in sync.
+     * @return A new GridActorMap with the actor moved.
+     * @throws IllegalArgumentException if the actor does not exist at the 'from' position.
+     */
+    public static GridActorMap moveActor(final GridActorMap actorMap,
+                                        final int actorId,
+                                        final GridCoordinate from,
+                                        final GridCoordinate to,
+                                        final GridActorMapListener listener) {
         if (actorMap == null || actorMap.actorMap() == null) {
             throw new IllegalArgumentException("Actor map cannot be null");
         }
@@ -285,25 +368,46 @@ public final class GridUtilities {
         }
 
         // Create a new map with the actor moved (functional approach)
-        Map<GridCoordinate, Set<Integer>> newMap = new HashMap<>(actorMap.actorMap());
-
         // Remove actor from old position
         Set<Integer> remainingActors = new HashSet<>(actorsAtFrom);
         remainingActors.remove(actorId);
 
-        if (remainingActors.isEmpty()) {
-            newMap.remove(from); // Remove empty coordinate
-        } else {
-            newMap.put(from, Set.copyOf(remainingActors)); // Immutable copy
-        }
+        GridActorMap newMap = remainingActors.isEmpty()
+            ? actorMap.withoutCoordinate(from) // Remove empty coordinate
+            : actorMap.withActors(from, remainingActors);
 
         // Add actor to new position
-        Set<Integer> actorsAtTo = newMap.getOrDefault(to, new HashSet<>());
-        Set<Integer> newActorsAtTo = new HashSet<>(actorsAtTo);
+        Set<Integer> newActorsAtTo = new HashSet<>(newMap.actorMap().getOrDefault(to, Set.of()));
         newActorsAtTo.add(actorId);
-        newMap.put(to, Set.copyOf(newActorsAtTo)); // Immutable copy
+        newMap = newMap.withActors(to, newActorsAtTo);
+
+        notifyCellChanged(listener, actorMap, newMap, from);
+        if (!from.equals(to)) {
+            notifyCellChanged(listener, actorMap, newMap, to);
+        }
+        return newMap;
+    }
 
-        return new GridActorMap(newMap);
+    /**
+     * Report the before/after actors of one cell to a listener.
+     */
+    private static void notifyCellChanged(final GridActorMapListener listener,
+                                          final GridActorMap before,
+                                          final GridActorMap after,
+                                          final GridCoordinate coordinate) {
+        listener.cellChanged(coordinate,
+                             before.actorMap().getOrDefault(coordinate, Set.of()),
+                             after.actorMap().getOrDefault(coordinate, Set.of()));
+    }
+
+    /**
+     * Start a batch of moves, placements and removals against an actor map.
+     * The batch produces one new map on commit instead of one map per operation.
+     * @param actorMap The current grid actor map.
+     * @return A transaction to queue operations on; call {@code commit()} to apply them.
+     */
+    public static GridActorMapTransaction beginTransaction(final GridActorMap actorMap) {
+        return new GridActorMapTransaction(actorMap);
     }
 
     /**
@@ -321,6 +425,16 @@ public final class GridUtilities {
                && !actorMap.actorMap().get(coordinate).isEmpty();
     }
 
+    /**
+     * Check if a grid cell is occupied using an occupancy mask.
+     * @param occupancy The occupancy mask of the grid.
+     * @param coordinate The grid coordinate to check.
+     * @return true if occupied, false otherwise (including coordinates outside the grid).
+     */
+    public static boolean isOccupied(final OccupancyMask occupancy, final GridCoordinate coordinate) {
+        return occupancy.contains(coordinate) && occupancy.get(occupancy.indexOf(coordinate));
+    }
+
     /**
      * Get all occupied grid coordinates.
      * @param actorMap The grid actor map to query.
@@ -336,19 +450,18 @@ public final class GridUtilities {
     /**
      * Get all actor ids currently on the grid.
      * @param actorMap The grid actor map to query.
-     * @return A Set of all actor ids currently on the grid.
+     * @return An unmodifiable view of all actor ids currently on the grid.
      */
     public static Set<Integer> getAllActorIds(final GridActorMap actorMap) {
         if (actorMap == null || actorMap.actorMap() == null) {
             throw new IllegalArgumentException("Actor map cannot be null");
         }
-        return actorMap.actorMap().values().stream()
-               .flatMap(Set::stream)
-               .collect(Collectors.toSet());
+        return actorMap.actorIndex().keySet();
     }
 
     /**
      * Find the grid coordinate of a specific actor.
+     * Answered from the actor index in O(log n), without scanning the map.
      * @param actorMap The grid actor map to search.
      * @param actorId The actor to find.
      * @return Optional containing the GridCoordinate if found, or empty if not found.
@@ -358,10 +471,361 @@ public final class GridUtilities {
         if (actorId == null) {
             throw new IllegalArgumentException("Actor must not be null");
         }
-        return actorMap.actorMap().entrySet().stream()
-            .filter(entry -> entry.getValue().contains(actorId))
-            .map(Map.Entry::getKey)
-            .findFirst();
+        return Optional.ofNullable(actorMap.actorIndex().get(actorId));
+    }
+
+    /**
+     * Find all actors inside a rectangle of cells using a spatial index.
+     * Only the index chunks overlapping the rectangle are visited.
+     * @param index The spatial index of the grid, kept in sync via the listener overloads.
+     * @param topLeft The corner with the smallest row and column (inclusive).
+     * @param bottomRight The corner with the largest row and column (inclusive).
+     * @return A Set of the actor ids inside the rectangle.
+     */
+    public static Set<Integer> findActorsInRectangle(final ActorSpatialIndex index,
+                                                     final GridCoordinate topLeft,
+                                                     final GridCoordinate bottomRight) {
+        if (topLeft == null || bottomRight == null) {
+            throw new IllegalArgumentException("Grid coordinate cannot be null");
+        }
+        Set<Integer> actors = new HashSet<>();
+        index.forEachInRectangle(topLeft.row(), topLeft.col(), bottomRight.row(), bottomRight.col(), actors::add);
+        return actors;
+    }
+
+    /**
+     * Find all actors within a radius of a grid position using a spatial index.
+     * @param index The spatial index of the grid, kept in sync via the listener overloads.
+     * @param center The grid coordinate to measure from.
+     * @param radius The radius in cells (inclusive).
+     * @param metric The distance metric.
+     * @return A Set of the actor ids within the radius.
+     */
+    public static Set<Integer> findActorsWithinRadius(final ActorSpatialIndex index,
+                                                      final GridCoordinate center,
+                                                      final int radius,
+                                                      final DistanceMetric metric) {
+        if (center == null || metric == null) {
+            throw new IllegalArgumentException("Grid coordinate and metric cannot be null");
+        }
+        Set<Integer> actors = new HashSet<>();
+        index.forEachWithinRadius(center.row(), center.col(), radius, metric, actors::add);
+        return actors;
+    }
+
+    /**
+     * Find the actors nearest to a grid position using a spatial index.
+     * @param index The spatial index of the grid, kept in sync via the listener overloads.
+     * @param center The grid coordinate to measure from.
+     * @param count The maximum number of actors to return.
+     * @param metric The distance metric.
+     * @return Up to {@code count} actor ids, nearest first; ties are ordered by actor id.
+     */
+    public static List<Integer> findNearestActors(final ActorSpatialIndex index,
+                                                  final GridCoordinate center,
+                                                  final int count,
+                                                  final DistanceMetric metric) {
+        if (center == null || metric == null) {
+            throw new IllegalArgumentException("Grid coordinate and metric cannot be null");
+        }
+        return Arrays.stream(index.nearest(center.row(), center.col(), count, metric)).boxed().toList();
+    }
+
+    /**
+     * Map an actor to a grid position in a primitive occupancy store.
+     * Mirrors {@link #mapActorId(GridActorMap, GridCoordinate, Integer)}: any actors already
+     * on the cell are replaced. Mutates the store in place without allocating.
+     * @param store The occupancy store to update.
+     * @param coordinate The grid coordinate to add the actor to.
+     * @param actorId The actorId to add at the specified coordinate; must not be placed elsewhere.
+     */
+    public static void mapActorId(final GridOccupancyStore store,
+                                  final GridCoordinate coordinate,
+                                  final int actorId) {
+        if (coordinate == null) {
+            throw new IllegalArgumentException("Grid coordinate cannot be null");
+        }
+        // Reject before touching the store so a failed call leaves the target cell intact
+        if (store.contains(actorId) && store.cellOf(actorId) != coordinate.id()) {
+            throw new IllegalArgumentException("Actor ID " + actorId + " is already placed at cell "
+                                               + store.cellOf(actorId));
+        }
+        store.clearCell(coordinate.id());
+        store.place(actorId, coordinate.id());
+    }
+
+    /**
+     * Remove all actors from a grid position in a primitive occupancy store.
+     * @param store The occupancy store to update.
+     * @param coordinate The grid coordinate to clear.
+     * @throws IllegalArgumentException if no actor exists at the specified coordinate.
+     */
+    public static void removeActors(final GridOccupancyStore store, final GridCoordinate coordinate) {
+        if (!store.isOccupied(coordinate.id())) {
+            throw new IllegalArgumentException("No actors at position: " + coordinate);
+        }
+        store.clearCell(coordinate.id());
+    }
+
+    /**
+     * Remove an actor from a grid position in a primitive occupancy store.
+     * @param store The occupancy store to update.
+     * @param coordinate The grid coordinate to remove the actor from.
+     * @param actorId The ID of the actor to remove.
+     * @throws IllegalArgumentException if the actor does not exist at the specified coordinate.
+     */
+    public static void removeActor(final GridOccupancyStore store,
+                                   final GridCoordinate coordinate,
+                                   final int actorId) {
+        if (store.cellOf(actorId) != coordinate.id()) {
+            throw new IllegalArgumentException("Actor ID " + actorId + " not found at coordinate " + coordinate);
+        }
+        store.remove(actorId);
+    }
+
+    /**
+     * Move an actor from one grid position to another in a primitive occupancy store.
+     * Mutates the store in place without allocating.
+     * @param store The occupancy store to update.
+     * @param actorId The ID of the actor to move.
+     * @param from The grid coordinate to move the actor from.
+     * @param to The grid coordinate to move the actor to.
+     * @throws IllegalArgumentException if the actor does not exist at the 'from' position.
+     */
+    public static void moveActor(final GridOccupancyStore store,
+                                 final int actorId,
+                                 final GridCoordinate from,
+                                 final GridCoordinate to) {
+        if (store.cellOf(actorId) != from.id()) {
+            throw new IllegalArgumentException("Actor ID " + actorId + " not found at coordinate " + from);
+        }
+        store.move(actorId, to.id());
+    }
+
+    /**
+     * Check if a grid cell is occupied in a primitive occupancy store.
+     * @param store The occupancy store to check.
+     * @param coordinate The grid coordinate to check.
+     * @return true if occupied, false otherwise.
+     */
+    public static boolean isOccupied(final GridOccupancyStore store, final GridCoordinate coordinate) {
+        return store.isOccupied(coordinate.id());
+    }
+
+    /**
+     * Visit every occupied cell of a primitive occupancy store without allocating.
+     * @param store The occupancy store to iterate.
+     * @param visitor Receives the dense index of each occupied cell.
+     */
+    public static void forEachOccupiedCell(final GridOccupancyStore store, final IntConsumer visitor) {
+        store.forEachOccupiedCell(visitor);
+    }
+
+    /**
+     * Move an actor between cells of a primitive occupancy store by cell index.
+     * Runs entirely on ints; no coordinate objects are touched.
+     * @param store The occupancy store to update.
+     * @param actorId The ID of the actor to move.
+     * @param fromCell The row-major index of the cell to move the actor from.
+     * @param toCell The row-major index of the cell to move the actor to.
+     * @throws IllegalArgumentException if the actor does not exist at the 'from' cell.
+     */
+    public static void moveActor(final GridOccupancyStore store,
+                                 final int actorId,
+                                 final int fromCell,
+                                 final int toCell) {
+        if (store.cellOf(actorId) != fromCell) {
+            throw new IllegalArgumentException("Actor ID " + actorId + " not found at cell " + fromCell);
+        }
+        store.move(actorId, toCell);
+    }
+
+    /**
+     * Check if a cell of a primitive occupancy store is occupied, by cell index.
+     * @param store The occupancy store to check.
+     * @param cellIndex The row-major index of the cell.
+     * @return true if occupied, false otherwise.
+     */
+    public static boolean isOccupied(final GridOccupancyStore store, final int cellIndex) {
+        return store.isOccupied(cellIndex);
+    }
+
+    /**
+     * Check if a cell is occupied using an occupancy mask, by cell index.
+     * @param occupancy The occupancy mask of the grid.
+     * @param cellIndex The row-major index of the cell.
+     * @return true if occupied, false otherwise (including indices outside the grid).
+     */
+    public static boolean isOccupied(final OccupancyMask occupancy, final int cellIndex) {
+        return cellIndex >= 0 && cellIndex < occupancy.cellCount() && occupancy.get(cellIndex);
+    }
+
+    /**
+     * Get the cell indices adjacent to a cell (4-directional), in north, south, west, east order.
+     * Fills a caller-provided buffer instead of building a Set of coordinates.
+     * @param grid The tactical grid.
+     * @param cellIndex The row-major index of the center cell.
+     * @param adjacent Receives the adjacent cell indices; must hold at least 4 entries.
+     * @return The number of adjacent cells written; cells outside the grid are skipped.
+     */
+    public static int getAdjacentCells(final TacticalGrid grid, final int cellIndex, final int[] adjacent) {
+        return getNeighbours(grid, cellIndex, Connectivity.FOUR, null, adjacent);
+    }
+
+    /**
+     * Visit the cells adjacent to a cell without allocating.
+     * Neighbours are visited in {@link Connectivity} order; cells outside the grid are skipped.
+     * @param grid The tactical grid.
+     * @param cellIndex The row-major index of the center cell.
+     * @param visitor Receives the index of each adjacent cell.
+     */
+    public static void forEachNeighbour(final TacticalGrid grid, final int cellIndex, final IntConsumer visitor) {
+        forEachNeighbour(grid, cellIndex, Connectivity.FOUR, null, visitor);
+    }
+
+    /**
+     * Visit the passable cells adjacent to a cell without allocating.
+     * Neighbours are visited in {@link Connectivity} order; cells outside the grid are skipped.
+     * @param grid The tactical grid.
+     * @param cellIndex The row-major index of the center cell.
+     * @param connectivity Whether diagonal neighbours are included.
+     * @param blocked Cells set in this mask are skipped (e.g. an occupancy mask); null if every cell is passable.
+     * @param visitor Receives the index of each adjacent passable cell.
+     */
+    public static void forEachNeighbour(final TacticalGrid grid,
+                                        final int cellIndex,
+                                        final Connectivity connectivity,
+                                        final OccupancyMask blocked,
+                                        final IntConsumer visitor) {
+        visitNeighbours(grid, cellIndex, connectivity, blocked, null, visitor);
+    }
+
+    /**
+     * Get the passable cells adjacent to a cell, filling a caller-provided buffer without allocating.
+     * Neighbours are written in {@link Connectivity} order; cells outside the grid are skipped.
+     * @param grid The tactical grid.
+     * @param cellIndex The row-major index of the center cell.
+     * @param connectivity Whether diagonal neighbours are included.
+     * @param blocked Cells set in this mask are skipped (e.g. an occupancy mask); null if every cell is passable.
+     * @param neighbours Receives the adjacent cell indices; must hold at least {@code connectivity.size()} entries.
+     * @return The number of neighbours written.
+     */
+    public static int getNeighbours(final TacticalGrid grid,
+                                    final int cellIndex,
+                                    final Connectivity connectivity,
+                                    final OccupancyMask blocked,
+                                    final int[] neighbours) {
+        return visitNeighbours(grid, cellIndex, connectivity, blocked, neighbours, null);
+    }
+
+    /**
+     * The neighbour loop shared by {@link #forEachNeighbour} and {@link #getNeighbours}: each passable
+     * neighbour is written to {@code buffer} when one is given, otherwise passed to {@code visitor}.
+     * @return The number of neighbours found.
+     */
+    private static int visitNeighbours(final TacticalGrid grid,
+                                       final int cellIndex,
+                                       final Connectivity connectivity,
+                                       final OccupancyMask blocked,
+                                       final int[] buffer,
+                                       final IntConsumer visitor) {
+        int rows = grid.rows();
+        int cols = grid.cols();
+        int row = cellIndex / cols;
+        int col = cellIndex - row * cols;
+        int count = 0;
+        for (int direction = 0; direction < connectivity.size(); direction++) {
+            int newRow = row + connectivity.rowOffset(direction);
+            int newCol = col + connectivity.colOffset(direction);
+            if (newRow >= 0 && newRow < rows && newCol >= 0 && newCol < cols) {
+                int neighbour = newRow * cols + newCol;
+                if (blocked == null || !blocked.get(neighbour)) {
+                    if (buffer != null) {
+                        buffer[count] = neighbour;
+                    } else {
+                        visitor.accept(neighbour);
+                    }
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Convert a world position to a cell index.
+     * Same convention as {@link #toGridCoordinate}: the grid is assumed to start at the world origin.
+     * @param grid The tactical grid to convert to.
+     * @param worldX The world x position.
+     * @param worldY The world y position.
+     * @return The row-major cell index, or -1 if the position is outside the grid.
+     */
+    public static int toCellIndex(final TacticalGrid grid, final float worldX, final float worldY) {
+        if (worldX < 0 || worldY < 0) {
+            return -1;
+        }
+        int row = (int) (worldY / grid.cellSize());
+        int col = (int) (worldX / grid.cellSize());
+        if (row >= grid.rows() || col >= grid.cols()) {
+            return -1;
+        }
+        return row * grid.cols() + col;
+    }
+
+    /**
+     * Convert a world position to a cell index, honouring the grid's world position.
+     * @param grid The grid actor to convert to.
+     * @param worldX The world x position.
+     * @param worldY The world y position.
+     * @return The row-major cell index, or -1 if the position is outside the grid.
+     */
+    public static int toCellIndex(final GridActor grid, final float worldX, final float worldY) {
+        return toCellIndex(grid.grid, worldX - grid.getX(), worldY - grid.getY());
+    }
+
+    /**
+     * Convert a world position to a packed cell handle, honouring the grid's world position.
+     * Inverse of {@link #gridToWorld(GridManager, long, Vector2)}.
+     * @param gridManager The grid manager owning the grid.
+     * @param gridHandle The grid's handle, from {@link GridManager#handleOf(UUID)}.
+     * @param worldX The world x position.
+     * @param worldY The world y position.
+     * @return The packed {@link CellHandle}, or {@link CellHandle#NONE} if outside the grid.
+     */
+    public static long toCellHandle(final GridManager gridManager,
+                                    final int gridHandle,
+                                    final float worldX,
+                                    final float worldY) {
+        GridActor grid = gridManager.gridByHandle(gridHandle);
+        int cellIndex = toCellIndex(grid, worldX, worldY);
+        return cellIndex < 0 ? CellHandle.NONE : CellHandle.ofCell(gridHandle, cellIndex, grid.grid.cols());
+    }
+
+    /**
+     * Convert a cell index to its world position (center of cell), writing into a caller-provided vector.
+     * @param grid The grid actor, whose position offsets the result.
+     * @param cellIndex The row-major index of the cell.
+     * @param out Receives the world position.
+     * @return {@code out}, for chaining.
+     */
+    public static Vector2 gridToWorld(final GridActor grid, final int cellIndex, final Vector2 out) {
+        int cellSize = grid.grid.cellSize();
+        int row = cellIndex / grid.grid.cols();
+        int col = cellIndex - row * grid.grid.cols();
+        return out.set(col * cellSize + cellSize / 2f + grid.getX(),
+                       row * cellSize + cellSize / 2f + grid.getY());
+    }
+
+    /**
+     * Convert a packed cell handle to its world position (center of cell), writing into a caller-provided vector.
+     * @param gridManager The grid manager owning the handle's grid.
+     * @param cellHandle The packed {@link CellHandle}.
+     * @param out Receives the world position.
+     * @return {@code out}, for chaining.
+     */
+    public static Vector2 gridToWorld(final GridManager gridManager, final long cellHandle, final Vector2 out) {
+        GridActor grid = gridManager.gridByHandle(CellHandle.gridHandle(cellHandle));
+        return gridToWorld(grid, CellHandle.cellIndex(cellHandle, grid.grid.cols()), out);
     }
 
     /**
@@ -380,37 +844,158 @@ public final class GridUtilities {
                                             final UUID gridId,
                                             final GridActorMap actorMap
                                             ) {
-        StringBuilder map = new StringBuilder();
-        map.append("TACTICAL GRID STATUS:\n");
-        map.append("   ");
+        TacticalGrid grid = getGridById(gridManager, gridId).grid;
+        return generateTacticalMap(gridManager, gridId, OccupancyMask.of(actorMap, grid.rows(), grid.cols()));
+    }
 
+    /**
+     * Generate a tactical map display string from an occupancy mask.
+     * Each cell is a single bit test instead of a coordinate lookup and hash probe.
+     * @param gridManager The grid manager containing grid information.
+     * @param gridId The tactical grid to visualize.
+     * @param occupancy The occupancy mask of the grid.
+     * @return A string representation of the tactical grid status.
+     *        Each cell is represented as "X" for occupied and "." for free.
+     */
+    public static String generateTacticalMap(final GridManager gridManager,
+                                             final UUID gridId,
+                                             final OccupancyMask occupancy) {
         TacticalGrid grid = getGridById(gridManager, gridId).grid;
+        if (grid.rows() != occupancy.rows() || grid.cols() != occupancy.cols()) {
+            throw new IllegalArgumentException("Occupancy mask does not match grid dimensions");
+        }
+        StringBuilder map = new StringBuilder((grid.rows() + 2) * (grid.cols() * 3 + 8));
+        try {
+            writeTacticalMap(map, occupancy, 0, 0, grid.rows() - 1, grid.cols() - 1);
+        } catch (IOException e) {
+            // StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+        return map.toString();
+    }
+
+    /**
+     * Stream a window of the tactical map to a writer, in the format of
+     * {@link #generateTacticalMap(GridManager, UUID, OccupancyMask)}.
+     * <p>
+     * Rows are labelled "A" to "Z", then "AA", "AB" and so on; labels and column numbers are
+     * right-aligned to the widest one in the window. Each row is assembled in a reused buffer and
+     * handed to the writer in one call, so the cost is O(cells in the window) with no allocation
+     * per cell.
+     * </p>
+     * @param out Receives the map.
+     * @param occupancy The occupancy mask of the grid.
+     * @param minRow The first row of the window.
+     * @param minCol The first column of the window.
+     * @param maxRow The last row of the window, inclusive.
+     * @param maxCol The last column of the window, inclusive.
+     * @throws IOException If the writer fails.
+     */
+    public static void writeTacticalMap(final Appendable out,
+                                        final OccupancyMask occupancy,
+                                        final int minRow,
+                                        final int minCol,
+                                        final int maxRow,
+                                        final int maxCol) throws IOException {
+        if (minRow < 0 || minCol < 0 || maxRow >= occupancy.rows() || maxCol >= occupancy.cols()
+            || minRow > maxRow || minCol > maxCol) {
+            throw new IllegalArgumentException("Invalid map window: [" + minRow + ", " + minCol + "] to ["
+                                               + maxRow + ", " + maxCol + "]");
+        }
+        // Labels and column numbers only grow, so the last ones in the window are the widest
+        int labelWidth = GridCoordinate.rowLabelLength(maxRow);
+        int cellWidth = Math.max(2, digitCount(maxCol + 1)) + 1;
+        int prefixWidth = labelWidth + 2;
+        char[] line = new char[prefixWidth + (maxCol - minCol + 1) * cellWidth + 1];
+        CharBuffer lineView = CharBuffer.wrap(line);
+        int cols = occupancy.cols();
+
+        out.append("TACTICAL GRID STATUS:\n");
+        Arrays.fill(line, ' ');
+        int length = prefixWidth;
+        for (int col = minCol; col <= maxCol; col++) {
+            writeDigits(line, length + cellWidth - 2, col + 1);
+            length += cellWidth;
+        }
+        line[length++] = '\n';
+        out.append(lineView, 0, length);
 
-        // Column headers
-        for (int col = 0; col < grid.cols(); col++) {
-            map.append(String.format("%2d ", col + 1));
-        }
-        map.append("\n");
-
-        // Grid contents
-        for (int row = 0; row < grid.rows(); row++) {
-            char rowLabel = (char) ('A' + row);
-            map.append(String.format("%c: ", rowLabel));
-            for (int col = 0; col < grid.cols(); col++) {
-                GridCoordinate coord = getGridCoordinate(coordinateManager,
-                                                        getGridById(gridManager, gridId),
-                                                        row, col);
-
-                if (isOccupied(actorMap, coord)) {
-                    map.append(" X ");
-                } else {
-                    map.append(" . ");
+        for (int row = minRow; row <= maxRow; row++) {
+            Arrays.fill(line, 0, labelWidth, ' ');
+            int rowLabelLength = GridCoordinate.rowLabelLength(row);
+            for (int position = 0; position < rowLabelLength; position++) {
+                line[labelWidth - rowLabelLength + position] = GridCoordinate.rowLabelLetter(row, position);
+            }
+            line[labelWidth] = ':';
+            line[labelWidth + 1] = ' ';
+            length = prefixWidth;
+            int cellIndex = row * cols + minCol;
+            for (int col = minCol; col <= maxCol; col++, cellIndex++) {
+                for (int pad = 0; pad < cellWidth - 2; pad++) {
+                    line[length++] = ' ';
                 }
+                line[length++] = occupancy.get(cellIndex) ? 'X' : '.';
+                line[length++] = ' ';
             }
-            map.append("\n");
+            line[length++] = '\n';
+            out.append(lineView, 0, length);
         }
+    }
 
-        return map.toString();
+    /**
+     * Stream the part of a grid's tactical map that overlaps a world-space rectangle, such as the
+     * camera's view, honouring the grid's world position. Cells partly inside the rectangle are
+     * included.
+     * @param out Receives the map.
+     * @param grid The grid actor.
+     * @param occupancy The occupancy mask of the grid.
+     * @param minX The left edge of the rectangle.
+     * @param minY The bottom edge of the rectangle.
+     * @param maxX The right edge of the rectangle.
+     * @param maxY The top edge of the rectangle.
+     * @return true if the rectangle overlaps the grid and a map was written, false if nothing was written.
+     * @throws IOException If the writer fails.
+     */
+    public static boolean writeTacticalMap(final Appendable out,
+                                           final GridActor grid,
+                                           final OccupancyMask occupancy,
+                                           final float minX,
+                                           final float minY,
+                                           final float maxX,
+                                           final float maxY) throws IOException {
+        if (grid.grid.rows() != occupancy.rows() || grid.grid.cols() != occupancy.cols()) {
+            throw new IllegalArgumentException("Occupancy mask does not match grid dimensions");
+        }
+        float cellSize = grid.grid.cellSize();
+        int minCol = Math.max(0, (int) Math.floor((minX - grid.getX()) / cellSize));
+        int minRow = Math.max(0, (int) Math.floor((minY - grid.getY()) / cellSize));
+        int maxCol = Math.min(grid.grid.cols() - 1, (int) Math.ceil((maxX - grid.getX()) / cellSize) - 1);
+        int maxRow = Math.min(grid.grid.rows() - 1, (int) Math.ceil((maxY - grid.getY()) / cellSize) - 1);
+        if (minRow > maxRow || minCol > maxCol) {
+            return false;
+        }
+        writeTacticalMap(out, occupancy, minRow, minCol, maxRow, maxCol);
+        return true;
+    }
+
+    private static int digitCount(final int value) {
+        int digits = 1;
+        for (int remaining = value; remaining >= 10; remaining /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Write a non-negative number right-aligned so that its last digit lands at {@code lastIndex}.
+     */
+    private static void writeDigits(final char[] line, final int lastIndex, final int value) {
+        int index = lastIndex;
+        int remaining = value;
+        do {
+            line[index--] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
     }
 
     /**
@@ -431,7 +1016,7 @@ public final class GridUtilities {
             throw new IllegalArgumentException("Row and column must be within grid bounds");
         }
         int id = row * grid.grid.cols() + col;
-        return coordinateManager.coordinates.get(grid.id)[id];
+        return coordinateManager.coordinateAt(grid.id, id);
     }
 
     /**
@@ -447,22 +1032,18 @@ public final class GridUtilities {
                                                         final CoordinateManager coordinateManager,
                                                         final UUID gridId,
                                                         final GridCoordinate centerCoord) {
-        GridActor gridActor = getGridById(gridManager, gridId);
-        TacticalGrid grid = gridActor.grid;
+        TacticalGrid grid = getGridById(gridManager, gridId).grid;
+        GridCoordinateStore coordinates = coordinateManager.store(gridId);
         Set<GridCoordinate> adjacent = new HashSet<>();
 
-        // Check all 4 directions
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // North, South, West, East
-
-        for (int[] dir : directions) {
-            int newRow = centerCoord.row() + dir[0];
-            int newCol = centerCoord.col() + dir[1];
+        // North, South, West, East
+        for (int direction = 0; direction < Connectivity.FOUR.size(); direction++) {
+            int newRow = centerCoord.row() + Connectivity.FOUR.rowOffset(direction);
+            int newCol = centerCoord.col() + Connectivity.FOUR.colOffset(direction);
 
             // Check bounds
             if (newRow >= 0 && newRow < grid.rows() && newCol >= 0 && newCol < grid.cols()) {
-                // Get the pre-stored coordinate
-                GridCoordinate adjCoord = getGridCoordinate(coordinateManager, gridActor, newRow, newCol);
-                adjacent.add(adjCoord);
+                adjacent.add(coordinates.get(newRow * grid.cols() + newCol));
             }
         }
 
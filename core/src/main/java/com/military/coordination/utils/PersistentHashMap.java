@@ -0,0 +1,405 @@
+package com.military.coordination.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable hash array mapped trie (HAMT) with structural sharing.
+ * Every update returns a new map that shares all untouched branches with the previous
+ * version, so a single put or remove costs O(log32 n) time and allocation.
+ * The standard {@link Map} mutators are unsupported - use {@link #plus} and {@link #minus}.
+ *
+ * @param <K> the key type; keys must not be null
+ * @param <V> the value type; values must not be null
+ */
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = 10;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(final Node root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     * @param <K> the key type.
+     * @param <V> the value type.
+     * @return The shared empty map instance.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a persistent map with the same mappings as the given map.
+     * @param <K> the key type.
+     * @param <V> the value type.
+     * @param map The map to copy; returned as-is if it is already persistent.
+     * @return A persistent map containing every entry of {@code map}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> copyOf(final Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap<?, ?> persistent) {
+            return (PersistentHashMap<K, V>) persistent;
+        }
+        PersistentHashMap<K, V> result = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.plus(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map with the given mapping added or replaced.
+     * @param key The key to map; must not be null.
+     * @param value The value to associate; must not be null.
+     * @return A new map, or this map if the key already maps to the same value instance.
+     */
+    public PersistentHashMap<K, V> plus(final K key, final V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Persistent map keys and values cannot be null");
+        }
+        boolean[] added = new boolean[1];
+        Node start = root == null ? BitmapNode.EMPTY : root;
+        Node newRoot = start.assoc(0, hash(key), key, value, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without the mapping for the given key.
+     * @param key The key to remove.
+     * @return A new map, or this map if the key was not present.
+     */
+    public PersistentHashMap<K, V> minus(final Object key) {
+        if (root == null || key == null) {
+            return this;
+        }
+        Node newRoot = root.without(0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final Object key) {
+        if (root == null || key == null) {
+            return null;
+        }
+        return (V) root.find(0, hash(key), key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        if (root != null) {
+            root.forEach((BiConsumer<Object, Object>) action);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int hash(final Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitpos(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * A trie node. Both node kinds store their entries as a flat {@code [key, value, ...]} array;
+     * in a {@link BitmapNode} a null key marks a slot whose value is a child node.
+     */
+    private abstract static class Node {
+        final Object[] array;
+
+        Node(final Object[] array) {
+            this.array = array;
+        }
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node assoc(int shift, int hash, Object key, Object value, boolean[] added);
+
+        abstract Node without(int shift, int hash, Object key);
+
+        final void forEach(final BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) {
+                    ((Node) array[i + 1]).forEach(action);
+                } else {
+                    action.accept(array[i], array[i + 1]);
+                }
+            }
+        }
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+
+        BitmapNode(final int bitmap, final Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(final int shift, final int hash, final Object key) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int idx = 2 * index(bit);
+            Object keyOrNull = array[idx];
+            if (keyOrNull == null) {
+                return ((Node) array[idx + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(keyOrNull) ? array[idx + 1] : null;
+        }
+
+        @Override
+        Node assoc(final int shift, final int hash, final Object key, final Object value, final boolean[] added) {
+            int bit = bitpos(hash, shift);
+            int idx = 2 * index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, idx);
+                newArray[idx] = key;
+                newArray[idx + 1] = value;
+                System.arraycopy(array, idx, newArray, idx + 2, array.length - idx);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+
+            Object keyOrNull = array[idx];
+            Object valueOrNode = array[idx + 1];
+            if (keyOrNull == null) {
+                Node child = (Node) valueOrNode;
+                Node newChild = child.assoc(shift + BITS, hash, key, value, added);
+                return newChild == child ? this : new BitmapNode(bitmap, cloneAndSet(array, idx + 1, newChild));
+            }
+            if (key.equals(keyOrNull)) {
+                return valueOrNode == value ? this : new BitmapNode(bitmap, cloneAndSet(array, idx + 1, value));
+            }
+
+            added[0] = true;
+            Object[] newArray = cloneAndSet(array, idx, null);
+            newArray[idx + 1] = createNode(shift + BITS, keyOrNull, valueOrNode, hash, key, value);
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        @Override
+        Node without(final int shift, final int hash, final Object key) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int idx = 2 * index(bit);
+            Object keyOrNull = array[idx];
+            if (keyOrNull == null) {
+                Node child = (Node) array[idx + 1];
+                Node newChild = child.without(shift + BITS, hash, key);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild != null) {
+                    return new BitmapNode(bitmap, cloneAndSet(array, idx + 1, newChild));
+                }
+            } else if (!key.equals(keyOrNull)) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            return new BitmapNode(bitmap ^ bit, removePair(array, idx));
+        }
+
+        private static Node createNode(final int shift, final Object key1, final Object value1,
+                                       final int hash2, final Object key2, final Object value2) {
+            int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+            }
+            boolean[] ignored = new boolean[1];
+            return EMPTY.assoc(shift, hash1, key1, value1, ignored)
+                        .assoc(shift, hash2, key2, value2, ignored);
+        }
+    }
+
+    private static final class CollisionNode extends Node {
+        final int hash;
+
+        CollisionNode(final int hash, final Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int indexOf(final Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(final int shift, final int keyHash, final Object key) {
+            int idx = indexOf(key);
+            return idx < 0 ? null : array[idx + 1];
+        }
+
+        @Override
+        Node assoc(final int shift, final int keyHash, final Object key, final Object value, final boolean[] added) {
+            if (keyHash != hash) {
+                // Push this node one level down so the differing hash can branch off
+                return new BitmapNode(bitpos(hash, shift), new Object[] {null, this})
+                    .assoc(shift, keyHash, key, value, added);
+            }
+            int idx = indexOf(key);
+            if (idx >= 0) {
+                return array[idx + 1] == value ? this : new CollisionNode(hash, cloneAndSet(array, idx + 1, value));
+            }
+            Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        Node without(final int shift, final int keyHash, final Object key) {
+            int idx = indexOf(key);
+            if (idx < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            return new CollisionNode(hash, removePair(array, idx));
+        }
+    }
+
+    private static Object[] cloneAndSet(final Object[] array, final int index, final Object value) {
+        Object[] clone = array.clone();
+        clone[index] = value;
+        return clone;
+    }
+
+    private static Object[] removePair(final Object[] array, final int index) {
+        Object[] newArray = new Object[array.length - 2];
+        System.arraycopy(array, 0, newArray, 0, index);
+        System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+        return newArray;
+    }
+
+    /**
+     * Depth-first iterator over the trie using an explicit stack of node arrays.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final Object[][] arrays = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private Map.Entry<K, V> next;
+
+        EntryIterator(final Node root) {
+            if (root == null) {
+                depth = -1;
+            } else {
+                arrays[0] = root.array;
+                depth = 0;
+            }
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            while (depth >= 0) {
+                Object[] array = arrays[depth];
+                int pos = positions[depth];
+                if (pos >= array.length) {
+                    arrays[depth] = null;
+                    depth--;
+                    continue;
+                }
+                positions[depth] = pos + 2;
+                if (array[pos] != null) {
+                    next = new AbstractMap.SimpleImmutableEntry<>((K) array[pos], (V) array[pos + 1]);
+                    return;
+                }
+                depth++;
+                arrays[depth] = ((Node) array[pos + 1]).array;
+                positions[depth] = 0;
+            }
+            next = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> current = next;
+            advance();
+            return current;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.military.coordination.component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static com.military.coordination.util.TestGridUtils.cell;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.utils.GridUtilities;
+
+@DisplayName("ActorSpatialIndex - Chunked Spatial Queries")
+class ActorSpatialIndexTest {
+
+    private static final int ROWS = 50;
+    private static final int COLS = 70;
+    private static final int CHUNK = 8;
+
+    private static Set<Integer> collectRadius(final ActorSpatialIndex index, final int row, final int col,
+                                              final int radius, final DistanceMetric metric) {
+        Set<Integer> result = new HashSet<>();
+        index.forEachWithinRadius(row, col, radius, metric, result::add);
+        return result;
+    }
+
+    @Nested
+    @DisplayName("Range Queries")
+    class RangeQueries {
+
+        @Test
+        @DisplayName("Should return actors inside a rectangle spanning chunks")
+        void shouldQueryRectangle() {
+            var index = new ActorSpatialIndex(ROWS, COLS, CHUNK);
+            index.place(1, 7, 7);
+            index.place(2, 8, 8);
+            index.place(3, 20, 30);
+            index.place(4, 49, 69);
+
+            Set<Integer> found = new HashSet<>();
+            index.forEachInRectangle(7, 7, 20, 30, found::add);
+            assertThat(found).containsExactlyInAnyOrder(1, 2, 3);
+
+            found.clear();
+            index.forEachInRectangle(-10, -10, 100, 100, found::add);
+            assertThat(found).containsExactlyInAnyOrder(1, 2, 3, 4);
+        }
+
+        @Test
+        @DisplayName("Should apply each distance metric to radius queries")
+        void shouldQueryRadiusPerMetric() {
+            var index = new ActorSpatialIndex(ROWS, COLS, CHUNK);
+            index.place(1, 10, 13);
+            index.place(2, 12, 12);
+            index.place(3, 13, 13);
+
+            assertThat(collectRadius(index, 10, 10, 3, DistanceMetric.MANHATTAN)).containsExactlyInAnyOrder(1);
+            assertThat(collectRadius(index, 10, 10, 3, DistanceMetric.EUCLIDEAN)).containsExactlyInAnyOrder(1, 2);
+            assertThat(collectRadius(index, 10, 10, 3, DistanceMetric.CHEBYSHEV)).containsExactlyInAnyOrder(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("Should match a brute-force scan for random actors")
+        void shouldMatchBruteForce() {
+            var random = new Random(42);
+            var index = new ActorSpatialIndex(ROWS, COLS, CHUNK);
+            int[][] positions = new int[300][];
+            for (int id = 0; id < positions.length; id++) {
+                positions[id] = new int[] {random.nextInt(ROWS), random.nextInt(COLS)};
+                index.place(id, positions[id][0], positions[id][1]);
+            }
+
+            for (DistanceMetric metric : DistanceMetric.values()) {
+                Set<Integer> expected = new HashSet<>();
+                for (int id = 0; id < positions.length; id++) {
+                    if (metric.within(positions[id][0] - 25, positions[id][1] - 30, 9)) {
+                        expected.add(id);
+                    }
+                }
+                assertThat(collectRadius(index, 25, 30, 9, metric)).isEqualTo(expected);
+
+                List<Integer> ranked = new ArrayList<>();
+                for (int id = 0; id < positions.length; id++) {
+                    ranked.add(id);
+                }
+                ranked.sort(Comparator.<Integer>comparingLong(
+                    id -> metric.measure(positions[id][0] - 3, positions[id][1] - 60)).thenComparing(id -> id));
+                assertThat(Arrays.stream(index.nearest(3, 60, 12, metric)).boxed().toList())
+                    .isEqualTo(ranked.subList(0, 12));
+            }
+        }
+
+        @Test
+        @DisplayName("Should return fewer than k actors when the grid holds fewer")
+        void shouldReturnAllWhenFewerThanK() {
+            var index = new ActorSpatialIndex(ROWS, COLS, CHUNK);
+            index.place(5, 40, 60);
+            index.place(6, 0, 0);
+
+            assertThat(index.nearest(0, 1, 10, DistanceMetric.EUCLIDEAN)).containsExactly(6, 5);
+            assertThat(index.nearest(0, 1, 0, DistanceMetric.EUCLIDEAN)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Updates")
+    class IncrementalUpdates {
+
+        @Test
+        @DisplayName("Should follow moves made through GridUtilities")
+        void shouldFollowMoves() {
+            var map = new GridActorMap(Map.of(cell(0, 0, COLS), Set.of(1), cell(30, 30, COLS), Set.of(2)));
+            var index = ActorSpatialIndex.of(map, ROWS, COLS);
+
+            map = GridUtilities.moveActor(map, 1, cell(0, 0, COLS), cell(29, 29, COLS), index);
+            map = GridUtilities.removeActor(map, cell(30, 30, COLS), 2, index);
+
+            assertThat(index.actorCount()).isEqualTo(1);
+            assertThat(index.cellOf(1)).isEqualTo(cell(29, 29, COLS).id());
+            assertThat(index.cellOf(2)).isEqualTo(-1);
+            assertThat(GridUtilities.findActorsWithinRadius(index, cell(30, 30, COLS), 1, DistanceMetric.CHEBYSHEV))
+                .containsExactly(1);
+            assertThat(GridUtilities.findActorsInRectangle(index, cell(0, 0, COLS), cell(10, 10, COLS))).isEmpty();
+            assertThat(GridUtilities.findNearestActors(index, cell(0, 0, COLS), 3, DistanceMetric.MANHATTAN))
+                .containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("Should stay consistent regardless of transaction notification order")
+        void shouldHandleTransactionCommits() {
+            var map = new GridActorMap(Map.of(cell(0, 0, COLS), Set.of(1, 2)));
+            var index = ActorSpatialIndex.of(map, ROWS, COLS);
+
+            GridUtilities.beginTransaction(map)
+                .moveActor(1, cell(0, 0, COLS), cell(40, 40, COLS))
+                .moveActor(2, cell(0, 0, COLS), cell(0, 1, COLS))
+                .commit(index);
+
+            assertThat(index.cellOf(1)).isEqualTo(cell(40, 40, COLS).id());
+            assertThat(index.cellOf(2)).isEqualTo(cell(0, 1, COLS).id());
+            assertThat(index.actorCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should accept the largest and sparse actor ids")
+        void shouldAcceptSparseActorIds() {
+            var index = new ActorSpatialIndex(ROWS, COLS, CHUNK);
+            index.place(Integer.MAX_VALUE, 1, 1);
+            index.place(2_000_000_000, 1, 2);
+
+            assertThat(index.cellOf(Integer.MAX_VALUE)).isEqualTo(cell(1, 1, COLS).id());
+            assertThat(index.nearest(0, 0, 2, DistanceMetric.MANHATTAN))
+                .containsExactly(Integer.MAX_VALUE, 2_000_000_000);
+
+            index.place(Integer.MAX_VALUE, 40, 40);
+            index.remove(2_000_000_000);
+            assertThat(collectRadius(index, 40, 40, 0, DistanceMetric.CHEBYSHEV)).containsExactly(Integer.MAX_VALUE);
+            assertThat(index.cellOf(2_000_000_000)).isEqualTo(-1);
+            assertThat(index.actorCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should match a reference map through random churn of sparse ids")
+        void shouldMatchReferenceThroughChurn() {
+            var random = new Random(7);
+            var index = new ActorSpatialIndex(ROWS, COLS, CHUNK);
+            Map<Integer, Integer> reference = new HashMap<>();
+            for (int step = 0; step < 20_000; step++) {
+                // Ids from a small pool, scaled so they are sparse and collide in the id table
+                int actorId = random.nextInt(400) * 5_000_000;
+                if (reference.containsKey(actorId) && random.nextBoolean()) {
+                    index.remove(actorId);
+                    reference.remove(actorId);
+                } else {
+                    int row = random.nextInt(ROWS);
+                    int col = random.nextInt(COLS);
+                    index.place(actorId, row, col);
+                    reference.put(actorId, row * COLS + col);
+                }
+            }
+
+            assertThat(index.actorCount()).isEqualTo(reference.size());
+            reference.forEach((actorId, cellIndex) -> assertThat(index.cellOf(actorId)).isEqualTo(cellIndex));
+            Set<Integer> all = new HashSet<>();
+            index.forEachInRectangle(0, 0, ROWS - 1, COLS - 1, all::add);
+            assertThat(all).isEqualTo(reference.keySet());
+        }
+
+        @Test
+        @DisplayName("Should reject placements outside the grid")
+        void shouldRejectOutOfBounds() {
+            var index = new ActorSpatialIndex(ROWS, COLS, CHUNK);
+
+            assertThatThrownBy(() -> index.place(1, ROWS, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> index.place(-1, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Actor ID must be positive");
+        }
+    }
+}
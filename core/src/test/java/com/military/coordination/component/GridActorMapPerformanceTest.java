@@ -0,0 +1,91 @@
+package com.military.coordination.component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.military.coordination.util.TestGridUtils.cellAt;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.military.coordination.util.TestTimingUtils;
+import com.military.coordination.utils.GridUtilities;
+
+/**
+ * Benchmark for GridActorMap construction cost per move.
+ * Compares the delta-validated update path used by GridUtilities against a fully
+ * validated rebuild of the same map, at 10k, 100k and 1M occupied cells, and publishes the
+ * measured ns/move and ns/rebuild as report entries on every run.
+ * Runs isolated so concurrently executing test classes do not skew the timings.
+ * Enabled with {@code -Dmilitary.test.performance.enabled=true}.
+ */
+@DisplayName("GridActorMap - Construction Cost Per Move")
+@EnabledIfSystemProperty(named = "military.test.performance.enabled", matches = "true")
+@Isolated
+class GridActorMapPerformanceTest {
+
+    private static final int MOVES = 10_000;
+    private static final int FULL_REBUILDS = 3;
+    private static final int COLS = 1_000;
+    // A move touches two cells while a rebuild validates every one; even the smallest map leaves a wide margin
+    private static final int MINIMUM_RATIO = 10;
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.MINUTES)
+    @DisplayName("Delta-validated moves should cost far less than a full rebuild")
+    void deltaValidatedMovesShouldBeCheaperThanFullRebuild(final TestReporter reporter) {
+        for (int occupied : new int[] {10_000, 100_000, 1_000_000}) {
+            GridActorMap map = occupiedMap(occupied);
+            GridCoordinate[] free = new GridCoordinate[MOVES];
+            for (int i = 0; i < MOVES; i++) {
+                free[i] = cellAt(occupied + i, COLS);
+            }
+
+            // Warm up both paths before measuring
+            movesFrom(map, free);
+            new GridActorMap(map.actorMap());
+
+            Duration moves = TestTimingUtils.timeExecution(() -> {
+                movesFrom(map, free);
+            });
+            Duration rebuilds = TestTimingUtils.timeExecution(() -> {
+                for (int i = 0; i < FULL_REBUILDS; i++) {
+                    new GridActorMap(map.actorMap());
+                }
+            });
+
+            long perMoveNanos = moves.toNanos() / MOVES;
+            long perRebuildNanos = rebuilds.toNanos() / FULL_REBUILDS;
+            String measured = String.format("%,d ns/move vs %,d ns/rebuild", perMoveNanos, perRebuildNanos);
+            reporter.publishEntry(String.format("%,d occupied cells", occupied), measured);
+
+            assertThat(perMoveNanos * MINIMUM_RATIO)
+                .as("%,d occupied cells: %s", occupied, measured)
+                .isLessThan(perRebuildNanos);
+        }
+    }
+
+    private static GridActorMap movesFrom(final GridActorMap start, final GridCoordinate[] targets) {
+        GridActorMap map = start;
+        for (int i = 0; i < targets.length; i++) {
+            map = GridUtilities.moveActor(map, i, cellAt(i, COLS), targets[i]);
+        }
+        return map;
+    }
+
+    private static GridActorMap occupiedMap(final int occupied) {
+        Map<GridCoordinate, Set<Integer>> cells = new HashMap<>();
+        for (int i = 0; i < occupied; i++) {
+            cells.put(cellAt(i, COLS), Set.of(i));
+        }
+        return new GridActorMap(cells);
+    }
+
+}
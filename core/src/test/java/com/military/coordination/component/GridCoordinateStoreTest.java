@@ -0,0 +1,86 @@
+package com.military.coordination.component;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.manager.CoordinateManager;
+import com.military.coordination.utils.GridUtilities;
+
+@DisplayName("GridCoordinateStore - Lazy Chunked Coordinates")
+class GridCoordinateStoreTest {
+
+    @Test
+    @DisplayName("Should create coordinates matching the dense row-major index")
+    void shouldComputeCoordinatesFromIndex() {
+        var store = new GridCoordinateStore(5, 7, 3);
+
+        assertThat(store.length()).isEqualTo(35);
+        assertThat(store.get(0)).isEqualTo(new GridCoordinate(0, 0, 0));
+        assertThat(store.get(17)).isEqualTo(new GridCoordinate(17, 2, 3));
+        assertThat(store.get(4, 6)).isEqualTo(new GridCoordinate(34, 4, 6));
+        assertThat(store.get(17)).isSameAs(store.get(2, 3));
+    }
+
+    @Test
+    @DisplayName("Should allocate chunks only on first access")
+    void shouldMaterializeLazily() {
+        var store = new GridCoordinateStore(4000, 4000);
+
+        assertThat(store.materializedChunks()).isZero();
+        store.get(0);
+        store.get(15_999_999);
+        assertThat(store.materializedChunks()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should evict chunks unused since the previous sweep and recreate equal coordinates")
+    void shouldEvictUnusedChunks() {
+        var store = new GridCoordinateStore(10, 10, 4);
+        GridCoordinate first = store.get(3);
+        store.get(50);
+
+        assertThat(store.evictUnused()).isZero();
+        store.get(3);
+        assertThat(store.evictUnused()).isEqualTo(1);
+        assertThat(store.materializedChunks()).isEqualTo(1);
+
+        store.evictAll();
+        assertThat(store.materializedChunks()).isZero();
+        assertThat(store.get(3)).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should reject indices outside the grid")
+    void shouldRejectOutOfBounds() {
+        var store = new GridCoordinateStore(2, 2);
+
+        assertThatThrownBy(() -> store.get(4))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Cell index out of bounds");
+        assertThatThrownBy(() -> store.get(0, 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should back GridUtilities coordinate lookups")
+    void shouldBackCoordinateManager() {
+        var coordinateManager = new CoordinateManager(new HashMap<>());
+        UUID gridId = UUID.randomUUID();
+
+        GridUtilities.initializeCoordinates(coordinateManager, gridId, 3, 4);
+
+        assertThat(coordinateManager.coordinateAt(gridId, 9)).isEqualTo(new GridCoordinate(9, 2, 1));
+        assertThat(coordinateManager.store(gridId).materializedChunks()).isEqualTo(1);
+
+        assertThat(coordinateManager.evictUnused()).isZero();
+        assertThat(coordinateManager.evictUnused()).isEqualTo(1);
+        assertThat(coordinateManager.store(gridId).materializedChunks()).isZero();
+        assertThatThrownBy(() -> coordinateManager.coordinateAt(UUID.randomUUID(), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.military.coordination.component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.utils.GridUtilities;
+
+@DisplayName("GridOccupancyStore - Primitive Occupancy Engine")
+class GridOccupancyStoreTest {
+
+    @Test
+    @DisplayName("Should track actors through place, move and remove")
+    void shouldTrackActorsThroughUpdates() {
+        var store = new GridOccupancyStore(5, 7);
+        store.place(0, 8);
+        store.place(1, 8);
+        store.place(200, 19);
+
+        store.move(1, 19);
+        store.remove(0);
+
+        assertThat(store.isOccupied(8)).isFalse();
+        assertThat(store.actorCountAt(19)).isEqualTo(2);
+        assertThat(store.cellOf(1)).isEqualTo(19);
+        assertThat(store.cellOf(0)).isEqualTo(-1);
+        assertThat(store.occupiedCellCount()).isEqualTo(1);
+
+        List<Integer> actors = new ArrayList<>();
+        store.forEachActor(actors::add);
+        assertThat(actors).containsExactlyInAnyOrder(1, 200);
+    }
+
+    @Test
+    @DisplayName("Should reject placing an actor twice")
+    void shouldRejectPlacingActorTwice() {
+        var store = new GridOccupancyStore(2, 2);
+        store.place(3, 0);
+
+        assertThatThrownBy(() -> store.place(3, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("already placed");
+        assertThatThrownBy(() -> store.move(4, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not placed");
+    }
+
+    @Test
+    @DisplayName("Should leave the target cell intact when mapping an actor placed elsewhere")
+    void shouldRejectMappingPlacedActor() {
+        var store = new GridOccupancyStore(5, 7);
+        store.place(1, 0);
+        store.place(2, 9);
+
+        assertThatThrownBy(() -> GridUtilities.mapActorId(store, new GridCoordinate(9, 1, 2), 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("already placed at cell 0");
+
+        assertThat(store.cellOf(2)).isEqualTo(9);
+        assertThat(store.actorCountAt(9)).isEqualTo(1);
+        assertThat(store.cellOf(1)).isEqualTo(0);
+
+        GridUtilities.mapActorId(store, new GridCoordinate(0, 0, 0), 1);
+        assertThat(store.cellOf(1)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should round-trip through GridActorMap")
+    void shouldRoundTripThroughGridActorMap() {
+        var coordinates = new GridCoordinateStore(2, 3);
+        var actorMap = new GridActorMap(Map.of(new GridCoordinate(1, 0, 1), Set.of(4, 5),
+                                               new GridCoordinate(5, 1, 2), Set.of(9)));
+
+        var store = GridOccupancyStore.fromGridActorMap(actorMap, 2, 3);
+
+        assertThat(store.actorCount()).isEqualTo(3);
+        assertThat(store.toGridActorMap(coordinates)).isEqualTo(actorMap);
+    }
+
+    @Test
+    @DisplayName("Should accept sparse and maximal actor ids")
+    void shouldAcceptSparseActorIds() {
+        var store = new GridOccupancyStore(5, 7);
+        store.place(Integer.MAX_VALUE, 3);
+        store.place(2_000_000_000, 3);
+
+        assertThat(store.cellOf(Integer.MAX_VALUE)).isEqualTo(3);
+        assertThat(store.actorCountAt(3)).isEqualTo(2);
+        assertThat(store.cellOf(-1)).isEqualTo(-1);
+
+        store.remove(Integer.MAX_VALUE);
+        assertThat(store.contains(Integer.MAX_VALUE)).isFalse();
+        assertThat(store.cellOf(2_000_000_000)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should match a reference map through random churn of sparse ids")
+    void shouldMatchReferenceThroughChurn() {
+        var random = new Random(3);
+        var store = new GridOccupancyStore(20, 20);
+        Map<Integer, Integer> reference = new HashMap<>();
+        for (int step = 0; step < 20_000; step++) {
+            // Ids from a small pool, scaled so they are sparse and collide in the id table
+            int actorId = random.nextInt(400) * 5_000_000;
+            int cellIndex = random.nextInt(store.cellCount());
+            if (!reference.containsKey(actorId)) {
+                store.place(actorId, cellIndex);
+                reference.put(actorId, cellIndex);
+            } else if (random.nextBoolean()) {
+                store.move(actorId, cellIndex);
+                reference.put(actorId, cellIndex);
+            } else {
+                store.remove(actorId);
+                reference.remove(actorId);
+            }
+        }
+
+        assertThat(store.actorCount()).isEqualTo(reference.size());
+        for (int id = 0; id < 400; id++) {
+            int actorId = id * 5_000_000;
+            assertThat(store.cellOf(actorId)).isEqualTo(reference.getOrDefault(actorId, -1));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.military.coordination.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.military.coordination.util.TestGridUtils.cell;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.utils.GridUtilities;
+
+@DisplayName("OccupancyMask - Word-Parallel Cell Mask")
+class OccupancyMaskTest {
+
+    private static final int ROWS = 10;
+    private static final int COLS = 70;
+
+    @Nested
+    @DisplayName("Queries")
+    class Queries {
+
+        @Test
+        @DisplayName("Should count set cells inside a rectangle spanning word boundaries")
+        void shouldCountCellsInRectangle() {
+            var mask = new OccupancyMask(ROWS, COLS);
+            mask.set(cell(1, 0, COLS).id());
+            mask.set(cell(1, 63, COLS).id());
+            mask.set(cell(1, 64, COLS).id());
+            mask.set(cell(2, 69, COLS).id());
+            mask.set(cell(9, 5, COLS).id());
+
+            assertThat(mask.countInRectangle(1, 0, 2, 69)).isEqualTo(4);
+            assertThat(mask.countInRectangle(1, 60, 1, 64)).isEqualTo(2);
+            assertThat(mask.countInRectangle(-5, -5, 100, 100)).isEqualTo(5);
+            assertThat(mask.countInRectangle(3, 0, 8, 69)).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("Should find the next free cell in row-major order")
+        void shouldFindNextFreeCell() {
+            var mask = new OccupancyMask(ROWS, COLS);
+            for (int i = 0; i < 130; i++) {
+                mask.set(i);
+            }
+
+            assertThat(mask.nextClearCell(0)).isEqualTo(130);
+            assertThat(mask.nextSetCell(130)).isEqualTo(-1);
+            assertThat(mask.nextSetCell(64)).isEqualTo(64);
+
+            for (int i = 130; i < ROWS * COLS; i++) {
+                mask.set(i);
+            }
+            assertThat(mask.nextClearCell(0)).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("Should intersect, union and subtract masks of the same grid")
+        void shouldCombineMasks() {
+            var occupied = new OccupancyMask(ROWS, COLS);
+            occupied.set(3);
+            occupied.set(500);
+            var coverage = new OccupancyMask(ROWS, COLS);
+            coverage.set(500);
+            coverage.set(699);
+
+            assertThat(occupied.copy().and(coverage).cardinality()).isEqualTo(1);
+            assertThat(occupied.copy().or(coverage).cardinality()).isEqualTo(3);
+            assertThat(occupied.copy().andNot(coverage).get(3)).isTrue();
+            assertThat(occupied.intersects(coverage)).isTrue();
+            assertThatThrownBy(() -> occupied.and(new OccupancyMask(COLS, ROWS)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Synchronisation")
+    class Synchronisation {
+
+        @Test
+        @DisplayName("Should follow GridActorMap updates made through GridUtilities")
+        void shouldFollowGridActorMapUpdates() {
+            var actorMap = new GridActorMap(Map.of());
+            var mask = OccupancyMask.of(actorMap, ROWS, COLS);
+
+            actorMap = GridUtilities.mapActorId(actorMap, cell(0, 0, COLS), 1, mask);
+            actorMap = GridUtilities.mapActorId(actorMap, cell(4, 4, COLS), 2, mask);
+            actorMap = GridUtilities.moveActor(actorMap, 1, cell(0, 0, COLS), cell(4, 4, COLS), mask);
+            actorMap = GridUtilities.removeActor(actorMap, cell(4, 4, COLS), 2, mask);
+
+            assertThat(mask).isEqualTo(OccupancyMask.of(actorMap, ROWS, COLS));
+            assertThat(GridUtilities.isOccupied(mask, cell(4, 4, COLS))).isTrue();
+            assertThat(GridUtilities.isOccupied(mask, cell(0, 0, COLS))).isFalse();
+
+            List<Integer> occupiedCells = new ArrayList<>();
+            mask.forEachSetCell(occupiedCells::add);
+            assertThat(occupiedCells).containsExactly(cell(4, 4, COLS).id());
+        }
+    }
+}
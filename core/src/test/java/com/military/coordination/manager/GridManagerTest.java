@@ -0,0 +1,92 @@
+package com.military.coordination.manager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.actor.GridActor;
+import com.military.coordination.component.CellHandle;
+import com.military.coordination.utils.GridUtilities;
+
+@DisplayName("GridManager - World-Space Grid Index")
+class GridManagerTest {
+
+    private static Set<UUID> ids(final List<GridActor> grids) {
+        Set<UUID> ids = new HashSet<>();
+        grids.forEach(grid -> ids.add(grid.id));
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Should find the same grids as a linear scan for points and rectangles")
+    void shouldMatchLinearScan() {
+        var random = new Random(19);
+        var gridManager = new GridManager(new HashMap<>());
+        for (int i = 0; i < 300; i++) {
+            UUID id = GridUtilities.createGrid(gridManager, 1 + random.nextInt(6), 1 + random.nextInt(6),
+                                               8 + random.nextInt(24));
+            GridUtilities.getGridById(gridManager, id).setPosition(random.nextInt(2_000), random.nextInt(2_000));
+        }
+
+        for (int query = 0; query < 500; query++) {
+            float x = random.nextInt(2_200);
+            float y = random.nextInt(2_200);
+            float width = random.nextInt(150);
+            float height = random.nextInt(150);
+            List<GridActor> underPoint = new ArrayList<>();
+            List<GridActor> inRectangle = new ArrayList<>();
+            for (GridActor grid : gridManager.grids().values()) {
+                if (x >= grid.getX() && x < grid.getGridRight() && y >= grid.getY() && y < grid.getGridTop()) {
+                    underPoint.add(grid);
+                }
+                if (x + width >= grid.getX() && x < grid.getGridRight()
+                    && y + height >= grid.getY() && y < grid.getGridTop()) {
+                    inRectangle.add(grid);
+                }
+            }
+
+            assertThat(ids(gridManager.gridsAt(x, y))).isEqualTo(ids(underPoint));
+            assertThat(ids(gridManager.gridsIn(x, y, x + width, y + height))).isEqualTo(ids(inRectangle));
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve cells of offset grids and follow grids as they move")
+    void shouldResolveOffsetCells() {
+        var gridManager = new GridManager(new HashMap<>());
+        UUID base = GridUtilities.createGrid(gridManager, 5, 7, 160);
+        UUID overlay = GridUtilities.createGrid(gridManager, 8, 4, 64);
+        GridActor overlayGrid = GridUtilities.getGridById(gridManager, overlay);
+        overlayGrid.setPosition(800, 320);
+
+        long[] cells = gridManager.cellsAt(900, 400);
+
+        assertThat(cells).hasSize(2);
+        for (long cell : cells) {
+            if (CellHandle.gridHandle(cell) == gridManager.handleOf(overlay)) {
+                assertThat(CellHandle.row(cell)).isEqualTo(1);
+                assertThat(CellHandle.col(cell)).isEqualTo(1);
+            } else {
+                assertThat(CellHandle.gridHandle(cell)).isEqualTo(gridManager.handleOf(base));
+                assertThat(CellHandle.row(cell)).isEqualTo(2);
+                assertThat(CellHandle.col(cell)).isEqualTo(5);
+            }
+        }
+
+        overlayGrid.setX(2_000);
+        assertThat(gridManager.cellsAt(900, 400)).hasSize(1);
+        assertThat(gridManager.gridsAt(2_010, 330)).containsExactly(overlayGrid);
+
+        List<Long> covered = new ArrayList<>();
+        gridManager.forEachCellIn(0, 0, 200, 100, covered::add);
+        assertThat(covered).hasSize(2);
+    }
+}
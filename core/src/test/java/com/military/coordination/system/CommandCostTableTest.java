@@ -0,0 +1,32 @@
+package com.military.coordination.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.model.CommandType;
+
+@DisplayName("CommandCostTable - Precomputed Command Costs")
+class CommandCostTableTest {
+
+    @Test
+    @DisplayName("Should match the cost formula for every type and input")
+    void shouldMatchFormula() {
+        for (CommandType type : CommandType.values()) {
+            int baseCost = CommandSystem.getBaseCost(type);
+            for (int trust = 0; trust <= 100; trust++) {
+                for (int stress = 0; stress <= 100; stress++) {
+                    for (int signal = 0; signal <= 100; signal++) {
+                        int expected = CommandSystem.formulaCost(baseCost, trust, stress, signal);
+                        if (CommandCostTable.cost(type, trust, stress, signal) != expected) {
+                            assertThat(CommandCostTable.cost(type, trust, stress, signal))
+                                .as("%s at trust %d, stress %d, signal %d", type, trust, stress, signal)
+                                .isEqualTo(expected);
+                        }
+                    }
+                }
+            }
+            assertThat(CommandCostTable.isBuilt(type)).isTrue();
+        }
+    }
+}
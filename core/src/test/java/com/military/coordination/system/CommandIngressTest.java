@@ -0,0 +1,110 @@
+package com.military.coordination.system;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.model.Command;
+import com.military.coordination.model.CommandType;
+import com.military.coordination.model.Priority;
+
+@DisplayName("CommandIngress - Lock-Free Command Submission")
+class CommandIngressTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int PER_PRODUCER = 50_000;
+
+    private static Command command(final int producer, final int sequence) {
+        return new Command(new UUID(producer, sequence), CommandType.MOVE, "GRID-1", Priority.NORMAL,
+                           Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should apply the backpressure policy when full")
+    void shouldApplyPolicyWhenFull() {
+        var rejecting = new CommandIngress(2, BackpressurePolicy.REJECT);
+        var dropping = new CommandIngress(2, BackpressurePolicy.DROP_OLDEST);
+        for (int i = 0; i < 3; i++) {
+            rejecting.submit(command(0, i));
+            dropping.submit(command(0, i));
+        }
+        List<Command> kept = new ArrayList<>();
+        List<Command> newest = new ArrayList<>();
+
+        assertThat(rejecting.drainTo(kept::add, 10)).isEqualTo(2);
+        assertThat(dropping.drainTo(newest::add, 1)).isEqualTo(1);
+        dropping.drainTo(newest::add, 10);
+
+        assertThat(kept.get(1).id()).isEqualTo(new UUID(0, 1));
+        assertThat(rejecting.stats()).isEqualTo(new CommandIngress.Stats(2, 1, 0, 0));
+        assertThat(newest.get(0).id()).isEqualTo(new UUID(0, 1));
+        assertThat(newest.get(1).id()).isEqualTo(new UUID(0, 2));
+        assertThat(dropping.stats()).isEqualTo(new CommandIngress.Stats(3, 0, 1, 0));
+        assertThat(dropping.size()).isZero();
+        assertThatThrownBy(() -> new CommandIngress(3, BackpressurePolicy.BLOCK))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should deliver each accepted command once, in order per producer, under every policy")
+    void shouldDeliverConcurrentSubmissions() throws InterruptedException {
+        for (BackpressurePolicy policy : BackpressurePolicy.values()) {
+            var ingress = new CommandIngress(64, policy);
+            var start = new CountDownLatch(1);
+            List<Thread> producers = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                int producer = p;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < PER_PRODUCER; i++) {
+                        ingress.submit(command(producer, i));
+                    }
+                });
+                thread.start();
+                producers.add(thread);
+            }
+
+            long[] lastSeen = new long[PRODUCERS];
+            Arrays.fill(lastSeen, -1);
+            boolean[] ordered = {true};
+            long[] received = {0};
+            start.countDown();
+            boolean running = true;
+            while (running) {
+                running = producers.stream().anyMatch(Thread::isAlive);
+                ingress.drainTo(command -> {
+                    int producer = (int) command.id().getMostSignificantBits();
+                    long sequence = command.id().getLeastSignificantBits();
+                    ordered[0] &= sequence > lastSeen[producer];
+                    lastSeen[producer] = sequence;
+                    received[0]++;
+                }, 32);
+            }
+            for (Thread thread : producers) {
+                thread.join();
+            }
+            ingress.drainTo(command -> received[0]++, Integer.MAX_VALUE);
+            CommandIngress.Stats stats = ingress.stats();
+
+            assertThat(ordered[0]).as("%s keeps per-producer order", policy).isTrue();
+            assertThat(stats.submitted() + stats.rejected()).isEqualTo((long) PRODUCERS * PER_PRODUCER);
+            assertThat(received[0]).isEqualTo(stats.submitted() - stats.dropped());
+            if (policy == BackpressurePolicy.BLOCK) {
+                assertThat(received[0]).isEqualTo((long) PRODUCERS * PER_PRODUCER);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.military.coordination.system;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.military.coordination.model.Command;
+import com.military.coordination.model.CommandStatus;
+import com.military.coordination.model.CommandType;
+import com.military.coordination.model.Priority;
+
+@DisplayName("CommandQueue - Bandwidth-Limited Priority Queue")
+class CommandQueueTest {
+
+    private static Command command(final CommandType type, final Priority priority) {
+        return new Command(UUID.randomUUID(), type, "GRID-1", priority, Duration.ofMinutes(1));
+    }
+
+    private static List<UUID> ids(final List<Command> commands) {
+        return commands.stream().map(Command::id).toList();
+    }
+
+    @Test
+    @DisplayName("Should release urgent and high-priority commands first, within the bandwidth")
+    void shouldReleaseByPriorityWithinBandwidth() {
+        var queue = new CommandQueue(2);
+        var low = command(CommandType.MOVE, Priority.LOW);
+        var normal = command(CommandType.MOVE, Priority.NORMAL);
+        var emergency = command(CommandType.EMERGENCY, Priority.NORMAL);
+        var high = command(CommandType.MOVE, Priority.HIGH);
+        List.of(low, normal, emergency, high).forEach(queue::enqueue);
+
+        List<Command> first = queue.processTick();
+        List<Command> second = queue.processTick();
+
+        assertThat(ids(first)).containsExactly(high.id(), emergency.id());
+        assertThat(first.get(0).status()).isEqualTo(CommandStatus.EXECUTING);
+        assertThat(ids(second)).containsExactly(normal.id(), low.id());
+        assertThat(queue.isEmpty()).isTrue();
+        assertThatThrownBy(() -> queue.enqueue(low.withStatus(CommandStatus.COMPLETED)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should preempt to the front and waste bandwidth on cancellation")
+    void shouldPreemptAndCancel() {
+        var queue = new CommandQueue(3);
+        var high = command(CommandType.MOVE, Priority.HIGH);
+        var low = command(CommandType.STATUS_REPORT, Priority.LOW);
+        var cancelled = command(CommandType.MOVE, Priority.NORMAL);
+        List.of(high, low, cancelled).forEach(queue::enqueue);
+
+        assertThat(queue.preempt(low.id())).isTrue();
+        assertThat(queue.cancel(cancelled.id()).orElseThrow().status()).isEqualTo(CommandStatus.CANCELLED);
+        assertThat(queue.cancel(cancelled.id())).isEmpty();
+        assertThat(queue.wastedSlots()).isEqualTo(1);
+
+        assertThat(ids(queue.processTick())).containsExactly(low.id(), high.id());
+        assertThat(queue.wastedSlots()).isZero();
+        assertThat(queue.preempt(low.id())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match a sorted reference through random preemptions and cancellations")
+    void shouldMatchSortedReference() {
+        var random = new Random(21);
+        var queue = new CommandQueue(50);
+        // Reference entries: {command, rank, sequence}
+        List<Object[]> reference = new ArrayList<>();
+        long sequence = 0;
+        CommandType[] types = CommandType.values();
+        Priority[] priorities = Priority.values();
+        for (int i = 0; i < 10_000; i++) {
+            Command command = command(types[random.nextInt(types.length)], priorities[random.nextInt(3)]);
+            queue.enqueue(command);
+            int rank = (CommandSystem.isUrgent(command) ? 0 : 10) + CommandSystem.getPriorityScore(command);
+            reference.add(new Object[] {command, rank, sequence++});
+        }
+        Comparator<Object[]> order = Comparator.<Object[]>comparingInt(entry -> (int) entry[1])
+            .thenComparingLong(entry -> (long) entry[2]);
+
+        while (!reference.isEmpty()) {
+            int wasted = 0;
+            for (int op = 0; op < 20 && !reference.isEmpty(); op++) {
+                Object[] entry = reference.get(random.nextInt(reference.size()));
+                UUID id = ((Command) entry[0]).id();
+                if (random.nextBoolean()) {
+                    assertThat(queue.preempt(id)).isTrue();
+                    if ((int) entry[1] != -1) {
+                        entry[1] = -1;
+                        entry[2] = sequence++;
+                    }
+                } else if (wasted < 10) {
+                    assertThat(queue.cancel(id)).isPresent();
+                    reference.remove(entry);
+                    wasted++;
+                }
+            }
+            reference.sort(order);
+            int budget = 50 - wasted;
+            List<UUID> expected = new ArrayList<>();
+            for (int i = 0; i < budget && !reference.isEmpty(); i++) {
+                expected.add(((Command) reference.remove(0)[0]).id());
+            }
+
+            assertThat(ids(queue.processTick())).isEqualTo(expected);
+            assertThat(queue.size()).isEqualTo(reference.size());
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "military.test.performance.enabled", matches = "true")
+    @DisplayName("Should keep ticks fast with 100k queued commands")
+    void shouldSustainLargeQueue() {
+        var random = new Random(7);
+        var queue = new CommandQueue();
+        List<UUID> ids = new ArrayList<>();
+        CommandType[] types = CommandType.values();
+        for (int i = 0; i < 100_000; i++) {
+            Command command = command(types[random.nextInt(types.length)], Priority.values()[random.nextInt(3)]);
+            queue.enqueue(command);
+            ids.add(command.id());
+        }
+
+        long totalTime = 0;
+        long slowestTick = 0;
+        for (int tick = 0; tick < 2_000; tick++) {
+            long start = System.nanoTime();
+            queue.preempt(ids.get(random.nextInt(ids.size())));
+            queue.cancel(ids.get(random.nextInt(ids.size())));
+            queue.processTick();
+            // The first half warms up the JIT
+            if (tick >= 1_000) {
+                long elapsed = System.nanoTime() - start;
+                totalTime += elapsed;
+                slowestTick = Math.max(slowestTick, elapsed);
+            }
+        }
+
+        assertThat(queue.size()).isGreaterThan(90_000);
+        assertThat(totalTime / 1_000).isLessThan(Duration.ofMillis(1).toNanos());
+        assertThat(slowestTick).isLessThan(Duration.ofMillis(50).toNanos());
+    }
+}
@@ -1,6 +1,7 @@
 package com.military.coordination.system;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -105,6 +106,59 @@ class CommandSystemTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Cost Calculation")
+    class BatchCostCalculation {
+
+        @Test
+        @DisplayName("Should match the scalar cost over the whole input domain")
+        void shouldMatchScalarCost() {
+            int count = 101 * 101 * 101;
+            int[] trust = new int[count];
+            int[] stress = new int[count];
+            int[] signal = new int[count];
+            for (int i = 0; i < count; i++) {
+                trust[i] = i / (101 * 101);
+                stress[i] = i / 101 % 101;
+                signal[i] = i % 101;
+            }
+            int[] costs = new int[count];
+
+            for (CommandType type : CommandType.values()) {
+                var command = new Command(UUID.randomUUID(), type, "GRID-17", Priority.NORMAL, Duration.ofMinutes(10));
+                int[] types = new int[count];
+                Arrays.fill(types, type.ordinal());
+
+                CommandSystem.calculateCosts(types, trust, stress, signal, costs);
+
+                for (int i = 0; i < count; i++) {
+                    if (costs[i] != CommandSystem.calculateCost(command, trust[i], stress[i], signal[i])) {
+                        assertThat(costs[i]).as("%s at trust %d, stress %d, signal %d", type, trust[i], stress[i],
+                                                signal[i])
+                            .isEqualTo(CommandSystem.calculateCost(command, trust[i], stress[i], signal[i]));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject out-of-range batch inputs")
+        void shouldRejectOutOfRangeInputs() {
+            int[] valid = {50, 50};
+            int[] costs = new int[2];
+
+            assertThatThrownBy(() -> CommandSystem.calculateCosts(new int[] {0, 9}, valid, valid, valid, costs))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("index 1");
+            assertThatThrownBy(() -> CommandSystem.calculateCosts(new int[] {0, 0}, valid, new int[] {0, 101}, valid,
+                                                                  costs))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unit stress must be between 0 and 100");
+            assertThatThrownBy(() -> CommandSystem.calculateCosts(new int[] {0}, valid, valid, valid, costs))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Priority Management")
     class PriorityManagement {
@@ -0,0 +1,100 @@
+package com.military.coordination.system;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.model.Command;
+import com.military.coordination.model.CommandStatus;
+import com.military.coordination.model.CommandType;
+import com.military.coordination.model.Priority;
+
+@DisplayName("CommandTimeoutWheel - Hierarchical Timeout Scheduling")
+class CommandTimeoutWheelTest {
+
+    private static final Instant ORIGIN = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static Command command(final Instant createdAt, final Duration timeout) {
+        return new Command(UUID.randomUUID(), CommandType.MOVE, "GRID-1", Priority.NORMAL, timeout, createdAt,
+                           null);
+    }
+
+    @Test
+    @DisplayName("Should expire a command on the first tick after its deadline")
+    void shouldExpireAfterDeadline() {
+        var wheel = new CommandTimeoutWheel(ORIGIN, Duration.ofSeconds(1));
+        var command = command(ORIGIN, Duration.ofSeconds(10));
+        var early = command(ORIGIN, Duration.ofSeconds(10));
+        wheel.schedule(command);
+        wheel.schedule(early);
+
+        assertThat(wheel.cancel(early.id())).isTrue();
+        assertThat(wheel.advanceTo(ORIGIN.plusSeconds(10))).isEmpty();
+        List<Command> expired = wheel.advanceTo(ORIGIN.plusSeconds(11));
+
+        assertThat(expired).hasSize(1);
+        assertThat(expired.get(0).id()).isEqualTo(command.id());
+        assertThat(expired.get(0).status()).isEqualTo(CommandStatus.TIMEOUT);
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.cancel(command.id())).isFalse();
+        assertThatThrownBy(() -> new CommandTimeoutWheel(ORIGIN, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should pop exactly the timed-out commands across all wheel levels")
+    void shouldMatchHasTimedOut() {
+        var random = new Random(22);
+        Duration resolution = Duration.ofMillis(1);
+        var wheel = new CommandTimeoutWheel(ORIGIN, resolution);
+        List<Command> live = new ArrayList<>();
+        long nowMillis = 0;
+
+        for (int step = 0; step < 3_000; step++) {
+            for (int i = random.nextInt(4); i > 0; i--) {
+                // Deadlines from already past to beyond the top level (2^24 ms is about 4.7 hours)
+                long createdOffset = nowMillis - random.nextInt(2_000);
+                long timeout = 1 + switch (random.nextInt(4)) {
+                    case 0 -> random.nextInt(100);
+                    case 1 -> random.nextInt(10_000);
+                    case 2 -> random.nextInt(5_000_000);
+                    default -> random.nextLong(100_000_000L);
+                };
+                Command command = command(ORIGIN.plusMillis(createdOffset), Duration.ofMillis(timeout));
+                wheel.schedule(command);
+                live.add(command);
+            }
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                Command completed = live.remove(random.nextInt(live.size()));
+                assertThat(wheel.cancel(completed.id())).isTrue();
+            }
+            nowMillis += switch (random.nextInt(4)) {
+                case 0 -> random.nextInt(3);
+                case 1 -> random.nextInt(200);
+                case 2 -> random.nextInt(20_000);
+                default -> random.nextInt(2_000_000);
+            };
+
+            Instant now = ORIGIN.plusMillis(nowMillis);
+            Set<UUID> expected = new HashSet<>();
+            live.removeIf(command -> CommandSystem.hasTimedOut(command, now) && expected.add(command.id()));
+            Set<UUID> actual = new HashSet<>();
+            for (Command command : wheel.advanceTo(now)) {
+                actual.add(command.id());
+            }
+
+            assertThat(actual).isEqualTo(expected);
+            assertThat(wheel.size()).isEqualTo(live.size());
+        }
+    }
+}
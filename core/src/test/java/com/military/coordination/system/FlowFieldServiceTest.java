@@ -0,0 +1,100 @@
+package com.military.coordination.system;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static com.military.coordination.util.TestGridUtils.cellAt;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.component.GridActorMap;
+import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.model.TacticalGrid;
+import com.military.coordination.utils.GridUtilities;
+
+@DisplayName("FlowFieldService - Shared Integration Fields")
+class FlowFieldServiceTest {
+
+    private static final int ROWS = 10;
+    private static final int COLS = 12;
+    private static final TacticalGrid GRID = new TacticalGrid(ROWS, COLS, 10);
+
+    @Test
+    @DisplayName("Should lead every unit to the target along an optimal route")
+    void shouldFollowFieldToTarget() {
+        var service = new FlowFieldService(GRID, new GridActorMap(Map.of()), MovementProfile.STANDARD);
+        int target = 5 * COLS + 7;
+
+        FlowField field = service.fieldTo(target);
+
+        for (int start : new int[] {0, COLS - 1, ROWS * COLS - 1}) {
+            int steps = 0;
+            int cost = 0;
+            for (int current = start; current != target; steps++) {
+                int next = field.nextCell(current);
+                cost += PathfindingSystem.pathCost(GRID, new int[] {current, next}, MovementProfile.STANDARD);
+                current = next;
+            }
+            int[] path = PathfindingSystem.findPath(GRID, null, start, target);
+            assertThat(cost).isEqualTo(PathfindingSystem.pathCost(GRID, path, MovementProfile.STANDARD));
+            assertThat(steps).isEqualTo(path.length - 1);
+        }
+        assertThat(service.fieldTo(target)).isSameAs(field);
+    }
+
+    @Test
+    @DisplayName("Should stay identical to a fresh build through random occupancy changes")
+    void shouldMatchFreshBuildAfterChanges() {
+        var random = new Random(3);
+        Map<Integer, GridCoordinate> positions = new HashMap<>();
+        Map<GridCoordinate, Set<Integer>> initial = new HashMap<>();
+        for (int actorId = 1; actorId <= 30; actorId++) {
+            GridCoordinate start = cellAt(random.nextInt(ROWS * COLS), COLS);
+            positions.put(actorId, start);
+            initial.computeIfAbsent(start, key -> new HashSet<>()).add(actorId);
+        }
+        GridActorMap map = new GridActorMap(initial);
+        var service = new FlowFieldService(GRID, map, MovementProfile.STANDARD);
+        int[] targets = {0, 37, 65, 119};
+        service.prepare(targets);
+
+        for (int step = 0; step < 400; step++) {
+            int actorId = 1 + random.nextInt(30);
+            GridCoordinate to = cellAt(random.nextInt(ROWS * COLS), COLS);
+            map = GridUtilities.moveActor(map, actorId, positions.get(actorId), to, service);
+            positions.put(actorId, to);
+
+            var fresh = new FlowFieldService(GRID, map, MovementProfile.STANDARD);
+            for (int target : targets) {
+                FlowField expected = fresh.fieldTo(target);
+                FlowField actual = service.fieldTo(target);
+                for (int i = 0; i < ROWS * COLS; i++) {
+                    assertThat(actual.distanceAt(i)).isEqualTo(expected.distanceAt(i));
+                }
+            }
+        }
+        assertThat(service.repairCount()).isPositive();
+        assertThat(service.buildCount()).isLessThan(400 * targets.length);
+    }
+
+    @Test
+    @DisplayName("Should build several targets in one parallel pass and mark replaced fields stale")
+    void shouldPrepareInParallel() {
+        var service = new FlowFieldService(GRID, new GridActorMap(Map.of()), MovementProfile.ORTHOGONAL);
+
+        service.prepare(1, 2, 3, 2);
+        FlowField field = service.fieldTo(2);
+        service.terrainChanged(50);
+
+        assertThat(service.fieldCount()).isEqualTo(3);
+        assertThat(service.buildCount()).isEqualTo(3);
+        assertThat(field.isStale()).isTrue();
+        assertThat(service.fieldTo(2)).isNotSameAs(field);
+        assertThat(service.fieldTo(2).distanceAt(2 + COLS)).isEqualTo(PathfindingSystem.STRAIGHT_COST);
+        assertThat(Set.of(service.fieldTo(1).nextCell(0))).containsExactly(1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.military.coordination.system;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static com.military.coordination.util.TestGridUtils.cellIndex;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.component.GridActorMap;
+import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.utils.GridUtilities;
+
+@DisplayName("FogOfWar - Incremental Visibility State")
+class FogOfWarTest {
+
+    private static final int ROWS = 12;
+    private static final int COLS = 15;
+
+    @Test
+    @DisplayName("Should reveal only the cells newly entering view")
+    void shouldRevealNewCells() {
+        var fog = new FogOfWar(ROWS, COLS);
+        fog.addViewer(1, 1, cellIndex(5, 5, COLS));
+
+        assertThat(fog.knownCount()).isEqualTo(5);
+        assertThat(fog.revealedThisTickCount()).isEqualTo(5);
+
+        fog.advanceTick();
+        fog.moveViewer(1, cellIndex(5, 6, COLS));
+        List<Integer> revealed = new ArrayList<>();
+        fog.forEachRevealedThisTick(revealed::add);
+
+        assertThat(revealed)
+            .containsExactlyInAnyOrder(cellIndex(4, 6, COLS), cellIndex(6, 6, COLS), cellIndex(5, 7, COLS));
+        assertThat(fog.isVisible(cellIndex(5, 4, COLS))).isFalse();
+        assertThat(fog.isKnown(cellIndex(5, 4, COLS))).isTrue();
+        assertThat(fog.lastSeenTick(cellIndex(5, 4, COLS))).isEqualTo(1);
+        assertThat(fog.lastSeenTick(cellIndex(5, 5, COLS))).isEqualTo(1);
+        assertThat(fog.lastSeenTick(cellIndex(0, 0, COLS))).isEqualTo(-1);
+        assertThatThrownBy(() -> fog.addViewer(1, 2, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should age intel lazily exactly like an eager per-tick update")
+    void shouldMatchEagerReference() {
+        var random = new Random(23);
+        var fog = new FogOfWar(ROWS, COLS);
+        int[] radius = {1, 2, 3, 0};
+        int[] position = new int[radius.length];
+        for (int id = 0; id < radius.length; id++) {
+            position[id] = random.nextInt(ROWS * COLS);
+            fog.addViewer(id, radius[id], position[id]);
+        }
+        int[] referenceSeen = new int[ROWS * COLS];
+        Arrays.fill(referenceSeen, -1);
+
+        for (int step = 0; step < 2_000; step++) {
+            if (random.nextInt(3) == 0) {
+                fog.advanceTick();
+            } else {
+                int id = random.nextInt(radius.length);
+                position[id] = random.nextInt(8) == 0 ? -1 : random.nextInt(ROWS * COLS);
+                fog.moveViewer(id, position[id]);
+            }
+            boolean[] visible = new boolean[ROWS * COLS];
+            for (int id = 0; id < radius.length; id++) {
+                for (int i = 0; position[id] >= 0 && i < ROWS * COLS; i++) {
+                    int dr = i / COLS - position[id] / COLS;
+                    int dc = i % COLS - position[id] % COLS;
+                    if (dr * dr + dc * dc <= radius[id] * radius[id]) {
+                        visible[i] = true;
+                        referenceSeen[i] = fog.currentTick();
+                    }
+                }
+            }
+            int maxAge = random.nextInt(6);
+            Set<Integer> expectedOld = new HashSet<>();
+            for (int i = 0; i < ROWS * COLS; i++) {
+                assertThat(fog.isVisible(i)).isEqualTo(visible[i]);
+                assertThat(fog.lastSeenTick(i)).isEqualTo(referenceSeen[i]);
+                assertThat(fog.isKnown(i)).isEqualTo(referenceSeen[i] >= 0);
+                if (!visible[i] && referenceSeen[i] >= 0 && fog.currentTick() - referenceSeen[i] > maxAge) {
+                    expectedOld.add(i);
+                }
+            }
+            List<Integer> old = new ArrayList<>();
+            fog.forEachOlderThan(maxAge, old::add);
+            assertThat(old).hasSize(expectedOld.size());
+            assertThat(new HashSet<>(old)).isEqualTo(expectedOld);
+        }
+    }
+
+    @Test
+    @DisplayName("Should follow viewers moved through GridUtilities")
+    void shouldFollowViewerActors() {
+        GridCoordinate start = new GridCoordinate(cellIndex(0, 0, COLS), 0, 0);
+        GridCoordinate end = new GridCoordinate(cellIndex(10, 10, COLS), 10, 10);
+        var map = new GridActorMap(Map.of(start, Set.of(4)));
+        var fog = new FogOfWar(ROWS, COLS);
+        fog.addViewer(4, 1, cellIndex(0, 0, COLS));
+
+        GridUtilities.moveActor(map, 4, start, end, fog);
+
+        assertThat(fog.isVisible(cellIndex(0, 0, COLS))).isFalse();
+        assertThat(fog.isVisible(cellIndex(10, 11, COLS))).isTrue();
+        assertThat(fog.knownCount()).isEqualTo(8);
+    }
+}
@@ -0,0 +1,86 @@
+package com.military.coordination.system;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.military.coordination.util.TestGridUtils.cellIndex;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.component.GridActorMap;
+import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.component.OccupancyMask;
+import com.military.coordination.utils.GridUtilities;
+
+@DisplayName("LineOfSightService - Batched Visibility")
+class LineOfSightServiceTest {
+
+    private static final int ROWS = 16;
+    private static final int COLS = 20;
+
+    @Test
+    @DisplayName("Should hide cells behind a wall and see cells beside it")
+    void shouldBlockRaysBehindWall() {
+        var blocking = new OccupancyMask(ROWS, COLS);
+        for (int row = 4; row <= 8; row++) {
+            blocking.set(cellIndex(row, 10, COLS));
+        }
+        var service = new LineOfSightService(blocking);
+
+        BitSet visible = service.visibleFrom(cellIndex(6, 2, COLS),
+                                             new int[] {cellIndex(6, 15, COLS), cellIndex(0, 15, COLS),
+                                                        cellIndex(6, 10, COLS), cellIndex(6, 2, COLS)});
+
+        assertThat(visible.get(0)).isFalse();
+        assertThat(visible.get(1)).isTrue();
+        assertThat(visible.get(2)).isTrue();
+        assertThat(visible.get(3)).isTrue();
+        assertThat(service.hasLineOfSight(cellIndex(6, 15, COLS), cellIndex(6, 2, COLS))).isFalse();
+        assertThatThrownBy(() -> service.hasLineOfSight(-1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep a tower's cache until a cell on its rays changes")
+    void shouldInvalidateOnlyCrossedTowers() {
+        var service = new LineOfSightService(new OccupancyMask(ROWS, COLS));
+        int[] targets = {cellIndex(2, 8, COLS), cellIndex(2, 12, COLS)};
+        BitSet first = service.visibleFrom(1, cellIndex(2, 2, COLS), targets);
+        long rays = service.raysCast();
+
+        assertThat(service.visibleFrom(1, cellIndex(2, 2, COLS), targets)).isSameAs(first);
+        service.setBlocked(cellIndex(12, 12, COLS), true);
+        assertThat(service.visibleFrom(1, cellIndex(2, 2, COLS), targets)).isSameAs(first);
+        assertThat(service.raysCast()).isEqualTo(rays);
+
+        GridUtilities.mapActorId(new GridActorMap(Map.of()), new GridCoordinate(cellIndex(2, 5, COLS), 2, 5), 9,
+                                 service);
+
+        assertThat(service.invalidations()).isEqualTo(1);
+        BitSet second = service.visibleFrom(1, cellIndex(2, 2, COLS), targets);
+        assertThat(second.get(0)).isFalse();
+        assertThat(first.get(0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should match uncached rays through random blocking changes")
+    void shouldMatchUncachedResults() {
+        var random = new Random(5);
+        var service = new LineOfSightService(new OccupancyMask(ROWS, COLS));
+        int[] origins = {cellIndex(0, 0, COLS), cellIndex(8, 10, COLS), cellIndex(15, 19, COLS),
+                         cellIndex(3, 17, COLS)};
+        int[] targets = IntStream.range(0, 60).map(i -> random.nextInt(ROWS * COLS)).toArray();
+
+        for (int step = 0; step < 300; step++) {
+            service.setBlocked(random.nextInt(ROWS * COLS), random.nextInt(100) < 35);
+            for (int tower = 0; tower < origins.length; tower++) {
+                assertThat(service.visibleFrom(tower, origins[tower], targets))
+                    .isEqualTo(service.visibleFrom(origins[tower], targets));
+            }
+        }
+        assertThat(service.invalidations()).isLessThan(300L * origins.length);
+    }
+}
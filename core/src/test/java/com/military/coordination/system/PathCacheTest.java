@@ -0,0 +1,155 @@
+package com.military.coordination.system;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.military.coordination.util.TestGridUtils.cellAt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.component.Connectivity;
+import com.military.coordination.component.GridActorMap;
+import com.military.coordination.component.GridActorMapListener;
+import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.component.OccupancyMask;
+import com.military.coordination.model.TacticalGrid;
+import com.military.coordination.utils.GridUtilities;
+
+@DisplayName("PathCache - LRU Path Caching")
+class PathCacheTest {
+
+    private static final int ROWS = 10;
+    private static final int COLS = 12;
+    private static final TacticalGrid GRID = new TacticalGrid(ROWS, COLS, 10);
+    private static final UUID GRID_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should answer repeated lookups from the cache")
+    void shouldCountHitsAndMisses() {
+        var cache = new PathCache(1_000);
+
+        int[] first = cache.findPath(GRID_ID, GRID, null, 0, 11, MovementProfile.ORTHOGONAL);
+        int[] second = cache.findPath(GRID_ID, GRID, null, 0, 11, MovementProfile.ORTHOGONAL);
+        cache.findPath(GRID_ID, GRID, null, 0, 11, MovementProfile.STANDARD);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.stats()).isEqualTo(new PathCache.Stats(1, 2, 0, 0));
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.storedCells()).isEqualTo(24);
+    }
+
+    @Test
+    @DisplayName("Should share entries between profiles built separately over the same terrain")
+    void shouldShareEqualProfiles() {
+        var cache = new PathCache(1_000);
+        int[] costs = new int[ROWS * COLS];
+        Arrays.fill(costs, 2);
+        var first = new MovementProfile(Connectivity.FOUR, TerrainCost.of(costs));
+        var second = new MovementProfile(Connectivity.FOUR, TerrainCost.of(costs));
+
+        int[] path = cache.findPath(GRID_ID, GRID, null, 0, 11, first);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.findPath(GRID_ID, GRID, null, 0, 11, second)).isSameAs(path);
+        assertThat(new MovementProfile(Connectivity.FOUR, TerrainCost.of(costs.clone()))).isNotEqualTo(first);
+        assertThat(cache.stats()).isEqualTo(new PathCache.Stats(1, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should drop only the paths crossing a newly occupied cell")
+    void shouldInvalidateOnlyAffectedPaths() {
+        var cache = new PathCache(1_000);
+        GridActorMapListener listener = cache.listenerFor(GRID_ID);
+        int[] top = cache.findPath(GRID_ID, GRID, null, 0, 11, MovementProfile.ORTHOGONAL);
+        int[] bottom = cache.findPath(GRID_ID, GRID, null, 60, 71, MovementProfile.ORTHOGONAL);
+
+        GridActorMap map = GridUtilities.mapActorId(new GridActorMap(Map.of()), cellAt(5, COLS), 1, listener);
+        map = GridUtilities.moveActor(map, 1, cellAt(5, COLS), cellAt(30, COLS), listener);
+
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+        assertThat(cache.findPath(GRID_ID, GRID, null, 60, 71, MovementProfile.ORTHOGONAL)).isSameAs(bottom);
+        assertThat(cache.findPath(GRID_ID, GRID, null, 0, 11, MovementProfile.ORTHOGONAL)).isNotSameAs(top);
+        assertThat(map.actorIndex().get(1)).isEqualTo(cellAt(30, COLS));
+    }
+
+    @Test
+    @DisplayName("Should recompute a cached path crossing a cell the caller's mask blocks")
+    void shouldCheckHitsAgainstBlockedMask() {
+        var cache = new PathCache(1_000);
+        int[] open = cache.findPath(GRID_ID, GRID, null, 0, 11, MovementProfile.ORTHOGONAL);
+        var blocked = new OccupancyMask(ROWS, COLS);
+        blocked.set(open[open.length / 2]);
+
+        int[] detour = cache.findPath(GRID_ID, GRID, blocked, 0, 11, MovementProfile.ORTHOGONAL);
+
+        assertThat(detour).isNotEmpty().doesNotContain(open[open.length / 2]);
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+        assertThat(cache.findPath(GRID_ID, GRID, blocked, 0, 11, MovementProfile.ORTHOGONAL)).isSameAs(detour);
+        assertThat(cache.findPath(GRID_ID, GRID, null, 0, 11, MovementProfile.ORTHOGONAL)).isSameAs(detour);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used paths to stay within budget")
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new PathCache(30);
+        cache.findPath(GRID_ID, GRID, null, 0, 11, MovementProfile.ORTHOGONAL);
+        int[] middle = cache.findPath(GRID_ID, GRID, null, 36, 47, MovementProfile.ORTHOGONAL);
+        cache.findPath(GRID_ID, GRID, null, 0, 11, MovementProfile.ORTHOGONAL);
+
+        cache.findPath(GRID_ID, GRID, null, 72, 83, MovementProfile.ORTHOGONAL);
+
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.storedCells()).isEqualTo(24);
+        assertThat(cache.findPath(GRID_ID, GRID, null, 36, 47, MovementProfile.ORTHOGONAL)).isNotSameAs(middle);
+        assertThatThrownBy(() -> new PathCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should only ever return paths that are valid for the current occupancy")
+    void shouldStayValidThroughRandomMoves() {
+        var random = new Random(11);
+        Map<Integer, GridCoordinate> positions = new HashMap<>();
+        Map<GridCoordinate, Set<Integer>> initial = new HashMap<>();
+        for (int actorId = 1; actorId <= 25; actorId++) {
+            GridCoordinate start = cellAt(random.nextInt(ROWS * COLS), COLS);
+            positions.put(actorId, start);
+            initial.computeIfAbsent(start, key -> new HashSet<>()).add(actorId);
+        }
+        GridActorMap map = new GridActorMap(initial);
+        OccupancyMask blocked = OccupancyMask.of(map, ROWS, COLS);
+        var cache = new PathCache(400, PathAlgorithm.JUMP_POINT_SEARCH);
+        GridActorMapListener listener = GridActorMapListener.of(blocked, cache.listenerFor(GRID_ID));
+        int[][] queries = {{0, 119}, {11, 108}, {5, 114}, {60, 71}, {13, 106}};
+
+        for (int step = 0; step < 400; step++) {
+            int actorId = 1 + random.nextInt(25);
+            GridCoordinate to = cellAt(random.nextInt(ROWS * COLS), COLS);
+            map = GridUtilities.moveActor(map, actorId, positions.get(actorId), to, listener);
+            positions.put(actorId, to);
+
+            for (int[] query : queries) {
+                int[] path = cache.findPath(GRID_ID, GRID, blocked, query[0], query[1], MovementProfile.STANDARD);
+                for (int i = 1; i < path.length; i++) {
+                    int previousRow = path[i - 1] / COLS;
+                    int row = path[i] / COLS;
+                    if (i < path.length - 1) {
+                        assertThat(blocked.get(path[i])).isFalse();
+                    }
+                    if (previousRow != row && path[i - 1] % COLS != path[i] % COLS) {
+                        assertThat(blocked.get(previousRow * COLS + path[i] % COLS)).isFalse();
+                        assertThat(blocked.get(row * COLS + path[i - 1] % COLS)).isFalse();
+                    }
+                }
+            }
+        }
+        assertThat(cache.stats().hits()).isPositive();
+        assertThat(cache.stats().invalidations()).isPositive();
+    }
+}
@@ -0,0 +1,154 @@
+package com.military.coordination.system;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.military.coordination.util.TestGridUtils.cellIndex;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.component.Connectivity;
+import com.military.coordination.component.OccupancyMask;
+import com.military.coordination.model.TacticalGrid;
+
+@DisplayName("PathfindingSystem - A* and Jump Point Search")
+class PathfindingSystemTest {
+
+    private static final int ROWS = 12;
+    private static final int COLS = 16;
+    private static final TacticalGrid GRID = new TacticalGrid(ROWS, COLS, 10);
+
+    private static void assertValidPath(final int[] path, final OccupancyMask blocked, final int start,
+                                        final int goal) {
+        assertThat(path[0]).isEqualTo(start);
+        assertThat(path[path.length - 1]).isEqualTo(goal);
+        for (int i = 1; i < path.length; i++) {
+            int dr = Math.abs(path[i] / COLS - path[i - 1] / COLS);
+            int dc = Math.abs(path[i] % COLS - path[i - 1] % COLS);
+            assertThat(Math.max(dr, dc)).isEqualTo(1);
+            if (path[i] != goal) {
+                assertThat(blocked.get(path[i])).isFalse();
+            }
+            if (dr == 1 && dc == 1) {
+                int cornerA = (path[i - 1] / COLS) * COLS + path[i] % COLS;
+                int cornerB = (path[i] / COLS) * COLS + path[i - 1] % COLS;
+                assertThat(blocked.get(cornerA) || blocked.get(cornerB)).isFalse();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("A*")
+    class AStar {
+
+        @Test
+        @DisplayName("Should route around a wall")
+        void shouldRouteAroundWall() {
+            var blocked = new OccupancyMask(ROWS, COLS);
+            for (int row = 0; row < ROWS - 1; row++) {
+                blocked.set(cellIndex(row, 8, COLS));
+            }
+
+            int[] path = PathfindingSystem.findPath(GRID, blocked, cellIndex(0, 0, COLS), cellIndex(0, 15, COLS));
+
+            assertValidPath(path, blocked, cellIndex(0, 0, COLS), cellIndex(0, 15, COLS));
+            assertThat(path).contains(cellIndex(ROWS - 1, 8, COLS));
+        }
+
+        @Test
+        @DisplayName("Should return an empty path when the goal is sealed off")
+        void shouldReturnEmptyWhenUnreachable() {
+            var blocked = new OccupancyMask(ROWS, COLS);
+            blocked.set(cellIndex(4, 5, COLS));
+            blocked.set(cellIndex(6, 5, COLS));
+            blocked.set(cellIndex(5, 4, COLS));
+            blocked.set(cellIndex(5, 6, COLS));
+
+            assertThat(PathfindingSystem.findPath(GRID, blocked, cellIndex(0, 0, COLS), cellIndex(5, 5, COLS)))
+                .isEmpty();
+            assertThat(PathfindingSystem.findPath(GRID, blocked, cellIndex(5, 5, COLS), cellIndex(5, 5, COLS)))
+                .containsExactly(cellIndex(5, 5, COLS));
+        }
+
+        @Test
+        @DisplayName("Should allow an occupied goal cell")
+        void shouldAllowOccupiedGoal() {
+            var blocked = new OccupancyMask(ROWS, COLS);
+            blocked.set(cellIndex(3, 3, COLS));
+
+            assertThat(PathfindingSystem.findPath(GRID, blocked, cellIndex(3, 0, COLS), cellIndex(3, 3, COLS)))
+                .containsExactly(cellIndex(3, 0, COLS), cellIndex(3, 1, COLS), cellIndex(3, 2, COLS),
+                                 cellIndex(3, 3, COLS));
+        }
+
+        @Test
+        @DisplayName("Should prefer cheap terrain over the shortest route")
+        void shouldHonourTerrainCost() {
+            int[] costs = new int[ROWS * COLS];
+            Arrays.fill(costs, 1);
+            for (int row = 0; row < ROWS - 2; row++) {
+                costs[cellIndex(row, 5, COLS)] = 50;
+            }
+            var profile = new MovementProfile(Connectivity.FOUR, TerrainCost.of(costs));
+
+            int[] path = PathfindingSystem.findPath(GRID, null, cellIndex(0, 0, COLS), cellIndex(0, 10, COLS), profile,
+                                                    PathAlgorithm.A_STAR);
+
+            assertThat(path).contains(cellIndex(ROWS - 2, 5, COLS)).doesNotContain(cellIndex(0, 5, COLS));
+            assertThat(PathfindingSystem.pathCost(GRID, path, profile)).isEqualTo(10 * (path.length - 1));
+        }
+
+        @Test
+        @DisplayName("Should reject cells outside the grid")
+        void shouldRejectOutOfBounds() {
+            assertThatThrownBy(() -> PathfindingSystem.findPath(GRID, null, -1, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Jump Point Search")
+    class JumpPointSearch {
+
+        @Test
+        @DisplayName("Should find paths as short as A* on random obstacle maps")
+        void shouldMatchAStarCost() {
+            var random = new Random(7);
+            for (int trial = 0; trial < 200; trial++) {
+                var blocked = new OccupancyMask(ROWS, COLS);
+                for (int i = 0; i < ROWS * COLS; i++) {
+                    if (random.nextInt(100) < 30) {
+                        blocked.set(i);
+                    }
+                }
+                int start = random.nextInt(ROWS * COLS);
+                int goal = random.nextInt(ROWS * COLS);
+
+                int[] aStar = PathfindingSystem.findPath(GRID, blocked, start, goal, MovementProfile.STANDARD,
+                                                         PathAlgorithm.A_STAR);
+                int[] jps = PathfindingSystem.findPath(GRID, blocked, start, goal, MovementProfile.STANDARD,
+                                                       PathAlgorithm.JUMP_POINT_SEARCH);
+
+                assertThat(jps.length == 0).isEqualTo(aStar.length == 0);
+                if (jps.length > 0) {
+                    assertValidPath(jps, blocked, start, goal);
+                    assertThat(PathfindingSystem.pathCost(GRID, jps, MovementProfile.STANDARD))
+                        .isEqualTo(PathfindingSystem.pathCost(GRID, aStar, MovementProfile.STANDARD));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should take the diagonal across open ground")
+        void shouldCrossOpenGroundDiagonally() {
+            int[] path = PathfindingSystem.findPath(GRID, null, cellIndex(0, 0, COLS), cellIndex(5, 5, COLS),
+                                                    MovementProfile.STANDARD, PathAlgorithm.JUMP_POINT_SEARCH);
+
+            assertThat(path).containsExactly(cellIndex(0, 0, COLS), cellIndex(1, 1, COLS), cellIndex(2, 2, COLS),
+                                             cellIndex(3, 3, COLS), cellIndex(4, 4, COLS), cellIndex(5, 5, COLS));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.military.coordination.system;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static com.military.coordination.util.TestGridUtils.cellAt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.military.coordination.component.GlobalsComponent;
+import com.military.coordination.component.GridActorMap;
+import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.model.SignalStatus;
+import com.military.coordination.model.TowerType;
+import com.military.coordination.utils.GridUtilities;
+
+@DisplayName("SignalCoverage - Signal Strength Raster")
+class SignalCoverageTest {
+
+    private static final int ROWS = 20;
+    private static final int COLS = 24;
+
+    @Test
+    @DisplayName("Should peak at the tower and fade to RED beyond its range")
+    void shouldFadeWithDistance() {
+        var coverage = new SignalCoverage(ROWS, COLS);
+        coverage.addTower(1, TowerType.STATIC, 10 * COLS + 10);
+
+        assertThat(coverage.signalAt(10 * COLS + 10)).isEqualTo(TowerType.STATIC.peakSignal());
+        assertThat(coverage.zoneAt(10 * COLS + 10)).isEqualTo(SignalStatus.GREEN);
+        assertThat(coverage.signalAt(10 * COLS + 13)).isLessThan(coverage.signalAt(10 * COLS + 12));
+        assertThat(coverage.zoneAt(10 * COLS + 14)).isEqualTo(SignalStatus.YELLOW);
+        assertThat(coverage.signalAt(10 * COLS + 17)).isZero();
+        assertThat(coverage.zoneAt(0)).isEqualTo(SignalStatus.RED);
+        assertThatThrownBy(() -> coverage.addTower(1, TowerType.DRONE, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should match a full recomputation after random tower moves")
+    void shouldMatchFullRecomputation() {
+        var random = new Random(21);
+        TowerType[] types = TowerType.values();
+        var coverage = new SignalCoverage(ROWS, COLS);
+        Map<Integer, Integer> placed = new HashMap<>();
+        for (int towerId = 0; towerId < 12; towerId++) {
+            int position = random.nextInt(ROWS * COLS);
+            coverage.addTower(towerId, types[towerId % types.length], position);
+            placed.put(towerId, position);
+        }
+
+        for (int step = 0; step < 200; step++) {
+            int towerId = random.nextInt(12);
+            int position = random.nextInt(10) == 0 ? -1 : random.nextInt(ROWS * COLS);
+            coverage.moveTower(towerId, position);
+            placed.put(towerId, position);
+
+            var fresh = new SignalCoverage(ROWS, COLS);
+            placed.forEach((id, cellIndex) -> fresh.addTower(id, types[id % types.length], cellIndex));
+            for (int i = 0; i < ROWS * COLS; i++) {
+                assertThat(coverage.signalAt(i)).isEqualTo(fresh.signalAt(i));
+            }
+        }
+        int largestFootprint = (2 * TowerType.STATIC.range() + 1) * (2 * TowerType.STATIC.range() + 1);
+        assertThat(coverage.cellsRecomputed()).isLessThanOrEqualTo(200L * largestFootprint);
+    }
+
+    @Test
+    @DisplayName("Should compose identical rasters serially, in parallel and incrementally")
+    void shouldComposeDeterministically() {
+        int rows = 150;
+        int cols = 210;
+        var random = new Random(8);
+        TowerType[] types = TowerType.values();
+        Map<GridCoordinate, Set<Integer>> positions = new HashMap<>();
+        Map<Integer, TowerType> towers = new HashMap<>();
+        var incremental = new SignalCoverage(rows, cols);
+        for (int towerId = 0; towerId < 250; towerId++) {
+            int index = random.nextInt(rows * cols);
+            TowerType type = types[random.nextInt(types.length)];
+            positions.computeIfAbsent(new GridCoordinate(index, index / cols, index % cols), key -> new HashSet<>())
+                .add(towerId);
+            towers.put(towerId, type);
+            incremental.addTower(towerId, type, index);
+        }
+        var map = new GridActorMap(positions);
+
+        var serial = SignalCoverage.of(map, rows, cols, towers, CompositionMode.SERIAL);
+        var parallel = SignalCoverage.of(map, rows, cols, towers, CompositionMode.PARALLEL);
+        parallel.rebuild();
+
+        for (int i = 0; i < rows * cols; i++) {
+            assertThat(parallel.signalAt(i)).isEqualTo(serial.signalAt(i));
+            assertThat(incremental.signalAt(i)).isEqualTo(serial.signalAt(i));
+        }
+        assertThat(parallel.compositionMode()).isEqualTo(CompositionMode.PARALLEL);
+    }
+
+    @Test
+    @DisplayName("Should boost the aimed sector and weaken the rest")
+    void shouldShapeCoverageWithBeam() {
+        var coverage = new SignalCoverage(ROWS, COLS);
+        int centre = 10 * COLS + 10;
+        coverage.addTower(1, TowerType.CIVILIAN, centre);
+        int ahead = coverage.signalAt(centre + 3);
+        int behind = coverage.signalAt(centre - 3);
+
+        coverage.aimBeam(1, new Beam(0, 60, 150, 50));
+
+        assertThat(coverage.signalAt(centre + 3)).isGreaterThan(ahead);
+        assertThat(coverage.signalAt(centre - 3)).isLessThan(behind);
+        assertThat(coverage.signalAt(centre + 3 * COLS)).isLessThan(coverage.signalAt(centre + 3));
+
+        long visited = coverage.cellsRecomputed();
+        coverage.aimBeam(1, new Beam(10, 60, 150, 50));
+        int side = 2 * TowerType.CIVILIAN.range() + 1;
+        assertThat(coverage.cellsRecomputed() - visited).isPositive().isLessThan(side * side / 4);
+        assertThatThrownBy(() -> new Beam(360, 60, 150, 50)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Beam(0, 60, Beam.MAX_BOOST_PERCENT + 1, 50))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        coverage.aimBeam(1, new Beam(0, 90, Beam.MAX_BOOST_PERCENT, 50));
+        assertThat(coverage.signalAt(centre)).isEqualTo(GlobalsComponent.MAX_SIGNAL_STRENGTH);
+    }
+
+    @Test
+    @DisplayName("Should re-aim beams incrementally to the same raster as a fresh build")
+    void shouldReaimIncrementally() {
+        var random = new Random(17);
+        TowerType[] types = TowerType.values();
+        var coverage = new SignalCoverage(ROWS, COLS);
+        Map<Integer, Integer> placed = new HashMap<>();
+        for (int towerId = 0; towerId < 8; towerId++) {
+            int position = random.nextInt(ROWS * COLS);
+            coverage.addTower(towerId, types[towerId % types.length], position);
+            coverage.aimBeam(towerId, new Beam(random.nextInt(360), 90, 140, 40));
+            placed.put(towerId, position);
+        }
+
+        for (int step = 0; step < 300; step++) {
+            int towerId = random.nextInt(8);
+            Beam beam = coverage.beamOf(towerId);
+            switch (random.nextInt(4)) {
+                case 0 -> coverage.aimBeam(towerId, new Beam(random.nextInt(360), 1 + random.nextInt(360), 100
+                                                             + random.nextInt(80), random.nextInt(101)));
+                case 1 -> coverage.aimBeam(towerId, null);
+                default -> coverage.aimBeam(towerId, beam == null ? new Beam(0, 45, 130, 60)
+                                                                  : beam.withHeading(random.nextInt(360)));
+            }
+
+            var fresh = new SignalCoverage(ROWS, COLS);
+            placed.forEach((id, cellIndex) -> {
+                fresh.addTower(id, types[id % types.length], -1);
+                fresh.aimBeam(id, coverage.beamOf(id));
+                fresh.moveTower(id, cellIndex);
+            });
+            for (int i = 0; i < ROWS * COLS; i++) {
+                assertThat(coverage.signalAt(i)).isEqualTo(fresh.signalAt(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should follow tower actors moved through GridUtilities")
+    void shouldFollowTowerActors() {
+        GridActorMap map = new GridActorMap(Map.of(cellAt(0, COLS), Set.of(1), cellAt(5, COLS), Set.of(2)));
+        var coverage = SignalCoverage.of(map, ROWS, COLS, Map.of(1, TowerType.DRONE, 3, TowerType.FIELD));
+
+        map = GridUtilities.moveActor(map, 1, cellAt(0, COLS), cellAt(15 * COLS + 15, COLS), coverage);
+        GridUtilities.moveActor(map, 2, cellAt(5, COLS), cellAt(1, COLS), coverage);
+
+        assertThat(coverage.signalAt(0)).isZero();
+        assertThat(coverage.signalAt(1)).isZero();
+        assertThat(coverage.signalAt(15 * COLS + 15)).isEqualTo(TowerType.DRONE.peakSignal());
+    }
+}
@@ -0,0 +1,48 @@
+package com.military.coordination.util;
+
+import com.military.coordination.component.GridCoordinate;
+
+/**
+ * Fixture factories for row-major grid cells, shared by grid, pathfinding and coverage tests.
+ */
+public final class TestGridUtils {
+
+    private TestGridUtils() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Creates the coordinate of a cell, with its row-major id.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param cols the number of columns in the grid
+     * @return the coordinate
+     */
+    public static GridCoordinate cell(int row, int col, int cols) {
+        return new GridCoordinate(cellIndex(row, col, cols), row, col);
+    }
+
+    /**
+     * Creates the coordinate of a cell from its row-major index.
+     *
+     * @param index the row-major index of the cell
+     * @param cols the number of columns in the grid
+     * @return the coordinate
+     */
+    public static GridCoordinate cellAt(int index, int cols) {
+        return new GridCoordinate(index, index / cols, index % cols);
+    }
+
+    /**
+     * Computes the row-major index of a cell.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param cols the number of columns in the grid
+     * @return the cell index
+     */
+    public static int cellIndex(int row, int col, int cols) {
+        return row * cols + col;
+    }
+}
@@ -0,0 +1,395 @@
+package com.military.coordination.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.military.coordination.util.TestGridUtils.cell;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.military.coordination.actor.GridActor;
+import com.military.coordination.component.CellHandle;
+import com.military.coordination.component.Connectivity;
+import com.military.coordination.component.GridActorMap;
+import com.military.coordination.component.GridCoordinate;
+import com.military.coordination.component.GridOccupancyStore;
+import com.military.coordination.component.OccupancyMask;
+import com.military.coordination.manager.CoordinateManager;
+import com.military.coordination.manager.GridManager;
+import com.military.coordination.model.TacticalGrid;
+
+@DisplayName("GridUtilities - Functional Grid Operations")
+class GridUtilitiesTest {
+
+    private static final int COLS = 7;
+
+    @Nested
+    @DisplayName("Actor Movement")
+    class ActorMovement {
+
+        @Test
+        @DisplayName("Should move an actor without mutating the original map")
+        void shouldMoveActorWithoutMutatingOriginal() {
+            GridActorMap original = GridUtilities.mapActorId(new GridActorMap(Map.of()), cell(1, 1, COLS), 0);
+
+            GridActorMap moved = GridUtilities.moveActor(original, 0, cell(1, 1, COLS), cell(2, 4, COLS));
+
+            assertThat(original.actorMap()).isEqualTo(Map.of(cell(1, 1, COLS), Set.of(0)));
+            assertThat(moved.actorMap()).isEqualTo(Map.of(cell(2, 4, COLS), Set.of(0)));
+        }
+
+        @Test
+        @DisplayName("Should stack actors that move into an occupied cell")
+        void shouldStackActorsInOccupiedCell() {
+            GridActorMap map = GridUtilities.mapActorId(new GridActorMap(Map.of()), cell(0, 0, COLS), 1);
+            map = GridUtilities.mapActorId(map, cell(0, 1, COLS), 2);
+
+            GridActorMap moved = GridUtilities.moveActor(map, 2, cell(0, 1, COLS), cell(0, 0, COLS));
+
+            assertThat(moved.actorMap()).isEqualTo(Map.of(cell(0, 0, COLS), Set.of(1, 2)));
+            assertThat(GridUtilities.isOccupied(moved, cell(0, 1, COLS))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject moving an actor from the wrong cell")
+        void shouldRejectMoveFromWrongCell() {
+            GridActorMap map = GridUtilities.mapActorId(new GridActorMap(Map.of()), cell(0, 0, COLS), 1);
+
+            assertThatThrownBy(() -> GridUtilities.moveActor(map, 1, cell(3, 3, COLS), cell(0, 1, COLS)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No actor at position");
+        }
+    }
+
+    @Nested
+    @DisplayName("Actor Index")
+    class ActorIndex {
+
+        @Test
+        @DisplayName("Should track actor positions through every functional update")
+        void shouldTrackActorPositions() {
+            GridActorMap map = GridUtilities.mapActorId(new GridActorMap(Map.of()), cell(1, 1, COLS), 0);
+            map = GridUtilities.mapActorId(map, cell(2, 5, COLS), 1);
+            map = GridUtilities.moveActor(map, 0, cell(1, 1, COLS), cell(2, 5, COLS));
+
+            assertThat(GridUtilities.findActorPosition(map, 0)).contains(cell(2, 5, COLS));
+            assertThat(GridUtilities.findActorPosition(map, 1)).contains(cell(2, 5, COLS));
+            assertThat(GridUtilities.getAllActorIds(map)).containsExactlyInAnyOrder(0, 1);
+
+            map = GridUtilities.removeActor(map, cell(2, 5, COLS), 0);
+            assertThat(GridUtilities.findActorPosition(map, 0)).isEmpty();
+            assertThat(GridUtilities.getAllActorIds(map)).containsExactlyInAnyOrder(1);
+
+            map = GridUtilities.removeActors(map, cell(2, 5, COLS));
+            assertThat(GridUtilities.getAllActorIds(map)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should drop actors displaced by mapping a new actor onto their cell")
+        void shouldDropDisplacedActors() {
+            GridActorMap map = GridUtilities.mapActorId(new GridActorMap(Map.of()), cell(0, 3, COLS), 4);
+
+            map = GridUtilities.mapActorId(map, cell(0, 3, COLS), 5);
+
+            assertThat(GridUtilities.findActorPosition(map, 4)).isEmpty();
+            assertThat(GridUtilities.findActorPosition(map, 5)).contains(cell(0, 3, COLS));
+        }
+
+        @Test
+        @DisplayName("Should index maps supplied from outside")
+        void shouldIndexExternalMaps() {
+            GridActorMap map = new GridActorMap(Map.of(cell(4, 6, COLS), Set.of(7, 8)));
+
+            assertThat(map.actorIndex()).isEqualTo(Map.of(7, cell(4, 6, COLS), 8, cell(4, 6, COLS)));
+        }
+
+        @Test
+        @DisplayName("Should keep an actor on a single cell through map and remove")
+        void shouldKeepActorOnSingleCell() {
+            GridActorMap map = GridUtilities.mapActorId(new GridActorMap(Map.of()), cell(0, 0, COLS), 7);
+
+            assertThatThrownBy(() -> GridUtilities.mapActorId(map, cell(0, 1, COLS), 7))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("already placed");
+            assertThatThrownBy(() -> map.withChanges(Map.of(cell(0, 1, COLS), Set.of(7))))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new GridActorMap(Map.of(cell(0, 0, COLS), Set.of(7), cell(0, 1, COLS), Set.of(7))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+            GridActorMap moved = map.withChanges(Map.of(cell(0, 1, COLS), Set.of(7), cell(0, 0, COLS), Set.of()));
+            assertThat(GridUtilities.findActorPosition(moved, 7)).contains(cell(0, 1, COLS));
+            assertThat(moved.actorIndex()).isEqualTo(new GridActorMap(moved.actorMap()).actorIndex());
+
+            GridActorMap removed = GridUtilities.removeActor(moved, cell(0, 1, COLS), 7);
+            assertThat(GridUtilities.findActorPosition(removed, 7)).isEmpty();
+            assertThat(GridUtilities.getAllActorIds(removed)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Transactions")
+    class BatchTransactions {
+
+        @Test
+        @DisplayName("Should apply many operations into a single map and report changed cells")
+        void shouldApplyOperationsIntoSingleMap() {
+            GridActorMap map = new GridActorMap(Map.of(cell(0, 0, COLS), Set.of(1), cell(0, 1, COLS), Set.of(2)));
+
+            var result = GridUtilities.beginTransaction(map)
+                .moveActor(1, cell(0, 0, COLS), cell(1, 0, COLS))
+                .moveActor(2, cell(0, 1, COLS), cell(1, 0, COLS))
+                .mapActorId(cell(3, 3, COLS), 9)
+                .moveActor(9, cell(3, 3, COLS), cell(3, 4, COLS))
+                .moveActor(9, cell(3, 4, COLS), cell(3, 3, COLS))
+                .commit();
+
+            assertThat(result.actorMap().actorMap())
+                .isEqualTo(Map.of(cell(1, 0, COLS), Set.of(1, 2), cell(3, 3, COLS), Set.of(9)));
+            assertThat(result.changedCells())
+                .containsExactlyInAnyOrder(cell(0, 0, COLS), cell(0, 1, COLS), cell(1, 0, COLS), cell(3, 3, COLS));
+            assertThat(GridUtilities.findActorPosition(result.actorMap(), 2)).contains(cell(1, 0, COLS));
+            assertThat(map.actorMap()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Should report every conflicting operation together")
+        void shouldReportAllConflicts() {
+            GridActorMap map = new GridActorMap(Map.of(cell(0, 0, COLS), Set.of(1)));
+            var transaction = GridUtilities.beginTransaction(map)
+                .moveActor(1, cell(0, 0, COLS), cell(0, 1, COLS))
+                .moveActor(1, cell(0, 0, COLS), cell(0, 2, COLS))
+                .removeActors(cell(4, 4, COLS));
+
+            assertThatThrownBy(transaction::commit)
+                .isInstanceOf(GridActorMapTransaction.ConflictException.class)
+                .hasMessageContaining("2 conflicting")
+                .hasMessageContaining("#1 Actor ID 1 not found")
+                .hasMessageContaining("#2 No actors at position");
+        }
+
+        @Test
+        @DisplayName("Should report mapping an actor that stands on another cell as a conflict")
+        void shouldReportMisplacedMappings() {
+            GridActorMap map = new GridActorMap(Map.of(cell(0, 0, COLS), Set.of(1), cell(1, 1, COLS), Set.of(2)));
+            var transaction = GridUtilities.beginTransaction(map)
+                .mapActorId(cell(0, 1, COLS), 1)
+                .mapActorId(cell(2, 2, COLS), 5)
+                .mapActorId(cell(2, 3, COLS), 5)
+                .mapActorId(cell(3, 3, COLS), -2);
+
+            assertThatThrownBy(transaction::commit)
+                .isInstanceOf(GridActorMapTransaction.ConflictException.class)
+                .hasMessageContaining("3 conflicting")
+                .hasMessageContaining("#0 Actor ID 1 is already placed")
+                .hasMessageContaining("#2 Actor ID 5 is already placed")
+                .hasMessageContaining("#3 Actor ID must be positive");
+
+            var result = GridUtilities.beginTransaction(map)
+                .removeActor(cell(0, 0, COLS), 1)
+                .mapActorId(cell(0, 1, COLS), 1)
+                .mapActorId(cell(1, 1, COLS), 3)
+                .mapActorId(cell(2, 2, COLS), 2)
+                .commit();
+
+            assertThat(result.actorMap().actorMap())
+                .isEqualTo(Map.of(cell(0, 1, COLS), Set.of(1), cell(1, 1, COLS), Set.of(3),
+                                  cell(2, 2, COLS), Set.of(2)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive Handles")
+    class PrimitiveHandles {
+
+        @Test
+        @DisplayName("Should pack and unpack grid handle, row and column")
+        void shouldRoundTripCellHandles() {
+            long handle = CellHandle.pack(3, 4000, 65_535);
+
+            assertThat(CellHandle.gridHandle(handle)).isEqualTo(3);
+            assertThat(CellHandle.row(handle)).isEqualTo(4000);
+            assertThat(CellHandle.col(handle)).isEqualTo(65_535);
+            assertThat(CellHandle.cellIndex(CellHandle.ofCell(0, 30, COLS), COLS)).isEqualTo(30);
+            assertThatThrownBy(() -> CellHandle.pack(0, 65_536, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should move and query actors by cell index")
+        void shouldMoveByCellIndex() {
+            var store = new GridOccupancyStore(5, COLS);
+            store.place(1, 0);
+
+            GridUtilities.moveActor(store, 1, 0, 9);
+
+            assertThat(GridUtilities.isOccupied(store, 9)).isTrue();
+            assertThat(GridUtilities.isOccupied(store, 0)).isFalse();
+            assertThatThrownBy(() -> GridUtilities.moveActor(store, 1, 0, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found at cell 0");
+        }
+
+        @Test
+        @DisplayName("Should fill adjacent cells without crossing grid edges")
+        void shouldFillAdjacentCells() {
+            var grid = new TacticalGrid(5, COLS, 10);
+            int[] adjacent = new int[4];
+
+            assertThat(GridUtilities.getAdjacentCells(grid, 0, adjacent)).isEqualTo(2);
+            assertThat(adjacent[0]).isEqualTo(COLS);
+            assertThat(adjacent[1]).isEqualTo(1);
+            assertThat(GridUtilities.getAdjacentCells(grid, cell(2, 3, COLS).id(), adjacent)).isEqualTo(4);
+            assertThat(GridUtilities.getAdjacentCells(grid, cell(4, 6, COLS).id(), adjacent)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should convert between world positions and cell handles")
+        void shouldConvertWorldPositions() {
+            var gridManager = new GridManager(new HashMap<>());
+            UUID gridId = GridUtilities.createGrid(gridManager, 5, COLS, 10);
+            int gridHandle = gridManager.handleOf(gridId);
+
+            long handle = GridUtilities.toCellHandle(gridManager, gridHandle, 35f, 21f);
+            Vector2 world = GridUtilities.gridToWorld(gridManager, handle, new Vector2());
+
+            assertThat(CellHandle.cellIndex(handle, COLS)).isEqualTo(cell(2, 3, COLS).id());
+            assertThat(world.x).isEqualTo(35f);
+            assertThat(world.y).isEqualTo(25f);
+            assertThat(GridUtilities.toCellHandle(gridManager, gridHandle, 75f, 0f)).isEqualTo(CellHandle.NONE);
+            assertThat(gridManager.handleOf(gridId)).isEqualTo(gridHandle);
+
+            GridActor moved = GridUtilities.getGridById(gridManager, gridId);
+            moved.setX(200f);
+            moved.setY(-40f);
+            long offsetHandle = GridUtilities.toCellHandle(gridManager, gridHandle, 235f, -19f);
+            Vector2 offsetWorld = GridUtilities.gridToWorld(gridManager, offsetHandle, new Vector2());
+
+            assertThat(CellHandle.cellIndex(offsetHandle, COLS)).isEqualTo(cell(2, 3, COLS).id());
+            assertThat(offsetWorld.x).isEqualTo(235f);
+            assertThat(offsetWorld.y).isEqualTo(-15f);
+            assertThat(GridUtilities.toCellHandle(gridManager, gridHandle, offsetWorld.x, offsetWorld.y))
+                .isEqualTo(offsetHandle);
+            assertThat(GridUtilities.toCellHandle(gridManager, gridHandle, 35f, 21f)).isEqualTo(CellHandle.NONE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Neighbour Iteration")
+    class NeighbourIteration {
+
+        @Test
+        @DisplayName("Should list orthogonal then diagonal neighbours with 8-connectivity")
+        void shouldVisitEightNeighbours() {
+            var grid = new TacticalGrid(5, COLS, 10);
+            int[] neighbours = new int[8];
+
+            int count = GridUtilities.getNeighbours(grid, cell(2, 3, COLS).id(), Connectivity.EIGHT, null, neighbours);
+
+            assertThat(count).isEqualTo(8);
+            assertThat(Arrays.copyOf(neighbours, count)).isEqualTo(new int[] {
+                cell(1, 3, COLS).id(), cell(3, 3, COLS).id(), cell(2, 2, COLS).id(), cell(2, 4, COLS).id(),
+                cell(1, 2, COLS).id(), cell(1, 4, COLS).id(), cell(3, 2, COLS).id(), cell(3, 4, COLS).id()});
+            assertThat(GridUtilities.getNeighbours(grid, cell(0, 0, COLS).id(), Connectivity.EIGHT, null, neighbours))
+                .isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should skip neighbours set in the blocking mask")
+        void shouldSkipBlockedNeighbours() {
+            var grid = new TacticalGrid(5, COLS, 10);
+            var blocked = new OccupancyMask(5, COLS);
+            blocked.set(cell(1, 3, COLS).id());
+            blocked.set(cell(3, 4, COLS).id());
+            List<Integer> visited = new ArrayList<>();
+
+            GridUtilities.forEachNeighbour(grid, cell(2, 3, COLS).id(), Connectivity.EIGHT, blocked, visited::add);
+
+            assertThat(visited).hasSize(6).doesNotContain(cell(1, 3, COLS).id(), cell(3, 4, COLS).id());
+        }
+
+        @Test
+        @DisplayName("Should keep getAdjacentCoordinates returning in-bounds coordinates")
+        void shouldKeepAdjacentCoordinates() {
+            var gridManager = new GridManager(new HashMap<>());
+            var coordinateManager = new CoordinateManager(new HashMap<>());
+            UUID gridId = GridUtilities.createGridAndInitializeCoordinates(gridManager, coordinateManager, 5, COLS, 10);
+
+            assertThat(GridUtilities.getAdjacentCoordinates(gridManager, coordinateManager, gridId, cell(0, 6, COLS)))
+                .containsExactlyInAnyOrder(cell(1, 6, COLS), cell(0, 5, COLS));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tactical Map")
+    class TacticalMap {
+
+        @Test
+        @DisplayName("Should keep the existing layout for small grids")
+        void shouldKeepExistingLayout() {
+            var gridManager = new GridManager(new HashMap<>());
+            UUID gridId = GridUtilities.createGrid(gridManager, 2, 3, 10);
+            var occupancy = new OccupancyMask(2, 3);
+            occupancy.set(4);
+
+            assertThat(GridUtilities.generateTacticalMap(gridManager, gridId, occupancy)).isEqualTo(
+                "TACTICAL GRID STATUS:\n"
+                + "    1  2  3 \n"
+                + "A:  .  .  . \n"
+                + "B:  .  X  . \n");
+        }
+
+        @Test
+        @DisplayName("Should stream a window with multi-letter rows and wide columns")
+        void shouldStreamWindow() throws Exception {
+            var occupancy = new OccupancyMask(30, 120);
+            occupancy.set(27 * 120 + 99);
+            var out = new StringBuilder();
+
+            GridUtilities.writeTacticalMap(out, occupancy, 25, 98, 27, 100);
+
+            assertThat(out.toString()).isEqualTo(
+                "TACTICAL GRID STATUS:\n"
+                + "     99 100 101 \n"
+                + " Z:   .   .   . \n"
+                + "AA:   .   .   . \n"
+                + "AB:   .   X   . \n");
+            assertThat(GridCoordinate.rowLabel(701)).isEqualTo("ZZ");
+            assertThat(GridCoordinate.rowLabel(702)).isEqualTo("AAA");
+            assertThat(new GridCoordinate(0, 26, 4).toGridReference()).isEqualTo("AA-5");
+            assertThatThrownBy(() -> GridUtilities.writeTacticalMap(out, occupancy, 0, 0, 30, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should stream only the cells inside a world-space view")
+        void shouldStreamVisibleWindow() throws Exception {
+            var gridManager = new GridManager(new HashMap<>());
+            UUID gridId = GridUtilities.createGrid(gridManager, 5, COLS, 10);
+            GridActor grid = GridUtilities.getGridById(gridManager, gridId);
+            grid.setX(100f);
+            var occupancy = new OccupancyMask(5, COLS);
+            occupancy.set(cell(1, 2, COLS).id());
+            var out = new StringBuilder();
+
+            assertThat(GridUtilities.writeTacticalMap(out, grid, occupancy, 115f, 5f, 131f, 20f)).isTrue();
+            assertThat(out.toString()).isEqualTo(
+                "TACTICAL GRID STATUS:\n"
+                + "    2  3  4 \n"
+                + "A:  .  .  . \n"
+                + "B:  .  X  . \n");
+
+            out.setLength(0);
+            assertThat(GridUtilities.writeTacticalMap(out, grid, occupancy, 0f, 0f, 100f, 50f)).isFalse();
+            assertThat(out).isEmpty();
+        }
+    }
+}
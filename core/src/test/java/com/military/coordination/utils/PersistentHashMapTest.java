@@ -0,0 +1,104 @@
+package com.military.coordination.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PersistentHashMap - Structurally Shared Map")
+class PersistentHashMapTest {
+
+    /** Key whose hash code is supplied explicitly, to force trie collisions. */
+    private record CollidingKey(String name, int hash) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @Nested
+    @DisplayName("Functional Updates")
+    class FunctionalUpdates {
+
+        @Test
+        @DisplayName("Should leave the original map unchanged after plus and minus")
+        void shouldLeaveOriginalMapUnchanged() {
+            PersistentHashMap<String, Integer> original = PersistentHashMap.<String, Integer>empty().plus("A-1", 1);
+
+            PersistentHashMap<String, Integer> added = original.plus("B-2", 2);
+            PersistentHashMap<String, Integer> removed = added.minus("A-1");
+
+            assertThat(original).isEqualTo(Map.of("A-1", 1));
+            assertThat(added).isEqualTo(Map.of("A-1", 1, "B-2", 2));
+            assertThat(removed).isEqualTo(Map.of("B-2", 2));
+        }
+
+        @Test
+        @DisplayName("Should return the same instance for no-op updates")
+        void shouldReturnSameInstanceForNoOpUpdates() {
+            Integer value = 7;
+            PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("C-3", value);
+
+            assertThat(map.plus("C-3", value)).isSameAs(map);
+            assertThat(map.minus("missing")).isSameAs(map);
+        }
+
+        @Test
+        @DisplayName("Should reject null keys and values")
+        void shouldRejectNullKeysAndValues() {
+            PersistentHashMap<String, Integer> map = PersistentHashMap.empty();
+
+            assertThatThrownBy(() -> map.plus(null, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> map.plus("A-1", null)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> map.put("A-1", 1)).isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Trie Structure")
+    class TrieStructure {
+
+        @Test
+        @DisplayName("Should match HashMap contents across many inserts and removals")
+        void shouldMatchHashMapContents() {
+            Map<Integer, Integer> expected = new HashMap<>();
+            PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+
+            for (int i = 0; i < 10_000; i++) {
+                expected.put(i, i * 2);
+                map = map.plus(i, i * 2);
+            }
+            for (int i = 0; i < 10_000; i += 3) {
+                expected.remove(i);
+                map = map.minus(i);
+            }
+
+            assertThat(map.size()).isEqualTo(expected.size());
+            assertThat(map).isEqualTo(expected);
+            assertThat(new HashMap<>(map)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should keep colliding keys distinct")
+        void shouldKeepCollidingKeysDistinct() {
+            CollidingKey first = new CollidingKey("first", 42);
+            CollidingKey second = new CollidingKey("second", 42);
+            CollidingKey third = new CollidingKey("third", 42 + 32);
+
+            PersistentHashMap<CollidingKey, String> map = PersistentHashMap.<CollidingKey, String>empty()
+                .plus(first, "1")
+                .plus(second, "2")
+                .plus(third, "3");
+
+            assertThat(map.get(first)).isEqualTo("1");
+            assertThat(map.get(second)).isEqualTo("2");
+            assertThat(map.get(third)).isEqualTo("3");
+            assertThat(map.minus(first)).isEqualTo(Map.of(second, "2", third, "3"));
+            assertThat(map.minus(first).minus(second).minus(third)).isEmpty();
+        }
+    }
+}